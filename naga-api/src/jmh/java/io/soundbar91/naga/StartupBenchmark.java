@@ -0,0 +1,115 @@
+package io.soundbar91.naga;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 기동 시간과 첫 요청 지연 시간.
+ * <p>
+ * 포크마다 새 JVM에서 한 번씩만 재므로 클래스 로딩과 JIT 워밍업 비용이 그대로 결과에 들어간다.
+ * {@code build.gradle}에 의존성을 더하거나 자동 설정이 늘어나 기동이 느려지면 여기서 드러난다.
+ * {@code startup}은 임의 포트로 컨텍스트를 띄우기까지, {@code firstRequest}는 기동 직후 첫 {@code GET /api/users} 응답까지 잰다.
+ * {@code profile}은 기본 모드와 지연 초기화 모드({@code lazy-init})를 비교한다. 지연된 빈의 비용은 해당 기능을 처음 쓸 때 치른다.
+ * <p>
+ * 측정 대상 JVM은 jmh 클래스패스에서 뜨므로 AppCDS, AOT 빌드({@code cdsArchive}, {@code -Paot})의 효과는 포함하지 않는다.
+ * 인증이 아직 없으므로 {@link ThreadingModeLoadBenchmark}와 같이 Spring Security 자동 설정을 제외한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartupBenchmark {
+
+    private static final String SECURITY_AUTO_CONFIGURATIONS = String.join(",",
+        "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration",
+        "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration",
+        "org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration"
+    );
+
+    @Param({"default", "lazy-init"})
+    public String profile;
+
+    private ConfigurableApplicationContext context;
+
+    @Benchmark
+    public ConfigurableApplicationContext startup() {
+        context = start();
+        return context;
+    }
+
+    @Benchmark
+    public int firstRequest(StartedApplication application) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(application.listUri).GET().build();
+        return application.client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(NagaApplication.class)
+            .profiles(profile)
+            .properties(
+                "server.port=0",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN",
+                "spring.autoconfigure.exclude=" + SECURITY_AUTO_CONFIGURATIONS,
+                "spring.datasource.url=jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1"
+            )
+            .run();
+    }
+
+    /**
+     * 측정 전에 애플리케이션을 띄워 두어 {@code firstRequest}가 첫 요청만 재게 한다.
+     */
+    @State(Scope.Benchmark)
+    public static class StartedApplication {
+
+        private ConfigurableApplicationContext context;
+        private HttpClient client;
+        private URI listUri;
+
+        @Setup(Level.Iteration)
+        public void setUp(StartupBenchmark benchmark) {
+            context = benchmark.start();
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            listUri = URI.create("http://localhost:" + port + "/api/users?size=1");
+            client = HttpClient.newHttpClient();
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            client.close();
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.soundbar91.naga;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 플랫폼 스레드와 가상 스레드 모드의 로컬 부하 비교.
+ * <p>
+ * H2를 쓰는 애플리케이션을 임의 포트로 띄우고 64개 클라이언트 스레드가 {@code POST /api/users}를 반복 호출한다.
+ * SampleTime 결과의 p99가 지연 시간, 샘플 수를 측정 시간으로 나눈 값이 처리량이다.
+ * 인증이 아직 없으므로 부하 측정 중에는 Spring Security 자동 설정을 제외한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(64)
+@Fork(1)
+public class ThreadingModeLoadBenchmark {
+
+    private static final String SECURITY_AUTO_CONFIGURATIONS = String.join(",",
+        "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration",
+        "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration",
+        "org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration"
+    );
+
+    @Param({"platform", "virtual"})
+    public String threading;
+
+    private final AtomicLong emailSequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI signupUri;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(NagaApplication.class)
+            .properties(
+                "server.port=0",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN",
+                "spring.autoconfigure.exclude=" + SECURITY_AUTO_CONFIGURATIONS,
+                "spring.datasource.url=jdbc:h2:mem:threading-load-" + threading + ";DB_CLOSE_DELAY=-1",
+                "spring.datasource.hikari.maximum-pool-size=10",
+                "spring.threads.virtual.enabled=" + "virtual".equals(threading),
+                "naga.security.password.strength=4",
+                "naga.security.password.queue-capacity=1024"
+            )
+            .run();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        signupUri = URI.create("http://localhost:" + port + "/api/users");
+        client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int signup() throws IOException, InterruptedException {
+        String body = "{\"email\":\"load" + emailSequence.incrementAndGet() + "@bench.io\",\"password\":\"Password123!\"}";
+        HttpRequest request = HttpRequest.newBuilder(signupUri)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,52 @@
+package io.soundbar91.naga.common.dto;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.user.dto.UserResponse;
+
+/**
+ * 성공/에러 {@link ApiResponse}의 Jackson 직렬화 처리량.
+ * ObjectMapper는 Spring Boot와 같은 기본값을 쓰도록 {@link Jackson2ObjectMapperBuilder}로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final ApiResponse<UserResponse> success = ApiResponse.success(new UserResponse(
+        1L, "contestant@university.ac.kr", LocalDateTime.of(2025, 1, 1, 9, 0), LocalDateTime.of(2025, 1, 1, 9, 0)));
+
+    private final ApiResponse<Void> error = ApiResponse.error(
+        ErrorCode.USER_EMAIL_ALREADY_EXISTS.name(), ErrorCode.USER_EMAIL_ALREADY_EXISTS.getMessage());
+
+    @Benchmark
+    public byte[] success() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(success);
+    }
+
+    @Benchmark
+    public byte[] error() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(error);
+    }
+}
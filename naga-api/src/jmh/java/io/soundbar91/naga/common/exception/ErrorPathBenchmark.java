@@ -0,0 +1,58 @@
+package io.soundbar91.naga.common.exception;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.soundbar91.naga.common.dto.ApiResponse;
+
+/**
+ * 거절된 가입 요청의 에러 경로(예외 생성 + 응답 생성) 처리량.
+ * 할당량은 build.gradle에 설정된 gc 프로파일러의 {@code gc.alloc.rate.norm}으로 확인한다.
+ * 비교를 위해 스택 트레이스를 채우는 예상하지 못한 에러 코드도 함께 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(new SimpleMeterRegistry(), List.of());
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class)).setLevel(Level.WARN);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> duplicateEmail() {
+        return handler.handleBusinessException(new BusinessException(ErrorCode.USER_EMAIL_ALREADY_EXISTS));
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> invalidPasswordWithDetail() {
+        return handler.handleBusinessException(new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "비밀번호는 8~20자여야 합니다"));
+    }
+
+    @Benchmark
+    public BusinessException unexpectedWithStackTrace() {
+        return new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+}
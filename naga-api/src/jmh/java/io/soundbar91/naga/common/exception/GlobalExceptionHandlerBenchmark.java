@@ -0,0 +1,54 @@
+package io.soundbar91.naga.common.exception;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.soundbar91.naga.common.dto.ApiResponse;
+
+/**
+ * {@link GlobalExceptionHandler}가 에러 응답을 만드는 비용.
+ * 콘솔 출력이 측정을 지배하지 않도록 핸들러 로거를 WARN으로 올려 INFO 로그가 꺼진 상태에서 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(new SimpleMeterRegistry(), List.of());
+    private final BusinessException fixedMessage = new BusinessException(ErrorCode.USER_EMAIL_ALREADY_EXISTS);
+    private final BusinessException detailedMessage = new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "비밀번호는 필수입니다");
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class)).setLevel(Level.WARN);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> fixedMessage() {
+        return handler.handleBusinessException(fixedMessage);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> detailedMessage() {
+        return handler.handleBusinessException(detailedMessage);
+    }
+}
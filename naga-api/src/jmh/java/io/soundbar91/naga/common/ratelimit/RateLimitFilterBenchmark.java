@@ -0,0 +1,104 @@
+package io.soundbar91.naga.common.ratelimit;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.soundbar91.naga.config.RateLimitProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * {@link RateLimitFilter}가 요청마다 더하는 시간.
+ * <p>
+ * {@code baseline}은 필터 없이 체인만 호출하고, {@code skipped}는 제한 대상이 아닌 요청, {@code admitted}는 버킷을 거쳐 허용된 요청이다.
+ * 둘의 차이가 필터의 비용이다. 버킷은 거절이 나오지 않도록 충분히 크게 잡는다.
+ * {@code hotKey}와 {@code spreadKeys}는 여러 스레드가 같은 클라이언트 버킷, 서로 다른 버킷에 CAS할 때의 처리량을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitFilterBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> {
+    };
+    private static final int KEYS = 10_000;
+
+    private RateLimitFilter filter;
+    private KeyedRateLimiter limiter;
+    private MockHttpServletRequest signup;
+    private MockHttpServletRequest lookup;
+    private MockHttpServletResponse response;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties(
+            true,
+            Set.of("/api/users", "/api/users/import", "/api/submissions"),
+            new RateLimitProperties.Client(Integer.MAX_VALUE / 2, 1e9, 100_000),
+            new RateLimitProperties.Global(Integer.MAX_VALUE / 2, 1e9),
+            Duration.ofMinutes(1)
+        );
+        filter = new RateLimitFilter(properties, (request, response, handler, ex) -> null, new SimpleMeterRegistry());
+        limiter = new KeyedRateLimiter(Integer.MAX_VALUE / 2, 1e9, 100_000);
+
+        signup = new MockHttpServletRequest("POST", "/api/users");
+        signup.setRemoteAddr("10.0.0.1");
+        lookup = new MockHttpServletRequest("GET", "/api/users/1");
+        response = new MockHttpServletResponse();
+
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public void baseline() throws IOException, ServletException {
+        NOOP_CHAIN.doFilter(signup, response);
+    }
+
+    @Benchmark
+    public void skipped() throws IOException, ServletException {
+        filter.doFilter(lookup, response, NOOP_CHAIN);
+    }
+
+    @Benchmark
+    public void admitted() throws IOException, ServletException {
+        filter.doFilter(signup, response, NOOP_CHAIN);
+        signup.removeAttribute(RateLimitFilter.class.getName() + ".FILTERED");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long hotKey() {
+        return limiter.tryAcquire("10.0.0.1");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long spreadKeys() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+}
@@ -0,0 +1,130 @@
+package io.soundbar91.naga.submission.judge;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 대용량 테스트 케이스의 출력 비교 처리량과 힙 사용량.
+ * <p>
+ * 같은 내용의 정답 파일과 실행 출력(파일 스트림)을 끝까지 비교한다. {@code bytes} 보조 지표가 초당 비교한 바이트 수이고,
+ * {@code gc.alloc.rate.norm}이 비교 한 번의 힙 할당량이다. {@link OutputChecker}는 파일 크기와 관계없이 버퍼 하나만
+ * 할당하고, 기존의 {@code BufferedReader} 줄 비교는 파일 크기의 약 두 배를 문자열로 할당한다.
+ * 힙을 256MB로 묶어 1GB 파일도 힙에 올리지 않고 비교함을 함께 보인다.
+ * <p>
+ * 실행 예: {@code ./gradlew jmh -Pjmh.includes=OutputCheckerBenchmark}
+ * (작은 파일로 빠르게 확인하려면 jar 실행 시 {@code -p sizeBytes=67108864})
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+public class OutputCheckerBenchmark {
+
+    private static final byte[] LINE = "123456789 987654321 -42 3.1415926535\n".getBytes(StandardCharsets.US_ASCII);
+
+    @Param("1073741824")
+    public long sizeBytes;
+
+    @Param({"LINE", "TOKEN"})
+    public CompareMode mode;
+
+    private Path directory;
+    private Path expected;
+    private Path actual;
+    private OutputChecker checker;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+
+        public long bytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("naga-checker-bench");
+        expected = write(directory.resolve("expected.out"));
+        actual = write(directory.resolve("actual.out"));
+        checker = new OutputChecker(mode);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(expected);
+        Files.deleteIfExists(actual);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public CheckResult mappedStreaming(Throughput throughput) throws IOException {
+        try (InputStream stdout = Files.newInputStream(actual)) {
+            CheckResult result = checker.check(expected, stdout);
+            throughput.bytes += sizeBytes;
+            return result;
+        }
+    }
+
+    @Benchmark
+    public boolean bufferedReaderLines(Throughput throughput) throws IOException {
+        try (BufferedReader expectedReader = Files.newBufferedReader(expected, StandardCharsets.UTF_8);
+             BufferedReader actualReader = new BufferedReader(
+                 new InputStreamReader(Files.newInputStream(actual), StandardCharsets.UTF_8))) {
+            while (true) {
+                String expectedLine = expectedReader.readLine();
+                String actualLine = actualReader.readLine();
+                if (expectedLine == null || actualLine == null) {
+                    throughput.bytes += sizeBytes;
+                    return expectedLine == actualLine;
+                }
+                if (!expectedLine.stripTrailing().equals(actualLine.stripTrailing())) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private Path write(Path path) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(LINE.length * 16384);
+        while (chunk.remaining() >= LINE.length) {
+            chunk.put(LINE);
+        }
+        chunk.flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+            long written = 0;
+            while (written < sizeBytes) {
+                ByteBuffer slice = chunk.duplicate();
+                slice.limit((int) Math.min(slice.limit(), sizeBytes - written));
+                written += channel.write(slice);
+            }
+        }
+        return path;
+    }
+}
@@ -0,0 +1,54 @@
+package io.soundbar91.naga.user.dto;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import io.soundbar91.naga.common.entity.BaseEntity;
+import io.soundbar91.naga.user.entity.User;
+
+/**
+ * 영속화된 {@link User}를 {@link UserResponse}로 변환하는 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserResponseBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = User.create("contestant@university.ac.kr", "encoded");
+        LocalDateTime now = LocalDateTime.now();
+        set(user, "id", 1L);
+        set(user, "createdAt", now);
+        set(user, "updatedAt", now);
+    }
+
+    @Benchmark
+    public UserResponse from() {
+        return UserResponse.from(user);
+    }
+
+    private static void set(User user, String name, Object value) {
+        Field field = ReflectionUtils.findField(BaseEntity.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, user, value);
+    }
+}
@@ -0,0 +1,33 @@
+package io.soundbar91.naga.user.entity;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 이메일 검증을 포함한 {@link User#create} 처리량.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserCreateBenchmark {
+
+    private final String email = "contestant.2024@university.ac.kr";
+    private final String encodedPassword = "$2a$10$abcdefghijklmnopqrstuuN9F7d3r8mGfJb1JH3cQH8nZ0yqVZy6";
+
+    @Benchmark
+    public User create() {
+        return User.create(email, encodedPassword);
+    }
+}
@@ -0,0 +1,101 @@
+package io.soundbar91.naga.user.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import io.soundbar91.naga.common.dto.ApiResponse;
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.common.exception.GlobalExceptionHandler;
+import io.soundbar91.naga.user.service.SignupPhaseTimers.Phase;
+
+/**
+ * 회원가입 계측이 더하는 비용. 실제 운영과 같은 Prometheus 레지스트리와 히스토그램 설정으로 측정한다.
+ * <p>
+ * 비교 대상은 모든 미터를 거부하는 레지스트리로 만든 같은 객체로, 기록만 빠지고 호출 경로는 같다.
+ * <p>
+ * 예산: 한 번의 가입은 히스토그램이 있는 타이머 4개를 기록하므로 {@code timedPhases - untimedPhases}가 2µs를 넘지 않아야 한다.
+ * BCrypt 해싱(수십 ms) 대비 0.01% 미만이다. 에러 응답은 {@code countedError - uncountedError}가 50ns를 넘지 않아야 한다.
+ * 예산은 {@code ./gradlew instrumentationBudget}이 {@link SignupInstrumentationBudget}으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignupInstrumentationBenchmark {
+
+    private final BusinessException duplicateEmail = new BusinessException(ErrorCode.USER_EMAIL_ALREADY_EXISTS);
+
+    private SignupPhaseTimers timers;
+    private SignupPhaseTimers untimed;
+    private GlobalExceptionHandler handler;
+    private GlobalExceptionHandler uncounted;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class)).setLevel(Level.WARN);
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        timers = new SignupPhaseTimers(registry);
+        handler = new GlobalExceptionHandler(registry, List.of());
+
+        MeterRegistry denying = new SimpleMeterRegistry();
+        denying.config().meterFilter(MeterFilter.deny());
+        untimed = new SignupPhaseTimers(denying);
+        uncounted = new GlobalExceptionHandler(denying, List.of());
+    }
+
+    @Benchmark
+    public void timedPhases(Blackhole blackhole) {
+        phases(timers, blackhole);
+    }
+
+    @Benchmark
+    public void untimedPhases(Blackhole blackhole) {
+        phases(untimed, blackhole);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> countedError() {
+        return handler.handleBusinessException(duplicateEmail);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> uncountedError() {
+        return uncounted.handleBusinessException(duplicateEmail);
+    }
+
+    private static void phases(SignupPhaseTimers timers, Blackhole blackhole) {
+        timers.run(Phase.VALIDATE, () -> Blackhole.consumeCPU(10));
+        timers.run(Phase.DUPLICATE_CHECK, () -> Blackhole.consumeCPU(10));
+        blackhole.consume(timers.record(Phase.HASH, () -> step()));
+        blackhole.consume(timers.record(Phase.INSERT, () -> step()));
+    }
+
+    private static Object step() {
+        Blackhole.consumeCPU(10);
+        return Boolean.TRUE;
+    }
+}
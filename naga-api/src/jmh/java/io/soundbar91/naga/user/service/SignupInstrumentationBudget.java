@@ -0,0 +1,68 @@
+package io.soundbar91.naga.user.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * {@link SignupInstrumentationBenchmark}를 실행해 계측 비용이 예산 안인지 확인한다. 넘으면 0이 아닌 코드로 끝나
+ * Gradle 작업을 실패시킨다.
+ * <p>
+ * 예산은 계측한 쪽과 계측하지 않은 쪽의 평균 시간 차이에 적용한다.
+ */
+public final class SignupInstrumentationBudget {
+
+    private static final List<Budget> BUDGETS = List.of(
+        new Budget("timedPhases", "untimedPhases", 2_000),
+        new Budget("countedError", "uncountedError", 50)
+    );
+
+    private SignupInstrumentationBudget() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+            .include(SignupInstrumentationBenchmark.class.getName() + "\\.")
+            .build())
+            .run();
+        Map<String, Double> scores = results.stream()
+            .collect(Collectors.toMap(SignupInstrumentationBudget::methodName,
+                result -> result.getPrimaryResult().getScore()));
+
+        List<String> violations = new ArrayList<>();
+        for (Budget budget : BUDGETS) {
+            double overhead = scores.get(budget.measured()) - scores.get(budget.baseline());
+            System.out.printf("%s - %s = %.1fns (예산 %dns)%n",
+                budget.measured(), budget.baseline(), overhead, budget.maxNanos());
+            if (overhead > budget.maxNanos()) {
+                violations.add("%s의 계측 비용 %.1fns가 예산 %dns를 넘었습니다"
+                    .formatted(budget.measured(), overhead, budget.maxNanos()));
+            }
+        }
+        if (!violations.isEmpty()) {
+            violations.forEach(violation -> System.err.println("예산 초과: " + violation));
+            System.exit(1);
+        }
+        System.out.println("계측 비용 예산 안");
+    }
+
+    private static String methodName(RunResult result) {
+        String benchmark = result.getParams().getBenchmark();
+        return benchmark.substring(benchmark.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * @param measured 계측한 벤치마크 메서드
+     * @param baseline 같은 호출 경로에서 기록만 뺀 벤치마크 메서드
+     * @param maxNanos 두 평균 시간 차이의 상한(ns)
+     */
+    private record Budget(String measured, String baseline, long maxNanos) {
+    }
+}
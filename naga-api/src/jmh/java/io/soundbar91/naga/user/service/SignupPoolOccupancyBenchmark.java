@@ -0,0 +1,147 @@
+package io.soundbar91.naga.user.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.soundbar91.naga.NagaApplication;
+
+/**
+ * 동시 회원가입 중 커넥션 풀 점유율과, 같은 풀을 쓰는 다른 엔드포인트의 지연 시간을 실제 HTTP 요청으로 측정한다.
+ * <p>
+ * 애플리케이션을 임의 포트로 띄우고 {@code POST /api/users}와 {@code GET /api/users}를 보낸다. 이메일 필터를 꺼서 모든 가입이
+ * 해싱 전에 중복 조회를 하게 한다. {@code openInView=true}는 요청 단위 EntityManager가 중복 조회에서 얻은 커넥션을
+ * 해싱이 끝날 때까지 잡고 있던 이전 설정이고, {@code false}가 현재 설정이다.
+ * 인증이 아직 없으므로 Spring Security 자동 설정을 빼고, 한 주소에서 부하를 거므로 요청 수 제한도 끈다.
+ * 풀 점유 통계는 trial 종료 시 표준 출력으로 남긴다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class SignupPoolOccupancyBenchmark {
+
+    private static final int POOL_SIZE = 4;
+
+    private static final String SECURITY_AUTO_CONFIGURATIONS = String.join(",",
+        "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration",
+        "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration",
+        "org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration"
+    );
+
+    @Param({"true", "false"})
+    public boolean openInView;
+
+    private final AtomicLong emailSequence = new AtomicLong();
+    private final LongAccumulator peakActive = new LongAccumulator(Math::max, 0);
+    private final LongAdder awaitingTotal = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI signupUri;
+    private URI listUri;
+    private ScheduledExecutorService sampler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(NagaApplication.class)
+            .properties(
+                "server.port=0",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN",
+                "spring.autoconfigure.exclude=" + SECURITY_AUTO_CONFIGURATIONS,
+                "spring.jpa.open-in-view=" + openInView,
+                "spring.datasource.url=jdbc:h2:mem:signup-bench-" + openInView + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "naga.rate-limit.enabled=false",
+                "naga.user.email-filter.enabled=false",
+                "naga.security.password.queue-capacity=1024",
+                "naga.security.password.timeout=60s"
+            )
+            .run();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        signupUri = URI.create("http://localhost:" + port + "/api/users");
+        listUri = URI.create("http://localhost:" + port + "/api/users?size=1");
+        client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+        HikariPoolMXBean pool = DataSourceUnwrapper.unwrap(context.getBean(DataSource.class), HikariDataSource.class)
+            .getHikariPoolMXBean();
+        sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            peakActive.accumulate(pool.getActiveConnections());
+            awaitingTotal.add(pool.getThreadsAwaitingConnection());
+            samples.increment();
+        }, 0, 1, TimeUnit.MILLISECONDS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sampler.shutdownNow();
+        long sampleCount = Math.max(1, samples.sum());
+        System.out.printf("%n[openInView=%s] pool size=%d, peak active=%d, mean threads awaiting connection=%.2f%n",
+            openInView, POOL_SIZE, peakActive.get(), (double) awaitingTotal.sum() / sampleCount);
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    @Group("signupBurst")
+    @GroupThreads(8)
+    public int signup() throws IOException, InterruptedException {
+        String body = "{\"email\":\"user" + emailSequence.incrementAndGet() + "@bench.io\",\"password\":\"Password123!\"}";
+        HttpRequest request = HttpRequest.newBuilder(signupUri)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    @Group("signupBurst")
+    @GroupThreads(1)
+    public int otherEndpoint() throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(listUri).GET().build(), HttpResponse.BodyHandlers.discarding())
+            .statusCode();
+    }
+}
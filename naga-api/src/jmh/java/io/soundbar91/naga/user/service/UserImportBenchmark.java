@@ -0,0 +1,89 @@
+package io.soundbar91.naga.user.service;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.soundbar91.naga.NagaApplication;
+import io.soundbar91.naga.user.dto.UserImportFormat;
+import io.soundbar91.naga.user.dto.UserImportResponse;
+
+/**
+ * NDJSON 10만 건 대량 등록 소요 시간.
+ * BCrypt 비용이 전체 시간을 지배하지 않도록 cost factor를 파라미터로 낮춰서 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class UserImportBenchmark {
+
+    @Param("100000")
+    public int rows;
+
+    @Param("4")
+    public int strength;
+
+    @Param({"100", "500"})
+    public int chunkSize;
+
+    private ConfigurableApplicationContext context;
+    private UserImportService userImportService;
+    private int round;
+    private String body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(NagaApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN",
+                "spring.datasource.url=jdbc:h2:mem:import-bench;DB_CLOSE_DELAY=-1",
+                "naga.security.password.strength=" + strength,
+                "naga.user.import.chunk-size=" + chunkSize
+            )
+            .run();
+        userImportService = context.getBean(UserImportService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareBody() {
+        round++;
+        StringBuilder builder = new StringBuilder(rows * 64);
+        for (int i = 0; i < rows; i++) {
+            builder.append("{\"email\":\"r").append(round).append("-u").append(i)
+                .append("@bench.io\",\"password\":\"Password123!\"}\n");
+        }
+        body = builder.toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserImportResponse importUsers() throws IOException {
+        return userImportService.importUsers(new StringReader(body), UserImportFormat.NDJSON);
+    }
+}
@@ -0,0 +1,71 @@
+package io.soundbar91.naga.user.validation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 이메일/비밀번호 검증 처리량 비교.
+ * 기존 {@code String#matches}, 미리 컴파일한 {@link Pattern}, {@link UserCredentialRules}를 비교한다.
+ * {@code -prof gc}로 실행하면 호출당 할당량도 함께 볼 수 있다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserCredentialRulesBenchmark {
+
+    private static final String EMAIL_REGEX = "^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
+    private static final String PASSWORD_REGEX = "^(?=.*[A-Za-z])(?=.*\\d)(?=.*[@$!%*#?&]).+$";
+    private static final Pattern EMAIL = Pattern.compile(EMAIL_REGEX);
+    private static final Pattern PASSWORD = Pattern.compile(PASSWORD_REGEX);
+
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private String email;
+    private String password;
+
+    @Setup
+    public void setUp() {
+        if ("valid".equals(input)) {
+            email = "contestant.2024@university.ac.kr";
+            password = "Password123!";
+        } else {
+            email = "contestant.2024@university";
+            password = "passwordpassword12";
+        }
+    }
+
+    @Benchmark
+    public void stringMatches(Blackhole blackhole) {
+        blackhole.consume(email.matches(EMAIL_REGEX));
+        blackhole.consume(password.matches(PASSWORD_REGEX));
+    }
+
+    @Benchmark
+    public void precompiledPattern(Blackhole blackhole) {
+        blackhole.consume(EMAIL.matcher(email).matches());
+        blackhole.consume(PASSWORD.matcher(password).matches());
+    }
+
+    @Benchmark
+    public void credentialRules(Blackhole blackhole) {
+        blackhole.consume(UserCredentialRules.isEmailFormat(email));
+        blackhole.consume(UserCredentialRules.isPasswordLength(password) && UserCredentialRules.isPasswordFormat(password));
+    }
+}
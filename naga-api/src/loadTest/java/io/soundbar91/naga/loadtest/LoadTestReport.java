@@ -0,0 +1,119 @@
+package io.soundbar91.naga.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 부하 테스트 결과. JSON으로 쓰고, 기준 결과로 다시 읽어 비교한다.
+ *
+ * @param revision   측정한 커밋
+ * @param workload   걸어 준 부하. 기준과 다르면 지연 시간을 비교하지 않는다
+ * @param throughput 기록 구간에 끝난 요청 수를 보내기 시작한 때부터 마지막 응답까지의 시간으로 나눈 값(초당).
+ *                   기준과 비교하지 않고 걸어 준 도착률과 비교한다
+ * @param total      모든 요청
+ * @param kinds      요청 종류별 결과
+ */
+record LoadTestReport(
+    String revision,
+    Workload workload,
+    double throughput,
+    Summary total,
+    Map<SignupWorkload.RequestKind, Summary> kinds
+) {
+
+    /**
+     * 기준보다 나빠진 항목을 설명하는 문장들. 비어 있으면 통과다.
+     * <p>
+     * p999는 기록 구간의 요청 수가 수천 건이면 몇 건의 느린 응답으로 크게 흔들리므로 결과에만 남기고 비교하지 않는다.
+     * <p>
+     * 요청은 응답과 상관없이 정해진 도착률로 보내므로(열린 모델) 처리량은 서버가 따라가는 동안 도착률과 같다.
+     * 기준 결과의 처리량과 비교하면 같은 부하에서 늘 같은 값이라 의미가 없으므로, 걸어 준 도착률보다 낮아졌는지,
+     * 즉 서버가 부하를 따라가지 못했는지만 본다. 이 검사는 기준 결과가 없어도 한다.
+     */
+    List<String> regressionsAgainst(LoadTestReport baseline, LoadTestSettings settings) {
+        List<String> regressions = new ArrayList<>();
+        double errorRatio = total.requests() == 0 ? 0 : (double) total.errors() / total.requests();
+        if (errorRatio > settings.maxErrorRatio()) {
+            regressions.add("기대와 다른 응답 비율 %.4f가 허용치 %.4f를 넘었습니다".formatted(errorRatio, settings.maxErrorRatio()));
+        }
+        double minThroughput = workload.rate() * (1 - settings.tolerance());
+        if (throughput < minThroughput) {
+            regressions.add("처리량 %.1f/s가 걸어 준 부하 %.1f/s의 하한 %.1f/s보다 낮습니다"
+                .formatted(throughput, workload.rate(), minThroughput));
+        }
+        if (baseline == null || !workload.equals(baseline.workload())) {
+            return regressions;
+        }
+
+        double latencyFactor = 1 + settings.tolerance();
+        checkLatency(regressions, "p50", total.latencyMillis().p50(), baseline.total().latencyMillis().p50(), latencyFactor,
+            settings.slackMillis());
+        checkLatency(regressions, "p99", total.latencyMillis().p99(), baseline.total().latencyMillis().p99(), latencyFactor,
+            settings.slackMillis());
+        return regressions;
+    }
+
+    private static void checkLatency(List<String> regressions, String name, double current, double baseline,
+                                     double factor, double slackMillis) {
+        double limit = baseline * factor + slackMillis;
+        if (current > limit) {
+            regressions.add("%s %.2fms가 기준 %.2fms의 상한 %.2fms를 넘었습니다".formatted(name, current, baseline, limit));
+        }
+    }
+
+    /**
+     * @param rate            초당 요청 도착 수
+     * @param warmupSeconds   기록하지 않은 시간
+     * @param durationSeconds 기록한 시간
+     * @param duplicateRatio  재가입 요청 비율
+     * @param invalidRatio    형식이 틀린 요청 비율
+     * @param seed            요청 종류를 고른 난수 시드
+     */
+    record Workload(
+        double rate,
+        long warmupSeconds,
+        long durationSeconds,
+        double duplicateRatio,
+        double invalidRatio,
+        long seed
+    ) {
+        static Workload of(LoadTestSettings settings) {
+            return new Workload(settings.rate(), settings.warmup().toSeconds(), settings.duration().toSeconds(),
+                settings.duplicateRatio(), settings.invalidRatio(), settings.seed());
+        }
+    }
+
+    /**
+     * @param requests      끝난 요청 수
+     * @param errors        기대와 다른 상태 코드를 받았거나 응답을 받지 못한 요청 수
+     * @param latencyMillis 요청을 보내기로 한 시각부터 응답을 받은 시각까지의 지연 시간
+     */
+    record Summary(long requests, long errors, Latency latencyMillis) {
+
+        static Summary of(Histogram histogram, long errors) {
+            return new Summary(histogram.getTotalCount(), errors, Latency.of(histogram));
+        }
+    }
+
+    /**
+     * 히스토그램은 마이크로초로 기록하고 밀리초로 적는다.
+     */
+    record Latency(double p50, double p99, double p999, double max) {
+
+        static Latency of(Histogram histogram) {
+            return new Latency(
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())
+            );
+        }
+
+        private static double millis(long micros) {
+            return micros / 1_000.0;
+        }
+    }
+}
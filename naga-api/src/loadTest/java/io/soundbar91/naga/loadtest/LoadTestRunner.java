@@ -0,0 +1,202 @@
+package io.soundbar91.naga.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.soundbar91.naga.NagaApplication;
+import io.soundbar91.naga.loadtest.SignupWorkload.Request;
+import io.soundbar91.naga.loadtest.SignupWorkload.RequestKind;
+
+/**
+ * 실행 중인 애플리케이션 전체(Tomcat, Jackson, 검증, GlobalExceptionHandler, Hikari, DB)를 거치는 가입 부하 테스트.
+ * <p>
+ * H2를 쓰는 애플리케이션을 임의 포트로 띄우고, 응답을 기다리지 않고 {@code rate}에 맞춘 시각마다 요청을 하나씩 보내는
+ * 열린 모델로 부하를 건다. 지연 시간은 요청을 보내기로 한 시각부터 재므로 서버가 밀려 요청이 늦게 나가도 그 대기가
+ * 결과에 들어간다(coordinated omission 보정). 예열 뒤 기록 구간의 p50/p99/p999와 처리량을 JSON으로 쓰고,
+ * 기준 결과보다 나빠졌으면 0이 아닌 코드로 끝나 Gradle 작업을 실패시킨다.
+ * <p>
+ * 남은 인자는 Spring 인자로 넘기므로 {@code --args='--spring.datasource.url=jdbc:mysql://...'}처럼 DB를 바꿀 수 있다.
+ * 인증이 아직 없으므로 Spring Security 자동 설정을 빼고, 한 주소에서 부하를 거므로 요청 수 제한도 끈다.
+ */
+public final class LoadTestRunner {
+
+    private static final String SECURITY_AUTO_CONFIGURATIONS = String.join(",",
+        "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration",
+        "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration",
+        "org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration"
+    );
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadTestReport report;
+        try (ConfigurableApplicationContext context = start(args);
+             HttpClient client = HttpClient.newBuilder()
+                 .version(HttpClient.Version.HTTP_1_1)
+                 .connectTimeout(Duration.ofSeconds(5))
+                 .build()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            SignupWorkload workload = new SignupWorkload(URI.create("http://localhost:" + port + "/api/users"), settings);
+
+            System.out.printf("예열 %ds, 기록 %ds, 초당 %.0f건%n",
+                settings.warmup().toSeconds(), settings.duration().toSeconds(), settings.rate());
+            run(client, workload, settings.rate(), settings.warmup());
+            report = run(client, workload, settings.rate(), settings.duration()).toReport(settings);
+        }
+
+        Files.createDirectories(settings.report().toAbsolutePath().getParent());
+        OBJECT_MAPPER.writeValue(settings.report().toFile(), report);
+        System.out.println(OBJECT_MAPPER.writeValueAsString(report));
+        System.out.println("결과: " + settings.report());
+
+        if (settings.updateBaseline()) {
+            Files.createDirectories(settings.baseline().toAbsolutePath().getParent());
+            OBJECT_MAPPER.writeValue(settings.baseline().toFile(), report);
+            System.out.println("기준 결과를 갱신했습니다: " + settings.baseline());
+            System.exit(0);
+        }
+
+        LoadTestReport baseline = readBaseline(settings, report);
+        List<String> regressions = report.regressionsAgainst(baseline, settings);
+        if (!regressions.isEmpty()) {
+            regressions.forEach(regression -> System.err.println("회귀: " + regression));
+            System.exit(1);
+        }
+        System.out.println("기준 결과 대비 회귀 없음");
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext start(String[] args) {
+        return new SpringApplicationBuilder(NagaApplication.class)
+            .properties(
+                "server.port=0",
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN",
+                "spring.autoconfigure.exclude=" + SECURITY_AUTO_CONFIGURATIONS,
+                "spring.datasource.url=jdbc:h2:mem:load-test;DB_CLOSE_DELAY=-1",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "naga.rate-limit.enabled=false",
+                "naga.security.password.strength=4",
+                "naga.security.password.queue-capacity=1024"
+            )
+            .run(args);
+    }
+
+    private static LoadTestReport readBaseline(LoadTestSettings settings, LoadTestReport report) throws IOException {
+        if (!Files.exists(settings.baseline())) {
+            System.out.println("기준 결과가 없어 비교하지 않습니다. -Pload.update-baseline으로 만들 수 있습니다: "
+                + settings.baseline());
+            return null;
+        }
+        LoadTestReport baseline = OBJECT_MAPPER.readValue(settings.baseline().toFile(), LoadTestReport.class);
+        if (!report.workload().equals(baseline.workload())) {
+            System.out.println("기준 결과와 부하 설정이 달라 지연 시간과 처리량은 비교하지 않습니다. 기준: " + baseline.workload());
+        }
+        return baseline;
+    }
+
+    /**
+     * {@code length} 동안 {@code rate}에 맞춘 시각마다 요청을 보내고, 보낸 요청이 모두 끝날 때까지 기다린다.
+     * 요청마다 가상 스레드 하나에서 응답을 기다리므로 서버가 느려져도 보내는 간격은 밀리지 않는다.
+     */
+    private static Phase run(HttpClient client, SignupWorkload workload, double rate, Duration length) {
+        Phase phase = new Phase();
+        if (length.isZero()) {
+            return phase;
+        }
+        long start = System.nanoTime();
+        long end = start + length.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + (long) (i * 1_000_000_000L / rate);
+                if (intended >= end) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Request request = workload.next();
+                executor.execute(() -> phase.record(request, send(client, request), intended, workload));
+            }
+        }
+        phase.elapsedNanos = System.nanoTime() - start;
+        return phase;
+    }
+
+    private static int send(HttpClient client, Request request) {
+        try {
+            return client.send(request.httpRequest(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException ex) {
+            return -1;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private static final class Phase {
+
+        private final Map<RequestKind, Histogram> histograms = new EnumMap<>(RequestKind.class);
+        private final Map<RequestKind, LongAdder> errors = new EnumMap<>(RequestKind.class);
+        private long elapsedNanos;
+
+        private Phase() {
+            for (RequestKind kind : RequestKind.values()) {
+                histograms.put(kind, new ConcurrentHistogram(3));
+                errors.put(kind, new LongAdder());
+            }
+        }
+
+        private void record(Request request, int status, long intendedNanos, SignupWorkload workload) {
+            long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos);
+            histograms.get(request.kind()).recordValue(Math.max(latencyMicros, 1));
+            if (status != request.kind().expectedStatus()) {
+                errors.get(request.kind()).increment();
+            }
+            workload.completed(request, status);
+        }
+
+        private LoadTestReport toReport(LoadTestSettings settings) {
+            Histogram total = new Histogram(3);
+            long totalErrors = 0;
+            Map<RequestKind, LoadTestReport.Summary> kinds = new EnumMap<>(RequestKind.class);
+            for (RequestKind kind : RequestKind.values()) {
+                Histogram histogram = histograms.get(kind);
+                long kindErrors = errors.get(kind).sum();
+                total.add(histogram);
+                totalErrors += kindErrors;
+                kinds.put(kind, LoadTestReport.Summary.of(histogram, kindErrors));
+            }
+            double throughput = total.getTotalCount() / (elapsedNanos / 1_000_000_000.0);
+            return new LoadTestReport(settings.revision(), LoadTestReport.Workload.of(settings), throughput,
+                LoadTestReport.Summary.of(total, totalErrors), kinds);
+        }
+    }
+}
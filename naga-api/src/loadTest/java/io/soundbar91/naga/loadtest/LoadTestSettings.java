@@ -0,0 +1,82 @@
+package io.soundbar91.naga.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * 부하 테스트 설정. Gradle {@code -Pload.*} 속성이 같은 이름의 시스템 속성으로 넘어온다.
+ *
+ * @param rate           초당 요청 도착 수. 응답을 기다리지 않고 이 간격으로 요청을 보낸다
+ * @param warmup         기록하지 않고 같은 부하를 거는 시간
+ * @param duration       기록하는 시간
+ * @param duplicateRatio 이미 가입한 이메일로 다시 가입하는 요청의 비율. 409를 기대한다
+ * @param invalidRatio   비밀번호 형식이 틀린 요청의 비율. 400을 기대한다
+ * @param seed           요청 종류를 고르는 난수 시드. 같은 시드면 같은 순서로 요청을 보낸다
+ * @param report         결과 JSON을 쓸 경로
+ * @param baseline       비교할 기준 결과 JSON 경로
+ * @param tolerance      나빠져도 되는 비율. 지연 시간은 기준보다 이만큼 늘어도, 처리량은 도착률보다 이만큼 낮아도 통과한다
+ * @param slackMillis    지연 시간 비교에 더하는 절대 여유. 1ms 안팎의 지연이 측정 잡음으로 실패하지 않게 한다
+ * @param maxErrorRatio  기대와 다른 응답(연결 실패 포함)의 최대 비율
+ * @param updateBaseline 비교하지 않고 이번 결과를 기준으로 저장할지
+ * @param revision       결과에 남길 커밋
+ */
+record LoadTestSettings(
+    double rate,
+    Duration warmup,
+    Duration duration,
+    double duplicateRatio,
+    double invalidRatio,
+    long seed,
+    Path report,
+    Path baseline,
+    double tolerance,
+    double slackMillis,
+    double maxErrorRatio,
+    boolean updateBaseline,
+    String revision
+) {
+    LoadTestSettings {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("load.rate는 0보다 커야 합니다");
+        }
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("load.duration은 0보다 커야 합니다");
+        }
+        if (duplicateRatio < 0 || invalidRatio < 0 || duplicateRatio + invalidRatio > 1) {
+            throw new IllegalArgumentException("load.duplicate-ratio와 load.invalid-ratio는 0 이상이고 합이 1 이하여야 합니다");
+        }
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            Double.parseDouble(property("load.rate", "50")),
+            DurationStyle.detectAndParse(property("load.warmup", "15s")),
+            DurationStyle.detectAndParse(property("load.duration", "30s")),
+            Double.parseDouble(property("load.duplicate-ratio", "0.1")),
+            Double.parseDouble(property("load.invalid-ratio", "0.1")),
+            Long.parseLong(property("load.seed", "42")),
+            Path.of(property("load.report", "build/results/load/report.json")),
+            Path.of(property("load.baseline", "loadtest/baseline.json")),
+            Double.parseDouble(property("load.tolerance", "0.25")),
+            Double.parseDouble(property("load.slack-millis", "2")),
+            Double.parseDouble(property("load.max-error-ratio", "0.001")),
+            flag("load.update-baseline"),
+            property("load.revision", "unknown")
+        );
+    }
+
+    /**
+     * {@code -Pload.update-baseline}처럼 값 없이 주면 빈 문자열이 넘어오므로 {@code false}가 아니면 켠 것으로 본다.
+     */
+    private static boolean flag(String name) {
+        String value = System.getProperty(name);
+        return value != null && !"false".equalsIgnoreCase(value.trim());
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
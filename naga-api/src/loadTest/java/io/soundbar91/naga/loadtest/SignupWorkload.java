@@ -0,0 +1,96 @@
+package io.soundbar91.naga.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 가입 요청 혼합. 정상 가입, 이미 가입한 이메일로의 재가입, 형식이 틀린 비밀번호를 정해진 비율로 섞는다.
+ * <p>
+ * {@link #next()}는 요청을 보내는 스레드 하나에서만 부르므로 시드가 같으면 요청 종류의 순서도 같다.
+ * 재가입은 이미 201을 받은 이메일 중에서 고르고, 아직 하나도 없으면 정상 가입으로 대신한다.
+ */
+final class SignupWorkload {
+
+    private static final String PASSWORD = "Password123!";
+    private static final String INVALID_PASSWORD = "short";
+
+    private final URI signupUri;
+    private final double duplicateRatio;
+    private final double invalidRatio;
+    private final Random random;
+    private final List<String> created = new ArrayList<>();
+    private long sequence;
+
+    SignupWorkload(URI signupUri, LoadTestSettings settings) {
+        this.signupUri = signupUri;
+        this.duplicateRatio = settings.duplicateRatio();
+        this.invalidRatio = settings.invalidRatio();
+        this.random = new Random(settings.seed());
+    }
+
+    Request next() {
+        double draw = random.nextDouble();
+        if (draw < invalidRatio) {
+            return request(RequestKind.INVALID, freshEmail(), INVALID_PASSWORD);
+        }
+        if (draw < invalidRatio + duplicateRatio) {
+            String email = createdEmail();
+            if (email != null) {
+                return request(RequestKind.DUPLICATE, email, PASSWORD);
+            }
+        }
+        return request(RequestKind.SIGNUP, freshEmail(), PASSWORD);
+    }
+
+    /**
+     * 응답을 받은 스레드에서 부른다. 가입에 성공한 이메일을 재가입 후보로 남긴다.
+     */
+    void completed(Request request, int status) {
+        if (request.kind() == RequestKind.SIGNUP && status == RequestKind.SIGNUP.expectedStatus()) {
+            synchronized (created) {
+                created.add(request.email());
+            }
+        }
+    }
+
+    private String createdEmail() {
+        synchronized (created) {
+            return created.isEmpty() ? null : created.get(random.nextInt(created.size()));
+        }
+    }
+
+    private String freshEmail() {
+        return "load" + (++sequence) + "@naga.io";
+    }
+
+    private Request request(RequestKind kind, String email, String password) {
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+        HttpRequest httpRequest = HttpRequest.newBuilder(signupUri)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return new Request(kind, email, httpRequest);
+    }
+
+    record Request(RequestKind kind, String email, HttpRequest httpRequest) {
+    }
+
+    enum RequestKind {
+        SIGNUP(201),
+        DUPLICATE(409),
+        INVALID(400);
+
+        private final int expectedStatus;
+
+        RequestKind(int expectedStatus) {
+            this.expectedStatus = expectedStatus;
+        }
+
+        int expectedStatus() {
+            return expectedStatus;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.soundbar91.naga.common.archive;
+
+import java.util.List;
+
+/**
+ * 소프트 삭제 행을 옮길 라이브 테이블과 보관 테이블.
+ * 보관 테이블은 {@code columns}와 같은 이름의 컬럼과 {@code archived_at} 컬럼을 가져야 한다.
+ *
+ * @param table        라이브 테이블
+ * @param archiveTable 보관 테이블
+ * @param columns      복사할 컬럼. {@code id}와 {@code deleted_at}을 포함해야 한다
+ */
+public record ArchiveTarget(String table, String archiveTable, List<String> columns) {
+
+    public ArchiveTarget {
+        if (!columns.contains("id") || !columns.contains("deleted_at")) {
+            throw new IllegalArgumentException("columns에는 id와 deleted_at이 포함되어야 합니다");
+        }
+        columns = List.copyOf(columns);
+    }
+}
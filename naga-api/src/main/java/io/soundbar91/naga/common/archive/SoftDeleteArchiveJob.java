@@ -0,0 +1,93 @@
+package io.soundbar91.naga.common.archive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.config.ArchiveProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보관 기간이 지난 소프트 삭제 행을 보관 테이블로 옮긴다.
+ * <p>
+ * 배치마다 별도의 짧은 트랜잭션에서 {@code deleted_at} 인덱스 순으로 최대 {@code batchSize}개 행을 잠그고,
+ * 보관 테이블에 복사한 뒤 라이브 테이블에서 삭제한다. 배치 사이에는 {@code throttle}만큼 쉬어
+ * 라이브 테이블의 행 잠금이 한 배치 시간 이상 유지되지 않게 한다.
+ * MySQL에는 부분 인덱스가 없으므로, 삭제 행을 옮겨 두는 것이 이메일 유니크 인덱스를 라이브 행 위주로 유지하는 방법이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "naga.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SoftDeleteArchiveJob {
+
+    private final List<ArchiveTarget> targets;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchiveProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${naga.archive.interval:1h}", initialDelayString = "${naga.archive.interval:1h}")
+    public void run() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.retention());
+        for (ArchiveTarget target : targets) {
+            try {
+                int archived = archive(target, cutoff);
+                if (archived > 0) {
+                    log.info("소프트 삭제 행 보관 완료: {} -> {}, {}건", target.table(), target.archiveTable(), archived);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * {@code cutoff} 이전에 삭제된 행을 옮기고 옮긴 행 수를 반환한다.
+     * 한 번에 최대 {@code maxBatchesPerRun}개 배치까지 처리하며 나머지는 다음 실행에서 이어간다.
+     */
+    public int archive(ArchiveTarget target, LocalDateTime cutoff) throws InterruptedException {
+        String columns = String.join(", ", target.columns());
+        String selectSql = "select id from " + target.table()
+            + " where deleted_at < :cutoff order by deleted_at, id limit :limit for update";
+        String insertSql = "insert into " + target.archiveTable() + " (" + columns + ", archived_at)"
+            + " select " + columns + ", :archivedAt from " + target.table() + " where id in (:ids)";
+        String deleteSql = "delete from " + target.table() + " where id in (:ids)";
+        Counter counter = Counter.builder("naga.archive.rows")
+            .description("보관 테이블로 옮긴 소프트 삭제 행 수")
+            .tag("table", target.table())
+            .register(meterRegistry);
+
+        int total = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Long> ids = jdbcTemplate.queryForList(selectSql,
+                    Map.of("cutoff", cutoff, "limit", properties.batchSize()), Long.class);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                jdbcTemplate.update(insertSql, Map.of("archivedAt", LocalDateTime.now(), "ids", ids));
+                return jdbcTemplate.update(deleteSql, Map.of("ids", ids));
+            });
+
+            int count = moved == null ? 0 : moved;
+            total += count;
+            counter.increment(count);
+            if (count < properties.batchSize()) {
+                break;
+            }
+            Thread.sleep(properties.throttle());
+        }
+        return total;
+    }
+}
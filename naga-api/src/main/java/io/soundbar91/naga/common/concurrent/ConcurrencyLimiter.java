@@ -0,0 +1,83 @@
+package io.soundbar91.naga.common.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 세마포어 기반 동시 실행 제한.
+ * <p>
+ * 가상 스레드는 사실상 무제한으로 만들어지므로 커넥션 풀이나 CPU처럼 개수가 정해진 자원 앞에 둔다.
+ * 대기자가 {@code maxWaiting}을 넘거나 {@code timeout} 안에 허가를 얻지 못하면 즉시 실패시켜
+ * 요청이 끝없이 쌓이지 않게 한다.
+ */
+public class ConcurrencyLimiter {
+
+    private final String name;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final long timeoutNanos;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public ConcurrencyLimiter(String name, int maxConcurrent, int maxWaiting, Duration timeout) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent는 1 이상이어야 합니다");
+        }
+        this.name = name;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /**
+     * 허가를 얻으면 true. 대기열이 가득 찼거나 제한 시간이 지나면 false.
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            return false;
+        }
+        try {
+            return permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * 대기 상한과 제한 시간 없이 허가를 얻을 때까지 기다린다. 이미 양이 제한된 내부 작업에만 사용한다.
+     */
+    public void acquireUninterruptibly() {
+        permits.acquireUninterruptibly();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int inUse() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int waiting() {
+        return waiting.get();
+    }
+
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("naga.concurrency.limiter.in.use", this, ConcurrencyLimiter::inUse)
+            .tag("limiter", name)
+            .register(meterRegistry);
+        Gauge.builder("naga.concurrency.limiter.waiting", this, ConcurrencyLimiter::waiting)
+            .tag("limiter", name)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,143 @@
+package io.soundbar91.naga.common.concurrent;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키마다 {@code width}개의 {@link LongAdder}를 두는 쓰기 지연용 카운터.
+ * <p>
+ * 증가는 셀 단위 CAS만 사용하므로 같은 키에 몰려도 DB 행 잠금처럼 직렬화되지 않는다.
+ * 저장하는 쪽은 {@link #snapshot()}으로 쌓인 값을 읽어 저장하고, 커밋한 뒤 {@link #subtract(long, long[])}로 저장한 만큼만 뺀다.
+ * 읽기와 빼기 사이에 들어온 증가는 남아 다음 저장에 포함된다.
+ * <p>
+ * 0이 된 키는 {@link #evictIdle()}이 지운다. 지우는 쪽은 {@code retired}를 먼저 표시한 뒤 진행 중인 증가 수와 합을 읽고,
+ * 증가하는 쪽은 진행 중임을 먼저 알린 뒤 {@code retired}를 읽는다. 둘 중 하나는 반드시 상대의 쓰기를 보므로,
+ * 지우는 쪽은 증가가 진행 중인 셀을 남기고, 증가하는 쪽은 더하기 전에 지워지는 셀을 피해 새 셀을 다시 찾는다.
+ */
+public class StripedCounters {
+
+    private final int width;
+    private final ConcurrentHashMap<Long, Cell> cells = new ConcurrentHashMap<>();
+
+    public StripedCounters(int width) {
+        if (width < 1) {
+            throw new IllegalArgumentException("width는 1 이상이어야 합니다");
+        }
+        this.width = width;
+    }
+
+    public void add(long key, long... deltas) {
+        if (deltas.length != width) {
+            throw new IllegalArgumentException("deltas 길이는 " + width + "이어야 합니다");
+        }
+        while (true) {
+            Cell cell = cells.computeIfAbsent(key, k -> new Cell(width));
+            cell.inFlight.increment();
+            try {
+                if (!cell.retired) {
+                    cell.add(deltas, 1);
+                    return;
+                }
+            } finally {
+                cell.inFlight.decrement();
+            }
+        }
+    }
+
+    /**
+     * 아직 저장하지 않은 값. 키가 없으면 0으로 채운 배열이다.
+     */
+    public long[] get(long key) {
+        Cell cell = cells.get(key);
+        return cell != null ? cell.sums() : new long[width];
+    }
+
+    /**
+     * 0이 아닌 키를 키 순서로 돌려준다. 여러 인스턴스가 같은 행을 갱신할 때 잠금 순서를 맞추기 위해 정렬한다.
+     */
+    public Map<Long, long[]> snapshot() {
+        Map<Long, long[]> snapshot = new TreeMap<>();
+        cells.forEach((key, cell) -> {
+            long[] sums = cell.sums();
+            if (!isZero(sums)) {
+                snapshot.put(key, sums);
+            }
+        });
+        return snapshot;
+    }
+
+    public void subtract(long key, long[] saved) {
+        Cell cell = cells.get(key);
+        if (cell != null) {
+            cell.add(saved, -1);
+        }
+    }
+
+    /**
+     * 합이 0인 키를 지우고 지운 수를 돌려준다.
+     */
+    public int evictIdle() {
+        int evicted = 0;
+        for (Long key : cells.keySet()) {
+            boolean[] removed = new boolean[1];
+            cells.computeIfPresent(key, (k, cell) -> {
+                cell.retired = true;
+                if (cell.inFlight.sum() != 0 || !isZero(cell.sums())) {
+                    cell.retired = false;
+                    return cell;
+                }
+                removed[0] = true;
+                return null;
+            });
+            if (removed[0]) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return cells.size();
+    }
+
+    private static boolean isZero(long[] sums) {
+        for (long sum : sums) {
+            if (sum != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Cell {
+
+        private final LongAdder[] adders;
+        private final LongAdder inFlight = new LongAdder();
+        private volatile boolean retired;
+
+        private Cell(int width) {
+            this.adders = new LongAdder[width];
+            for (int i = 0; i < width; i++) {
+                adders[i] = new LongAdder();
+            }
+        }
+
+        private void add(long[] deltas, int sign) {
+            for (int i = 0; i < adders.length; i++) {
+                if (deltas[i] != 0) {
+                    adders[i].add(sign * deltas[i]);
+                }
+            }
+        }
+
+        private long[] sums() {
+            long[] sums = new long[adders.length];
+            for (int i = 0; i < adders.length; i++) {
+                sums[i] = adders[i].sum();
+            }
+            return sums;
+        }
+    }
+}
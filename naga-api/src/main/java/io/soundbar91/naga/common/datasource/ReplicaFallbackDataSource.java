@@ -0,0 +1,117 @@
+package io.soundbar91.naga.common.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 트랜잭션이 쓰는 DataSource. 복제본이 정상이면 복제본 커넥션을, 아니면 원본 커넥션을 준다.
+ * <p>
+ * 복제본에서 커넥션을 얻지 못하면 그 요청은 원본으로 넘기고 복제본을 비정상으로 표시한다.
+ * 별도 스레드가 {@code healthCheckInterval}마다 복제본을 확인해 정상으로 되돌리거나, 요청보다 먼저 장애를 발견한다.
+ * 확인은 커넥션 획득 시간만큼 막힐 수 있으므로 공용 스케줄러가 아닌 전용 스레드에서 한다.
+ * <p>
+ * {@code naga.datasource.replica.healthy}, {@code naga.datasource.replica.fallbacks} 지표를 노출한다.
+ */
+@Slf4j
+public class ReplicaFallbackDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+    private final Counter fallbacks;
+    private final ScheduledExecutorService healthChecker;
+    private volatile boolean healthy = true;
+
+    public ReplicaFallbackDataSource(DataSource replica, DataSource primary, Duration healthCheckInterval,
+        MeterRegistry meterRegistry) {
+        super(replica);
+        this.primary = primary;
+        this.fallbacks = Counter.builder("naga.datasource.replica.fallbacks")
+            .description("복제본 대신 원본에서 얻은 읽기 커넥션 수")
+            .register(meterRegistry);
+        Gauge.builder("naga.datasource.replica.healthy", this, dataSource -> dataSource.isHealthy() ? 1 : 0)
+            .description("복제본 정상 여부")
+            .register(meterRegistry);
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = healthCheckInterval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (healthy) {
+            try {
+                return obtainTargetDataSource().getConnection();
+            } catch (SQLException ex) {
+                markUnhealthy(ex);
+            }
+        }
+        fallbacks.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (healthy) {
+            try {
+                return obtainTargetDataSource().getConnection(username, password);
+            } catch (SQLException ex) {
+                markUnhealthy(ex);
+            }
+        }
+        fallbacks.increment();
+        return primary.getConnection(username, password);
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * 복제본에서 커넥션을 얻어 유효한지 확인하고 상태를 갱신한다.
+     */
+    public void checkHealth() {
+        try (Connection connection = obtainTargetDataSource().getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                markUnhealthy(null);
+                return;
+            }
+            if (!healthy) {
+                healthy = true;
+                log.info("복제본이 복구되어 읽기 전용 트랜잭션을 다시 복제본으로 보냅니다");
+            }
+        } catch (SQLException | RuntimeException ex) {
+            markUnhealthy(ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+    }
+
+    private void markUnhealthy(Exception cause) {
+        if (healthy) {
+            healthy = false;
+            log.warn("복제본을 사용할 수 없어 읽기 전용 트랜잭션을 원본으로 보냅니다", cause);
+        }
+    }
+}
@@ -14,13 +14,24 @@ import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import lombok.Getter;
 
+/**
+ * 식별자는 엔티티별 시퀀스(pooled optimizer, allocationSize 50)로 발급한다.
+ * IDENTITY 전략은 INSERT 시점에 키를 받아야 해서 Hibernate의 JDBC 배치 INSERT를 비활성화한다.
+ * 시퀀스를 지원하지 않는 MySQL에서는 Hibernate가 같은 이름의 테이블로 시퀀스를 에뮬레이션한다.
+ * <p>
+ * 소프트 삭제된 행({@code deleted_at}이 있는 행)은 조회에서 제외해야 한다. Hibernate는 {@code @MappedSuperclass}의
+ * {@code @SQLRestriction}을 상속하지 않으므로 각 엔티티에 {@code @SQLRestriction(BaseEntity.NOT_DELETED)}를 선언한다.
+ * 오래된 삭제 행은 {@code SoftDeleteArchiveJob}이 보관 테이블로 옮긴다.
+ */
 @Getter
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
 
+    public static final String NOT_DELETED = "deleted_at is null";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "id")
     private Long id;
 
@@ -2,18 +2,34 @@ package io.soundbar91.naga.common.exception;
 
 import lombok.Getter;
 
+/**
+ * 비즈니스 규칙 위반.
+ * <p>
+ * {@link ErrorCode#isExpected() 예상된} 에러 코드는 정상 트래픽의 일부이므로 스택 트레이스를 채우지 않는다.
+ * 상세 메시지는 {@link #getMessage()}가 호출될 때 조합한다.
+ */
 @Getter
 public class BusinessException extends RuntimeException {
 
     private final ErrorCode errorCode;
+    private final String detail;
 
     public BusinessException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
-        this.errorCode = errorCode;
+        this(errorCode, null);
     }
 
-    public BusinessException(ErrorCode errorCode, String message) {
-        super(errorCode.getMessage() + " " + message);
+    public BusinessException(ErrorCode errorCode, String detail) {
+        super(null, null, true, !errorCode.isExpected());
         this.errorCode = errorCode;
+        this.detail = detail;
+    }
+
+    public boolean hasDetail() {
+        return detail != null;
+    }
+
+    @Override
+    public String getMessage() {
+        return hasDetail() ? errorCode.getMessage() + " " + detail : errorCode.getMessage();
     }
 }
@@ -0,0 +1,10 @@
+package io.soundbar91.naga.common.exception;
+
+/**
+ * DB 제약 위반을 바꿀 에러 코드. 도메인마다 빈으로 등록하면 {@link GlobalExceptionHandler}가 모아 쓴다.
+ *
+ * @param constraintName 제약 이름. DB가 돌려준 제약 이름에 이 값이 포함되면 일치로 본다
+ * @param errorCode      응답할 에러 코드
+ */
+public record ConstraintError(String constraintName, ErrorCode errorCode) {
+}
@@ -11,18 +11,44 @@ import lombok.RequiredArgsConstructor;
 public enum ErrorCode {
 
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다", Level.ERROR),
+    DATABASE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요", Level.WARN),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요", Level.WARN),
+    JUDGE_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "채점 대기 중인 제출이 많습니다. 잠시 후 다시 시도해주세요", Level.WARN),
+    RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요", Level.INFO),
 
     // Validation
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "입력값이 올바르지 않습니다", Level.INFO),
     INVALID_EMAIL_FORMAT(HttpStatus.BAD_REQUEST, "올바른 이메일 형식이 아닙니다", Level.INFO),
     INVALID_PASSWORD_FORMAT(HttpStatus.BAD_REQUEST, "비밀번호는 영문, 숫자, 특수문자를 포함해야 합니다", Level.INFO),
+    REQUEST_BODY_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다", Level.INFO),
+
+    // Idempotency
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다", Level.INFO),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key의 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요", Level.INFO),
 
     // User
     USER_EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 존재하는 이메일입니다", Level.INFO),
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다", Level.INFO),
+
+    // Submission
+    SUBMISSION_NOT_FOUND(HttpStatus.NOT_FOUND, "제출을 찾을 수 없습니다", Level.INFO),
+    SUBMISSION_STREAM_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "동시에 열 수 있는 실시간 채점 구독 수를 초과했습니다", Level.INFO),
+    PROBLEM_NOT_FOUND(HttpStatus.NOT_FOUND, "문제를 찾을 수 없습니다", Level.INFO),
+
+    // Contest
+    CONTEST_NOT_FOUND(HttpStatus.NOT_FOUND, "대회를 찾을 수 없습니다", Level.INFO),
+    CONTEST_NOT_RUNNING(HttpStatus.CONFLICT, "진행 중인 대회가 아닙니다", Level.INFO),
+    CONTEST_PARTICIPANT_NOT_FOUND(HttpStatus.NOT_FOUND, "대회 순위표에 없는 사용자입니다", Level.INFO),
     ;
 
     private final HttpStatus httpStatus;
     private final String message;
     private final Level logLevel;
+
+    /**
+     * WARN 미만으로 기록하는 에러는 정상 흐름에서 발생하는 예상된 거절로 보고 스택 트레이스를 남기지 않는다.
+     */
+    public boolean isExpected() {
+        return !logLevel.isGreaterOrEqual(Level.WARN);
+    }
 }
@@ -2,9 +2,21 @@ package io.soundbar91.naga.common.exception;
 
 import static ch.qos.logback.classic.Level.*;
 
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -12,6 +24,8 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import ch.qos.logback.classic.Level;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.soundbar91.naga.common.dto.ApiResponse;
 import io.soundbar91.naga.common.dto.ErrorMessage;
 import lombok.extern.slf4j.Slf4j;
@@ -20,11 +34,56 @@ import lombok.extern.slf4j.Slf4j;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /**
+     * 고정 메시지를 쓰는 에러 응답 본문은 불변이므로 코드별로 한 번만 만든다.
+     */
+    private static final Map<ErrorCode, ApiResponse<Void>> FIXED_RESPONSES = new EnumMap<>(ErrorCode.class);
+
+    static {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            FIXED_RESPONSES.put(errorCode, ApiResponse.error(ErrorMessage.of(errorCode.name(), errorCode.getMessage())));
+        }
+    }
+
+    /**
+     * 에러 코드마다 카운터를 미리 만들어 두어 요청 경로에서는 조회와 증가만 한다. 태그 값은 {@link ErrorCode} 개수로 제한된다.
+     */
+    private final Map<ErrorCode, Counter> errorCounters = new EnumMap<>(ErrorCode.class);
+
+    /**
+     * 도메인이 등록한 제약 위반 변환. 공통 모듈이 도메인 엔티티를 알지 않도록 빈으로 받는다.
+     */
+    private final List<ConstraintError> constraintErrors;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry, List<ConstraintError> constraintErrors) {
+        this.constraintErrors = constraintErrors.stream()
+            .map(error -> new ConstraintError(error.constraintName().toLowerCase(Locale.ROOT), error.errorCode()))
+            .toList();
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            errorCounters.put(errorCode, Counter.builder("naga.errors")
+                .description("에러 코드별 에러 응답 수")
+                .tag("code", errorCode.name())
+                .tag("status", Integer.toString(errorCode.getHttpStatus().value()))
+                .register(meterRegistry));
+        }
+    }
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ApiResponse<Void>> handleBusinessException(BusinessException ex) {
+        if (!ex.hasDetail()) {
+            return buildErrorResponse(ex.getErrorCode(), ex);
+        }
         return buildErrorResponse(ex.getErrorCode(), ex.getMessage(), ex);
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRateLimitExceededException(RateLimitExceededException ex) {
+        ResponseEntity<ApiResponse<Void>> response = buildErrorResponse(ex.getErrorCode(), ex);
+        return ResponseEntity.status(response.getStatusCode())
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+            .body(response.getBody());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Void>> handleValidationException(MethodArgumentNotValidException ex) {
         BindingResult bindingResult = ex.getBindingResult();
@@ -36,16 +95,53 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(errorCode, message, ex);
     }
 
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
+        return buildErrorResponse(ErrorCode.INVALID_INPUT_VALUE, ex);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        return buildErrorResponse(resolveConstraintErrorCode(ex), ex);
+    }
+
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ApiResponse<Void>> handleConnectionFailure(Exception ex) {
+        if (NestedExceptionUtils.getRootCause(ex) instanceof SQLTransientConnectionException) {
+            return buildErrorResponse(ErrorCode.DATABASE_BUSY, ex);
+        }
+        return buildErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR, ex);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleException(Exception ex) {
-        ErrorCode errorCode = ErrorCode.INTERNAL_SERVER_ERROR;
-        return buildErrorResponse(errorCode, errorCode.getMessage(), ex);
+        return buildErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR, ex);
+    }
+
+    private ErrorCode resolveConstraintErrorCode(DataIntegrityViolationException ex) {
+        if (ex.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+            String constraintName = violation.getConstraintName().toLowerCase(Locale.ROOT);
+            for (ConstraintError constraintError : constraintErrors) {
+                if (constraintName.contains(constraintError.constraintName())) {
+                    return constraintError.errorCode();
+                }
+            }
+        }
+        return ErrorCode.INTERNAL_SERVER_ERROR;
+    }
+
+    private ResponseEntity<ApiResponse<Void>> buildErrorResponse(ErrorCode errorCode, Exception ex) {
+        errorCounters.get(errorCode).increment();
+        logByLevel(errorCode.getLogLevel(), errorCode.name(), errorCode.getMessage(), ex);
+
+        return ResponseEntity.status(errorCode.getHttpStatus()).body(FIXED_RESPONSES.get(errorCode));
     }
 
     private ResponseEntity<ApiResponse<Void>> buildErrorResponse(ErrorCode errorCode, String message, Exception ex) {
         String code = errorCode.name();
 
-        logByLevel(errorCode.getLogLevel(), String.format("[%s] %s", code, message), ex);
+        errorCounters.get(errorCode).increment();
+        logByLevel(errorCode.getLogLevel(), code, message, ex);
 
         ErrorMessage errorMessage = ErrorMessage.of(code, message);
         ApiResponse<Void> response = ApiResponse.error(errorMessage);
@@ -53,12 +149,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(errorCode.getHttpStatus()).body(response);
     }
 
-    private void logByLevel(Level level, String message, Exception ex) {
+    private void logByLevel(Level level, String code, String message, Exception ex) {
         switch (level.levelInt) {
-            case ERROR_INT -> log.error(message, ex);
-            case WARN_INT -> log.warn(message);
-            case INFO_INT -> log.info(message);
-            case DEBUG_INT -> log.debug(message);
+            case ERROR_INT -> {
+                if (log.isErrorEnabled()) {
+                    log.error("[{}] {}", code, message, ex);
+                }
+            }
+            case WARN_INT -> {
+                if (log.isWarnEnabled()) {
+                    log.warn("[{}] {}", code, message);
+                }
+            }
+            case INFO_INT -> {
+                if (log.isInfoEnabled()) {
+                    log.info("[{}] {}", code, message);
+                }
+            }
+            case DEBUG_INT -> {
+                if (log.isDebugEnabled()) {
+                    log.debug("[{}] {}", code, message);
+                }
+            }
         }
     }
 }
@@ -0,0 +1,17 @@
+package io.soundbar91.naga.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 빈도 제한에 걸린 요청. {@code GlobalExceptionHandler}가 {@code Retry-After} 헤더를 붙여 응답한다.
+ */
+@Getter
+public class RateLimitExceededException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(ErrorCode.RATE_LIMIT_EXCEEDED);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,324 @@
+package io.soundbar91.naga.common.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.config.IdempotencyProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code Idempotency-Key} 헤더가 있는 POST 요청의 응답을 저장해 두고, 같은 키의 재시도에는 서비스를 호출하지 않고 저장된 응답을 돌려준다.
+ * <p>
+ * 타임아웃으로 재시도된 가입 요청이 BCrypt 해싱과 중복 확인을 다시 하고 {@code USER_EMAIL_ALREADY_EXISTS}로 실패하는 것을 막는다.
+ * 키는 인증 주체와 경로별로 구분하고, 같은 키로 본문이 다른 요청이 오면 {@code IDEMPOTENCY_KEY_REUSED}로 거절한다.
+ * <p>
+ * 지문을 만들려고 본문을 메모리에 읽으므로 {@code maxBodySize}를 넘는 본문은 읽지 않고 {@code REQUEST_BODY_TOO_LARGE}로 거절한다.
+ * <p>
+ * 같은 키의 요청이 처리 중이면 {@code inFlightTimeout}까지 그 결과를 기다렸다가 돌려준다. 서버 오류(5xx)와 빈도 제한(429) 응답은
+ * 저장하지 않으므로 재시도가 다시 처리된다. 재사용한 응답에는 {@code Idempotent-Replayed: true} 헤더를 붙인다.
+ * <p>
+ * 인증 주체를 키에 넣기 위해 Spring Security 필터 뒤에 둔다. 빈도 제한({@code RateLimitFilter})은 이 필터보다 앞에서 적용된다.
+ * <p>
+ * {@code naga.idempotency.requests{result}} 지표를 노출한다.
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyProperties properties;
+    private final IdempotencyStore store;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final Map<String, CompletableFuture<Optional<StoredResponse>>> inFlight = new ConcurrentHashMap<>();
+    private final Counter processed;
+    private final Counter replayed;
+    private final Counter rejected;
+
+    public IdempotencyFilter(
+        IdempotencyProperties properties,
+        IdempotencyStore store,
+        @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.store = store;
+        this.exceptionResolver = exceptionResolver;
+        this.processed = requestCounter("processed", meterRegistry);
+        this.replayed = requestCounter("replayed", meterRegistry);
+        this.rejected = requestCounter("rejected", meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.enabled() || !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(HEADER) == null) {
+            return true;
+        }
+        return !properties.paths().contains(path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        String key = request.getHeader(HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            reject(request, response, new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                HEADER + "는 1~" + MAX_KEY_LENGTH + "자여야 합니다"));
+            return;
+        }
+
+        int maxBodySize = Math.toIntExact(properties.maxBodySize().toBytes());
+        if (request.getContentLengthLong() > maxBodySize) {
+            reject(request, response, new BusinessException(ErrorCode.REQUEST_BODY_TOO_LARGE));
+            return;
+        }
+        // Content-Length가 없는 청크 본문도 한도보다 1바이트만 더 읽어 넘는지 판단한다.
+        byte[] body = request.getInputStream().readNBytes(maxBodySize + 1);
+        if (body.length > maxBodySize) {
+            reject(request, response, new BusinessException(ErrorCode.REQUEST_BODY_TOO_LARGE));
+            return;
+        }
+        HttpServletRequest cachedRequest = new CachedBodyRequest(request, body);
+        String fingerprint = sha256(body);
+        String scopedKey = scope(request, key);
+        long deadline = System.nanoTime() + properties.inFlightTimeout().toNanos();
+
+        while (true) {
+            Optional<StoredResponse> stored = store.find(scopedKey);
+            if (stored.isPresent()) {
+                replay(request, response, stored.get(), fingerprint);
+                return;
+            }
+
+            CompletableFuture<Optional<StoredResponse>> created = new CompletableFuture<>();
+            CompletableFuture<Optional<StoredResponse>> running = inFlight.putIfAbsent(scopedKey, created);
+            if (running == null) {
+                process(cachedRequest, response, filterChain, scopedKey, fingerprint, created);
+                return;
+            }
+
+            Optional<StoredResponse> result;
+            try {
+                result = running.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException ex) {
+                reject(request, response, new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS));
+                return;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                reject(request, response, new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS));
+                return;
+            } catch (ExecutionException ex) {
+                result = Optional.empty();
+            }
+            if (result.isPresent()) {
+                replay(request, response, result.get(), fingerprint);
+                return;
+            }
+            // 먼저 온 요청의 응답이 저장되지 않았으면 이 요청이 다시 처리한다.
+        }
+    }
+
+    private void process(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain,
+        String scopedKey,
+        String fingerprint,
+        CompletableFuture<Optional<StoredResponse>> created
+    ) throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        Optional<StoredResponse> result = Optional.empty();
+        try {
+            filterChain.doFilter(request, cachingResponse);
+            processed.increment();
+            if (isStorable(cachingResponse.getStatus())) {
+                StoredResponse stored = new StoredResponse(fingerprint, cachingResponse.getStatus(),
+                    cachingResponse.getContentType(), cachingResponse.getContentAsByteArray());
+                save(scopedKey, stored);
+                result = Optional.of(stored);
+            }
+        } finally {
+            created.complete(result);
+            inFlight.remove(scopedKey, created);
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * 저장에 실패해도 이미 처리한 요청의 응답은 그대로 보낸다. 이후 재시도는 다시 처리된다.
+     */
+    private void save(String scopedKey, StoredResponse stored) {
+        try {
+            store.save(scopedKey, stored);
+        } catch (RuntimeException ex) {
+            log.warn("Idempotency-Key 응답 저장 실패", ex);
+        }
+    }
+
+    private void replay(HttpServletRequest request, HttpServletResponse response, StoredResponse stored, String fingerprint)
+        throws IOException {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            reject(request, response, new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED));
+            return;
+        }
+        replayed.increment();
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, BusinessException ex) {
+        rejected.increment();
+        exceptionResolver.resolveException(request, response, null, ex);
+    }
+
+    private static boolean isStorable(int status) {
+        return status < HttpStatus.INTERNAL_SERVER_ERROR.value() && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    /**
+     * 헤더 값에는 줄바꿈이 들어갈 수 없으므로 줄바꿈으로 이어 붙여도 서로 다른 주체, 경로, 키가 겹치지 않는다.
+     */
+    private static String scope(HttpServletRequest request, String key) {
+        Principal principal = request.getUserPrincipal();
+        String subject = principal == null ? "" : principal.getName();
+        return subject + "\n" + path(request) + "\n" + key;
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Counter requestCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("naga.idempotency.requests")
+            .description("Idempotency-Key가 있는 요청 수")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 지문을 만들기 위해 미리 읽은 본문을 다시 읽을 수 있게 한다.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문이 모두 메모리에 있어 읽기가 막히지 않으므로 바로 {@code onDataAvailable}을 부르고,
+                 * 리스너가 끝까지 읽었으면 이어서 {@code onAllDataRead}를 부른다.
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException ex) {
+                        readListener.onError(ex);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.soundbar91.naga.common.idempotency;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@link JdbcIdempotencyStore}가 쓰는 응답 테이블. 읽기와 쓰기는 JDBC로 하고 엔티티는 스키마 정의에만 쓴다.
+ */
+@Getter
+@Entity
+@Table(
+    name = IdempotencyRecord.TABLE,
+    indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+)
+@NoArgsConstructor(access = PROTECTED)
+public class IdempotencyRecord {
+
+    public static final String TABLE = "idempotency_keys";
+
+    @Id
+    @Column(name = "idempotency_key", length = 512)
+    private String key;
+
+    @Column(name = "fingerprint", nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column(name = "status", nullable = false)
+    private int status;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Lob
+    @Column(name = "body", nullable = false)
+    private byte[] body;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,18 @@
+package io.soundbar91.naga.common.idempotency;
+
+import java.util.Optional;
+
+/**
+ * 키별 응답 저장소. 보관 기간이 지난 응답은 조회되지 않는다.
+ * <p>
+ * 같은 키의 동시 요청은 {@link IdempotencyFilter}가 인스턴스 안에서 하나로 모으므로 저장소는 단순 조회와 저장만 한다.
+ */
+public interface IdempotencyStore {
+
+    Optional<StoredResponse> find(String key);
+
+    /**
+     * 이미 보관 중인 응답이 있으면 먼저 저장된 응답을 유지한다.
+     */
+    void save(String key, StoredResponse response);
+}
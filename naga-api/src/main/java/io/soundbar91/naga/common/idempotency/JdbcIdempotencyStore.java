@@ -0,0 +1,80 @@
+package io.soundbar91.naga.common.idempotency;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 응답을 {@code idempotency_keys} 테이블에 보관해 인스턴스 사이와 재시작 뒤에도 재시도를 처리한다.
+ * <p>
+ * 두 인스턴스가 같은 키를 동시에 처리하면 둘 다 서비스를 호출할 수 있으며, 먼저 저장한 응답이 이후 재시도에 쓰인다.
+ * 보관 기간이 지난 행은 조회에서 제외하고 {@link #deleteExpired()}가 주기적으로 지운다.
+ */
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final String SELECT = "select fingerprint, status, content_type, body from " + IdempotencyRecord.TABLE
+        + " where idempotency_key = :key and expires_at > :now";
+    private static final String INSERT = "insert into " + IdempotencyRecord.TABLE
+        + " (idempotency_key, fingerprint, status, content_type, body, expires_at)"
+        + " values (:key, :fingerprint, :status, :contentType, :body, :expiresAt)";
+    private static final String DELETE_EXPIRED_KEY = "delete from " + IdempotencyRecord.TABLE
+        + " where idempotency_key = :key and expires_at <= :now";
+    private static final String DELETE_EXPIRED = "delete from " + IdempotencyRecord.TABLE + " where expires_at <= :now";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+
+    public JdbcIdempotencyStore(NamedParameterJdbcTemplate jdbcTemplate, Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<StoredResponse> find(String key) {
+        List<StoredResponse> rows = jdbcTemplate.query(SELECT, Map.of("key", key, "now", LocalDateTime.now()),
+            (rs, rowNum) -> new StoredResponse(
+                rs.getString("fingerprint"),
+                rs.getInt("status"),
+                rs.getString("content_type"),
+                rs.getBytes("body")
+            ));
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public void save(String key, StoredResponse response) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(DELETE_EXPIRED_KEY, Map.of("key", key, "now", now));
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("key", key);
+        params.put("fingerprint", response.fingerprint());
+        params.put("status", response.status());
+        params.put("contentType", response.contentType());
+        params.put("body", response.body());
+        params.put("expiresAt", now.plus(ttl));
+        try {
+            jdbcTemplate.update(INSERT, params);
+        } catch (DuplicateKeyException ex) {
+            log.debug("다른 인스턴스가 먼저 저장한 Idempotency-Key: {}", key);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${naga.idempotency.cleanup-interval:10m}")
+    public void deleteExpired() {
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED, Map.of("now", LocalDateTime.now()));
+        if (deleted > 0) {
+            log.debug("보관 기간이 지난 Idempotency-Key 정리: {}건", deleted);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.soundbar91.naga.common.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.common.support.ExpiringCache;
+
+/**
+ * 인스턴스 메모리에 응답을 보관한다. 크기를 넘으면 가장 오래 쓰지 않은 키부터 잊으며, 잊은 키의 재시도는 다시 처리된다.
+ * 지표는 {@code naga.cache.*{cache="idempotency"}}로 노출된다.
+ */
+public class MemoryIdempotencyStore implements IdempotencyStore {
+
+    private final ExpiringCache<String, StoredResponse> responses;
+
+    public MemoryIdempotencyStore(int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.responses = new ExpiringCache<>("idempotency", maxSize, ttl, meterRegistry);
+    }
+
+    @Override
+    public Optional<StoredResponse> find(String key) {
+        return responses.getIfPresent(key);
+    }
+
+    @Override
+    public void save(String key, StoredResponse response) {
+        if (responses.getIfPresent(key).isEmpty()) {
+            responses.put(key, response);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.soundbar91.naga.common.idempotency;
+
+/**
+ * {@code Idempotency-Key}로 처리한 요청의 응답. 재시도에는 서비스를 호출하지 않고 이 값을 그대로 쓴다.
+ *
+ * @param fingerprint 요청 본문의 SHA-256. 같은 키로 다른 요청을 보냈는지 확인한다
+ * @param status      HTTP 상태 코드
+ * @param contentType 응답 Content-Type, 없으면 null
+ * @param body        응답 본문
+ */
+public record StoredResponse(String fingerprint, int status, String contentType, byte[] body) {
+}
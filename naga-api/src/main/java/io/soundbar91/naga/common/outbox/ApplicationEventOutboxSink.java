@@ -0,0 +1,24 @@
+package io.soundbar91.naga.common.outbox;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림을 같은 프로세스의 {@code @EventListener(OutboxMessage.class)}로 전달한다.
+ * 리스너는 릴레이 트랜잭션 안에서 동기로 실행되므로 오래 걸리는 작업은 {@code @Async}로 넘긴다.
+ */
+@RequiredArgsConstructor
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            eventPublisher.publishEvent(message);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.soundbar91.naga.common.outbox;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 엔티티 변경과 같은 트랜잭션에 기록하는 외부 알림. {@link OutboxRelay}가 발행한 뒤 지운다.
+ * 발행 전까지만 남는 행이므로 소프트 삭제와 수정 시각을 두지 않는다.
+ */
+@Getter
+@Entity
+@Table(name = OutboxEvent.TABLE)
+@NoArgsConstructor(access = PROTECTED)
+public class OutboxEvent {
+
+    public static final String TABLE = "outbox_events";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    private OutboxEvent(String aggregateType, Long aggregateId, String eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static OutboxEvent create(String aggregateType, Long aggregateId, String eventType, String payload) {
+        return new OutboxEvent(aggregateType, aggregateId, eventType, payload);
+    }
+}
@@ -0,0 +1,6 @@
+package io.soundbar91.naga.common.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+}
@@ -0,0 +1,18 @@
+package io.soundbar91.naga.common.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@link OutboxSink}에 전달하는 알림. 같은 알림이 두 번 이상 전달될 수 있으므로 받는 쪽은 {@code id}로 중복을 거른다.
+ *
+ * @param payload {@code eventType}별 JSON 본문
+ */
+public record OutboxMessage(
+    Long id,
+    String aggregateType,
+    Long aggregateId,
+    String eventType,
+    String payload,
+    LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,139 @@
+package io.soundbar91.naga.common.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.soundbar91.naga.config.OutboxProperties;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 알림을 배치로 가져와 {@link OutboxSink}에 발행하고 지운다.
+ * <p>
+ * 배치마다 별도의 트랜잭션에서 {@code id} 순으로 최대 {@code batchSize}개 행을 {@code FOR UPDATE SKIP LOCKED}로 잠근다.
+ * 다른 인스턴스가 잠근 행은 건너뛰므로 여러 인스턴스가 동시에 실행해도 같은 알림을 나눠 갖지 않는다.
+ * 발행에 실패하면 트랜잭션을 롤백해 행을 남기고 다음 실행에서 다시 발행한다(최소 한 번 전달).
+ * 인스턴스 사이에는 발행 순서가 보장되지 않으므로 받는 쪽은 순서 대신 집합체 상태를 기준으로 처리한다.
+ * <p>
+ * {@code naga.outbox.published}(처리량), {@code naga.outbox.failures}, {@code naga.outbox.lag}(기록부터 발행까지),
+ * {@code naga.outbox.oldest.age}(남아 있는 가장 오래된 알림의 나이, 초) 지표를 노출한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "naga.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final String CLAIM_SQL = "select id, aggregate_type, aggregate_id, event_type, payload, created_at from "
+        + OutboxEvent.TABLE + " order by id limit :limit for update skip locked";
+    private static final String DELETE_SQL = "delete from " + OutboxEvent.TABLE + " where id in (:ids)";
+    private static final String OLDEST_SQL = "select created_at from " + OutboxEvent.TABLE + " order by id limit 1";
+
+    private static final RowMapper<OutboxMessage> MESSAGE_MAPPER = (rs, rowNum) -> new OutboxMessage(
+        rs.getLong("id"),
+        rs.getString("aggregate_type"),
+        rs.getLong("aggregate_id"),
+        rs.getString("event_type"),
+        rs.getString("payload"),
+        rs.getObject("created_at", LocalDateTime.class)
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxSink sink;
+    private final OutboxProperties properties;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer lag;
+    private final AtomicReference<LocalDateTime> oldestPending = new AtomicReference<>();
+
+    public OutboxRelay(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        OutboxSink sink,
+        OutboxProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.sink = sink;
+        this.properties = properties;
+        this.published = Counter.builder("naga.outbox.published")
+            .description("발행한 아웃박스 알림 수")
+            .register(meterRegistry);
+        this.failures = Counter.builder("naga.outbox.failures")
+            .description("발행에 실패해 다음 실행으로 미룬 배치 수")
+            .register(meterRegistry);
+        this.lag = Timer.builder("naga.outbox.lag")
+            .description("알림을 기록한 뒤 발행하기까지 걸린 시간")
+            .register(meterRegistry);
+        Gauge.builder("naga.outbox.oldest.age", this, OutboxRelay::oldestPendingAgeSeconds)
+            .description("발행되지 않은 가장 오래된 알림의 나이(초)")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${naga.outbox.interval:1s}")
+    public void run() {
+        relay();
+    }
+
+    /**
+     * 남은 알림을 발행하고 발행한 수를 반환한다. 한 번에 최대 {@code maxBatchesPerRun}개 배치까지 처리하며 나머지는 다음 실행에서 이어간다.
+     */
+    public int relay() {
+        int total = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            List<OutboxMessage> messages;
+            try {
+                messages = transactionTemplate.execute(status -> {
+                    List<OutboxMessage> claimed = jdbcTemplate.query(CLAIM_SQL, Map.of("limit", properties.batchSize()), MESSAGE_MAPPER);
+                    if (claimed.isEmpty()) {
+                        return claimed;
+                    }
+                    sink.publish(claimed);
+                    jdbcTemplate.update(DELETE_SQL, Map.of("ids", claimed.stream().map(OutboxMessage::id).toList()));
+                    return claimed;
+                });
+            } catch (RuntimeException ex) {
+                failures.increment();
+                log.warn("아웃박스 발행 실패, 다음 실행에서 다시 시도합니다", ex);
+                break;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            for (OutboxMessage message : messages) {
+                lag.record(Duration.between(message.createdAt(), now));
+            }
+            published.increment(messages.size());
+            total += messages.size();
+            if (messages.size() < properties.batchSize()) {
+                break;
+            }
+        }
+        refreshOldestPending();
+        return total;
+    }
+
+    private void refreshOldestPending() {
+        List<LocalDateTime> oldest = jdbcTemplate.query(OLDEST_SQL, Map.of(),
+            (rs, rowNum) -> rs.getObject("created_at", LocalDateTime.class));
+        oldestPending.set(oldest.isEmpty() ? null : oldest.getFirst());
+    }
+
+    private double oldestPendingAgeSeconds() {
+        LocalDateTime oldest = oldestPending.get();
+        return oldest == null ? 0 : Duration.between(oldest, LocalDateTime.now()).toMillis() / 1000.0;
+    }
+}
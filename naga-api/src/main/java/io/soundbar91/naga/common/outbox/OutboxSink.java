@@ -0,0 +1,13 @@
+package io.soundbar91.naga.common.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 알림을 받는 곳. 메일, 분석, 채점 계정 같은 하위 시스템으로 보내는 구현을 둔다.
+ * <p>
+ * 예외를 던지면 배치 전체가 다음 실행에서 다시 전달된다. 일부만 전달된 뒤 실패해도 배치 전체가 다시 전달된다.
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,35 @@
+package io.soundbar91.naga.common.outbox;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 엔티티 변경과 같은 트랜잭션에 알림을 기록한다. 변경이 롤백되면 알림도 남지 않고, 커밋되면 {@link OutboxRelay}가 반드시 발행한다.
+ * 진행 중인 트랜잭션 없이 호출하면 실패한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        outboxEventRepository.save(OutboxEvent.create(aggregateType, aggregateId, eventType, toJson(payload)));
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("아웃박스 알림을 JSON으로 변환할 수 없습니다", ex);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.soundbar91.naga.common.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 키마다 {@link TokenBucket}을 두는 빈도 제한기.
+ * <p>
+ * 키 수는 {@code maxKeys}로 제한한다. 자리가 없으면 새 키들은 다음 {@link #evictIdle()}이 가득 찬(쉬고 있는) 버킷을 지울 때까지
+ * 버킷 하나를 함께 쓴다. 키를 바꿔 가며 보내는 요청도 메모리를 늘리지 못하고 제한에서 빠지지도 못한다.
+ * 요청 경로에서 키 전체를 훑지 않도록 지우기는 주기 작업에 맡긴다.
+ * <p>
+ * 가득 찬 버킷을 지우는 사이 같은 키의 요청이 지워지는 버킷에서 토큰을 꺼내면 그 토큰은 새 버킷에 반영되지 않는다.
+ * 쉬고 있던 키에서만 생기며 한 번 지울 때 키마다 최대 한 요청이다.
+ */
+public class KeyedRateLimiter {
+
+    private final int capacity;
+    private final double refillPerSecond;
+    private final int maxKeys;
+    private final LongSupplier ticker;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final TokenBucket overflow;
+
+    public KeyedRateLimiter(int capacity, double refillPerSecond, int maxKeys) {
+        this(capacity, refillPerSecond, maxKeys, System::nanoTime);
+    }
+
+    KeyedRateLimiter(int capacity, double refillPerSecond, int maxKeys, LongSupplier ticker) {
+        if (maxKeys < 1) {
+            throw new IllegalArgumentException("maxKeys는 1 이상이어야 합니다");
+        }
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.maxKeys = maxKeys;
+        this.ticker = ticker;
+        this.overflow = new TokenBucket(capacity, refillPerSecond, ticker);
+    }
+
+    /**
+     * @return 허용했으면 0, 아니면 토큰이 생길 때까지 남은 나노초
+     */
+    public long tryAcquire(String key) {
+        return bucketFor(key).tryAcquire();
+    }
+
+    /**
+     * {@link #tryAcquire(String)}로 꺼낸 토큰 하나를 되돌린다. 그 사이 키의 버킷이 지워졌으면 되돌릴 것이 없다.
+     */
+    public void refund(String key) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            bucket.refund();
+        } else if (buckets.size() >= maxKeys) {
+            overflow.refund();
+        }
+    }
+
+    /**
+     * 가득 찬 버킷을 지우고 지운 수를 돌려준다.
+     */
+    public int evictIdle() {
+        int evicted = 0;
+        for (String key : buckets.keySet()) {
+            boolean[] removed = new boolean[1];
+            buckets.computeIfPresent(key, (k, bucket) -> {
+                removed[0] = bucket.isFull();
+                return removed[0] ? null : bucket;
+            });
+            if (removed[0]) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private TokenBucket bucketFor(String key) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            return overflow;
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, refillPerSecond, ticker));
+    }
+}
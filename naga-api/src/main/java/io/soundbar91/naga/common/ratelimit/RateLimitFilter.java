@@ -0,0 +1,126 @@
+package io.soundbar91.naga.common.ratelimit;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.common.exception.RateLimitExceededException;
+import io.soundbar91.naga.common.idempotency.IdempotencyFilter;
+import io.soundbar91.naga.config.RateLimitProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가입과 제출처럼 비싼 POST 요청을 클라이언트 IP별, 전체 토큰 버킷으로 제한한다.
+ * <p>
+ * BCrypt 해싱이나 채점 대기열에 닿기 전에 거절하도록 Spring Security 필터보다 앞에 둔다.
+ * 거절은 {@link RateLimitExceededException}을 {@code handlerExceptionResolver}에 넘겨 컨트롤러 예외와 같은 응답 형식으로 쓴다.
+ * <p>
+ * 클라이언트 IP는 {@link HttpServletRequest#getRemoteAddr()}를 쓴다. 프록시 뒤에서는 {@code server.forward-headers-strategy}로
+ * 신뢰할 수 있는 프록시의 {@code X-Forwarded-For}만 반영해야 한다. 헤더를 직접 읽으면 클라이언트가 키를 마음대로 바꿀 수 있다.
+ * <p>
+ * {@code naga.ratelimit.rejected{scope}}, {@code naga.ratelimit.clients} 지표를 노출한다.
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final KeyedRateLimiter clients;
+    private final TokenBucket global;
+    private final Counter clientRejections;
+    private final Counter globalRejections;
+
+    public RateLimitFilter(
+        RateLimitProperties properties,
+        @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+        MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.exceptionResolver = exceptionResolver;
+        RateLimitProperties.Client client = properties.client();
+        this.clients = new KeyedRateLimiter(client.capacity(), client.refillPerSecond(), client.maxClients());
+        this.global = new TokenBucket(properties.global().capacity(), properties.global().refillPerSecond(), System::nanoTime);
+
+        this.clientRejections = Counter.builder("naga.ratelimit.rejected")
+            .description("빈도 제한으로 거절한 요청 수")
+            .tag("scope", "client")
+            .register(meterRegistry);
+        this.globalRejections = Counter.builder("naga.ratelimit.rejected")
+            .description("빈도 제한으로 거절한 요청 수")
+            .tag("scope", "global")
+            .register(meterRegistry);
+        Gauge.builder("naga.ratelimit.clients", clients, KeyedRateLimiter::size)
+            .description("버킷을 따로 둔 클라이언트 수")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.enabled() || !HttpMethod.POST.matches(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !properties.paths().contains(path);
+    }
+
+    /**
+     * 전체 버킷을 먼저 확인해 전체 한도로 거절된 요청이 클라이언트 한도를 쓰지 않게 한다. 클라이언트 버킷이 거절하면 꺼낸
+     * 전체 토큰을 되돌리므로 한 클라이언트의 폭주가 전체 버킷을 비우지 못한다.
+     * <p>
+     * 저장된 응답을 재사용한 멱등 재시도({@link IdempotencyFilter#REPLAYED_HEADER})는 해싱이나 채점을 하지 않으므로
+     * 응답한 뒤 두 토큰을 모두 되돌린다.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        long waitNanos = global.tryAcquire();
+        if (waitNanos > 0) {
+            globalRejections.increment();
+            reject(request, response, waitNanos);
+            return;
+        }
+        String client = request.getRemoteAddr();
+        waitNanos = clients.tryAcquire(client);
+        if (waitNanos > 0) {
+            global.refund();
+            clientRejections.increment();
+            reject(request, response, waitNanos);
+            return;
+        }
+        filterChain.doFilter(request, response);
+        if ("true".equals(response.getHeader(IdempotencyFilter.REPLAYED_HEADER))) {
+            global.refund();
+            clients.refund(client);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${naga.rate-limit.eviction-interval:1m}")
+    public void evictIdleClients() {
+        int evicted = clients.evictIdle();
+        if (evicted > 0) {
+            log.debug("쉬고 있는 클라이언트 버킷 정리: {}개", evicted);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        exceptionResolver.resolveException(request, response, null, new RateLimitExceededException(retryAfterSeconds));
+    }
+}
@@ -0,0 +1,70 @@
+package io.soundbar91.naga.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 상태를 {@code long} 하나로 표현하는 락 없는 토큰 버킷.
+ * <p>
+ * 토큰 수와 마지막 충전 시각 대신, 지금까지 허용한 요청을 일정 간격으로 늘어놓았을 때 다음 요청이 놓일 시각(TAT)만 저장한다(GCRA).
+ * TAT가 현재 시각보다 {@code capacity}개 간격 이상 앞서 있으면 버킷이 빈 것이다. 허용은 CAS 한 번으로 TAT를 한 간격 미루는 것이므로
+ * 락을 잡지 않고, 할당도 없다.
+ * <p>
+ * TAT가 현재 시각 이전이면 버킷이 가득 찬 상태로 새 버킷과 구별되지 않는다. {@link #isFull()}인 버킷은 지워도 결과가 같다.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongSupplier ticker;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param capacity        한 번에 허용할 수 있는 최대 요청 수
+     * @param refillPerSecond 초당 채워지는 토큰 수
+     */
+    public TokenBucket(int capacity, double refillPerSecond, LongSupplier ticker) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다");
+        }
+        if (!(refillPerSecond > 0)) {
+            throw new IllegalArgumentException("refillPerSecond는 0보다 커야 합니다");
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * capacity;
+        this.ticker = ticker;
+        this.theoreticalArrival = new AtomicLong(ticker.getAsLong());
+    }
+
+    /**
+     * 토큰 하나를 꺼낸다.
+     *
+     * @return 허용했으면 0, 아니면 토큰이 생길 때까지 남은 나노초
+     */
+    public long tryAcquire() {
+        long now = ticker.getAsLong();
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - burstNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * {@link #tryAcquire()}로 꺼낸 토큰 하나를 되돌린다. 토큰을 꺼낸 뒤 다른 이유로 요청을 처리하지 않았을 때 쓴다.
+     * 그 사이 버킷이 가득 찼다면 되돌려도 가득 찬 상태 그대로다.
+     */
+    public void refund() {
+        theoreticalArrival.addAndGet(-intervalNanos);
+    }
+
+    public boolean isFull() {
+        return theoreticalArrival.get() - ticker.getAsLong() <= 0;
+    }
+}
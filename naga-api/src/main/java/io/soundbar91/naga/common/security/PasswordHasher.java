@@ -0,0 +1,183 @@
+package io.soundbar91.naga.common.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.soundbar91.naga.common.concurrent.ConcurrencyLimiter;
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.config.PasswordHashingProperties;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * BCrypt 해싱을 전용 스레드 풀에서 수행한다.
+ * <p>
+ * 해싱은 트랜잭션 밖에서 호출되어야 하며, 대기열이 가득 차면 요청을 쌓아두지 않고
+ * {@link ErrorCode#PASSWORD_HASHING_BUSY}로 즉시 거절한다.
+ * <p>
+ * 가상 스레드 모드에서는 스레드 풀을 거치지 않고 호출한 가상 스레드에서 바로 해싱하되,
+ * {@link ConcurrencyLimiter}로 동시 해싱 수를 풀 크기로, 대기자 수를 대기열 크기로 제한한다.
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService executor;
+    private final ConcurrencyLimiter inlineLimiter;
+    private final long timeoutNanos;
+    private final int bulkParallelism;
+
+    @Autowired
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordHashingProperties properties, Environment environment) {
+        this(passwordEncoder, properties, Threading.VIRTUAL.isActive(environment));
+    }
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordHashingProperties properties, boolean virtualThreads) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutNanos = properties.timeout().toNanos();
+        this.bulkParallelism = properties.resolvedBulkParallelism();
+
+        int poolSize = properties.resolvedPoolSize();
+        if (virtualThreads) {
+            this.inlineLimiter = new ConcurrencyLimiter(
+                "password-hashing", poolSize, properties.queueCapacity(), properties.timeout());
+            this.executor = Executors.newVirtualThreadPerTaskExecutor();
+            return;
+        }
+
+        this.inlineLimiter = null;
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.queueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "password-hasher-" + threadSequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public String hash(String rawPassword) {
+        if (inlineLimiter != null) {
+            return hashInline(rawPassword);
+        }
+
+        Future<String> future;
+        try {
+            future = executor.submit(() -> passwordEncoder.encode(rawPassword));
+        } catch (RejectedExecutionException ex) {
+            throw new BusinessException(ErrorCode.PASSWORD_HASHING_BUSY);
+        }
+        return await(future);
+    }
+
+    /**
+     * 여러 비밀번호를 병렬로 해싱한다. 대량 작업이 해싱 풀 전체를 차지하지 않도록
+     * 동시에 {@code bulkParallelism}개까지만 제출하고, 대기열이 가득 차면 호출 스레드에서 직접 해싱한다.
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        Semaphore permits = new Semaphore(bulkParallelism);
+        List<CompletableFuture<String>> futures = new ArrayList<>(rawPasswords.size());
+
+        for (String rawPassword : rawPasswords) {
+            permits.acquireUninterruptibly();
+            CompletableFuture<String> future = new CompletableFuture<>();
+            Runnable task = () -> {
+                if (inlineLimiter != null) {
+                    inlineLimiter.acquireUninterruptibly();
+                }
+                try {
+                    future.complete(passwordEncoder.encode(rawPassword));
+                } catch (RuntimeException ex) {
+                    future.completeExceptionally(ex);
+                } finally {
+                    if (inlineLimiter != null) {
+                        inlineLimiter.release();
+                    }
+                    permits.release();
+                }
+            };
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException ex) {
+                task.run();
+            }
+            futures.add(future);
+        }
+
+        try {
+            return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private String hashInline(String rawPassword) {
+        boolean acquired;
+        try {
+            acquired = inlineLimiter.tryAcquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.PASSWORD_HASHING_BUSY);
+        }
+        if (!acquired) {
+            throw new BusinessException(ErrorCode.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return passwordEncoder.encode(rawPassword);
+        } finally {
+            inlineLimiter.release();
+        }
+    }
+
+    private String await(Future<String> future) {
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new BusinessException(ErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,121 @@
+package io.soundbar91.naga.common.support;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 락 없이 동시에 읽고 쓸 수 있는 문자열 Bloom filter.
+ * <p>
+ * 거짓 음성은 없고, 거짓 양성 확률은 비트 수와 해시 함수 개수로 결정된다.
+ * 해시는 문자 단위로 계산해 조회 시 바이트 배열을 만들지 않는다.
+ */
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final LongAdder bitsSet = new LongAdder();
+
+    private BloomFilter(long bitSize, int hashFunctions) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + 63) >>> 6));
+        this.bitSize = (long) words.length() << 6;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  목표 거짓 양성 확률
+     * @param maxBits            비트 배열 상한, 목표 확률을 맞추려면 더 필요해도 이 크기를 넘지 않는다
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate, long maxBits) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("expectedInsertions는 1 이상이어야 합니다");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다");
+        }
+        if (maxBits < 64) {
+            throw new IllegalArgumentException("maxBits는 64 이상이어야 합니다");
+        }
+
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        long bits = Math.max(64, Math.min(optimalBits, maxBits));
+        int hashFunctions = (int) Math.max(1, Math.round((double) bits / expectedInsertions * LN2));
+        return new BloomFilter(bits, hashFunctions);
+    }
+
+    public boolean put(CharSequence value) {
+        long hash = fnv1a(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+
+        boolean changed = false;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            if (setBit(bit)) {
+                bitsSet.increment();
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    public boolean mightContain(CharSequence value) {
+        long hash = fnv1a(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 채워진 비트 비율로 추정한 거짓 양성 확률.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitsSet.sum() / bitSize, hashFunctions);
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private boolean setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current;
+        do {
+            current = words.get(index);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!words.compareAndSet(index, current, current | mask));
+        return true;
+    }
+
+    private static long fnv1a(CharSequence value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,233 @@
+package io.soundbar91.naga.common.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 크기와 TTL로 제한하는 프로세스 내 읽기 캐시.
+ * <p>
+ * 키 해시로 나눈 구간마다 접근 순서 {@link LinkedHashMap}과 락을 두어 크기를 넘으면 가장 오래 쓰지 않은 항목을 지운다.
+ * 만료된 항목은 읽을 때 지운다. 없는 키를 동시에 읽으면 한 스레드만 적재하고 나머지는 그 결과를 기다린다.
+ * 적재 결과가 비어 있으면 캐시하지 않는다.
+ * <p>
+ * 적재 중에 같은 구간의 키가 무효화되면 적재 결과를 캐시하지 않는다. 무효화 전에 읽은 값이 무효화 뒤에 들어가는 것을 막기 위해서다.
+ * <p>
+ * {@code naga.cache.gets{cache,result}}, {@code naga.cache.evictions{cache,cause}}, {@code naga.cache.load{cache}},
+ * {@code naga.cache.size{cache}} 지표를 노출한다.
+ */
+public class ExpiringCache<K, V> {
+
+    private static final int SEGMENTS = 16;
+
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final List<Segment> segments;
+    private final Map<K, CompletableFuture<Optional<V>>> loading = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expirations;
+    private final Timer loadTimer;
+
+    public ExpiringCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this(name, maxSize, ttl, meterRegistry, System::nanoTime);
+    }
+
+    ExpiringCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry, LongSupplier ticker) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl은 0보다 커야 합니다");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        int segmentSize = Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS);
+        List<Segment> segments = new ArrayList<>(SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments.add(new Segment(segmentSize));
+        }
+        this.segments = List.copyOf(segments);
+
+        this.hits = Counter.builder("naga.cache.gets")
+            .description("캐시 조회 수")
+            .tag("cache", name)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("naga.cache.gets")
+            .description("캐시 조회 수")
+            .tag("cache", name)
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.sizeEvictions = Counter.builder("naga.cache.evictions")
+            .description("캐시에서 지운 항목 수")
+            .tag("cache", name)
+            .tag("cause", "size")
+            .register(meterRegistry);
+        this.expirations = Counter.builder("naga.cache.evictions")
+            .description("캐시에서 지운 항목 수")
+            .tag("cache", name)
+            .tag("cause", "expired")
+            .register(meterRegistry);
+        this.loadTimer = Timer.builder("naga.cache.load")
+            .description("캐시에 없는 값을 적재한 시간")
+            .tag("cache", name)
+            .register(meterRegistry);
+        Gauge.builder("naga.cache.size", this, ExpiringCache::size)
+            .description("캐시 항목 수")
+            .tag("cache", name)
+            .register(meterRegistry);
+    }
+
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        Segment segment = segmentFor(key);
+        long generation;
+        synchronized (segment) {
+            Entry<V> entry = segment.entries.get(key);
+            if (entry != null) {
+                if (ticker.getAsLong() - entry.loadedAt < ttlNanos) {
+                    hits.increment();
+                    return Optional.of(entry.value);
+                }
+                segment.entries.remove(key);
+                expirations.increment();
+            }
+            generation = segment.generation;
+        }
+        misses.increment();
+
+        CompletableFuture<Optional<V>> created = new CompletableFuture<>();
+        CompletableFuture<Optional<V>> inFlight = loading.putIfAbsent(key, created);
+        if (inFlight != null) {
+            return join(inFlight);
+        }
+
+        try {
+            long startedAt = ticker.getAsLong();
+            Optional<V> loaded = loader.apply(key);
+            loadTimer.record(ticker.getAsLong() - startedAt, TimeUnit.NANOSECONDS);
+            loaded.ifPresent(value -> put(segment, key, value, generation));
+            created.complete(loaded);
+            return loaded;
+        } catch (RuntimeException ex) {
+            created.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loading.remove(key, created);
+        }
+    }
+
+    /**
+     * 적재하지 않고 캐시에 있는 값만 돌려준다.
+     */
+    public Optional<V> getIfPresent(K key) {
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            Entry<V> entry = segment.entries.get(key);
+            if (entry != null) {
+                if (ticker.getAsLong() - entry.loadedAt < ttlNanos) {
+                    hits.increment();
+                    return Optional.of(entry.value);
+                }
+                segment.entries.remove(key);
+                expirations.increment();
+            }
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 적재 결과가 아니라 호출자가 만든 값을 넣는다. 같은 키에 진행 중인 적재가 있으면 그 결과는 캐시되지 않는다.
+     */
+    public void put(K key, V value) {
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.generation++;
+            segment.entries.put(key, new Entry<>(value, ticker.getAsLong()));
+        }
+    }
+
+    /**
+     * 진행 중인 적재도 잊으므로 이후 조회는 새로 적재한다.
+     */
+    public void invalidate(K key) {
+        Segment segment = segmentFor(key);
+        synchronized (segment) {
+            segment.generation++;
+            segment.entries.remove(key);
+        }
+        loading.remove(key);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    private void put(Segment segment, K key, V value, long generation) {
+        synchronized (segment) {
+            if (segment.generation == generation) {
+                segment.entries.put(key, new Entry<>(value, ticker.getAsLong()));
+            }
+        }
+    }
+
+    private Optional<V> join(CompletableFuture<Optional<V>> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private Segment segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments.get((hash ^ (hash >>> 16)) & (SEGMENTS - 1));
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+
+    private final class Segment {
+
+        private final Map<K, Entry<V>> entries;
+        private long generation;
+
+        private Segment(int maxSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() > maxSize) {
+                        sizeEvictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
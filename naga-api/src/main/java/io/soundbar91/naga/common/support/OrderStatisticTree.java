@@ -0,0 +1,187 @@
+package io.soundbar91.naga.common.support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 서브트리 크기를 함께 저장하는 treap 기반 순서 통계 트리.
+ * <p>
+ * 추가, 삭제, 순위 조회, k번째 원소 조회가 기대 O(log n)이고, k번째부터 m개를 읽는 구간 조회는 O(log n + m)이다.
+ * 비교자가 0을 돌려주는 원소는 같은 원소로 보고 중복해서 넣지 않는다. 스레드 안전하지 않으므로 호출자가 동기화해야 한다.
+ */
+public class OrderStatisticTree<T> {
+
+    private final Comparator<? super T> comparator;
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<T> root;
+
+    public OrderStatisticTree(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * @return 같은 원소가 이미 있어 넣지 않았으면 {@code false}
+     */
+    public boolean add(T value) {
+        if (contains(value)) {
+            return false;
+        }
+        Split<T> split = split(root, value, false);
+        root = merge(merge(split.left, new Node<>(value, random.nextInt())), split.right);
+        return true;
+    }
+
+    /**
+     * @return 같은 원소가 없어 지우지 않았으면 {@code false}
+     */
+    public boolean remove(T value) {
+        Split<T> less = split(root, value, false);
+        Split<T> equal = split(less.right, value, true);
+        root = merge(less.left, equal.right);
+        return equal.left != null;
+    }
+
+    public boolean contains(T value) {
+        Node<T> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(value, node.value);
+            if (cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * 트리에 없는 값도 받을 수 있으며, 그 값보다 작은 원소 수를 돌려준다. 트리에 있는 값이면 0부터 시작하는 위치와 같다.
+     */
+    public int rank(T value) {
+        int rank = 0;
+        Node<T> node = root;
+        while (node != null) {
+            if (comparator.compare(value, node.value) <= 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * @param index 0부터 시작하는 위치
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+        }
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * {@code fromIndex} 위치부터 최대 {@code limit}개를 순서대로 돌려준다. 범위를 벗어나면 빈 목록이다.
+     */
+    public List<T> range(int fromIndex, int limit) {
+        if (fromIndex < 0 || limit < 0) {
+            throw new IllegalArgumentException("fromIndex와 limit은 0 이상이어야 합니다");
+        }
+        List<T> values = new ArrayList<>(Math.min(limit, Math.max(0, size() - fromIndex)));
+        collect(root, fromIndex, limit, values);
+        return values;
+    }
+
+    private void collect(Node<T> node, int fromIndex, int limit, List<T> values) {
+        if (node == null || values.size() == limit) {
+            return;
+        }
+        int leftSize = size(node.left);
+        if (fromIndex < leftSize) {
+            collect(node.left, fromIndex, limit, values);
+        }
+        if (fromIndex <= leftSize && values.size() < limit) {
+            values.add(node.value);
+        }
+        collect(node.right, Math.max(0, fromIndex - leftSize - 1), limit, values);
+    }
+
+    /**
+     * 왼쪽에 {@code value}보다 작은 원소를, {@code inclusive}이면 같은 원소까지 모은다.
+     */
+    private Split<T> split(Node<T> node, T value, boolean inclusive) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        int cmp = comparator.compare(node.value, value);
+        if (cmp < 0 || (inclusive && cmp == 0)) {
+            Split<T> split = split(node.right, value, inclusive);
+            node.right = split.left;
+            node.update();
+            return new Split<>(node, split.right);
+        }
+        Split<T> split = split(node.left, value, inclusive);
+        node.left = split.right;
+        node.update();
+        return new Split<>(split.left, node);
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<T> {
+
+        private final T value;
+        private final int priority;
+        private Node<T> left;
+        private Node<T> right;
+        private int size = 1;
+
+        private Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = size(left) + size(right) + 1;
+        }
+    }
+
+    private record Split<T>(Node<T> left, Node<T> right) {
+    }
+}
@@ -0,0 +1,24 @@
+package io.soundbar91.naga.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import io.soundbar91.naga.common.archive.ArchiveTarget;
+import io.soundbar91.naga.user.entity.UserArchive;
+
+/**
+ * 소프트 삭제 행 보관 대상. 새 엔티티를 보관하려면 보관 엔티티를 만들고 대상을 추가한다.
+ */
+@Configuration
+@EnableScheduling
+public class ArchiveConfiguration {
+
+    @Bean
+    public ArchiveTarget userArchiveTarget() {
+        return new ArchiveTarget("users", UserArchive.TABLE,
+            List.of("id", "email", "password", "created_at", "updated_at", "deleted_at"));
+    }
+}
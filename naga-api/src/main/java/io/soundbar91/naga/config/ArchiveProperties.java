@@ -0,0 +1,38 @@
+package io.soundbar91.naga.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 소프트 삭제 행 보관 작업 설정.
+ *
+ * @param enabled          보관 작업 실행 여부
+ * @param retention        삭제 후 라이브 테이블에 남겨 두는 기간
+ * @param batchSize        한 트랜잭션에서 옮기는 최대 행 수
+ * @param throttle         배치 사이 대기 시간. 라이브 테이블의 잠금과 복제 지연을 분산한다
+ * @param maxBatchesPerRun 한 번 실행에서 처리하는 최대 배치 수
+ * @param interval         실행 간격(이전 실행 종료 기준)
+ */
+@ConfigurationProperties(prefix = "naga.archive")
+public record ArchiveProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("30d") Duration retention,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("200ms") Duration throttle,
+    @DefaultValue("100") int maxBatchesPerRun,
+    @DefaultValue("1h") Duration interval
+) {
+    public ArchiveProperties {
+        if (retention.isNegative()) {
+            throw new IllegalArgumentException("retention은 0 이상이어야 합니다");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다");
+        }
+        if (maxBatchesPerRun < 1) {
+            throw new IllegalArgumentException("maxBatchesPerRun은 1 이상이어야 합니다");
+        }
+    }
+}
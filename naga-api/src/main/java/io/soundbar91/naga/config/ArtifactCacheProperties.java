@@ -0,0 +1,27 @@
+package io.soundbar91.naga.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 컴파일 결과 캐시 설정.
+ *
+ * @param enabled   false이면 매번 컴파일한다
+ * @param directory 캐시 디렉터리, 없으면 {@code java.io.tmpdir/naga-judge-cache}를 사용
+ * @param maxSize   캐시 전체 크기 상한, 넘으면 가장 오래 쓰이지 않은 항목부터 지운다
+ * @param namespace 캐시 키에 섞는 값. 컴파일러를 업그레이드하면 바꿔서 이전 결과를 무효화한다
+ */
+@ConfigurationProperties(prefix = "naga.judge.artifact-cache")
+public record ArtifactCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    Path directory,
+    @DefaultValue("1GB") DataSize maxSize,
+    @DefaultValue("v1") String namespace
+) {
+    public Path resolvedDirectory() {
+        return directory != null ? directory : Path.of(System.getProperty("java.io.tmpdir"), "naga-judge-cache");
+    }
+}
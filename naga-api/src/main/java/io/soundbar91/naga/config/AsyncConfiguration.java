@@ -0,0 +1,13 @@
+package io.soundbar91.naga.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * {@code @Async}는 Spring Boot의 {@code applicationTaskExecutor}를 사용하며,
+ * {@code spring.threads.virtual.enabled=true}이면 Tomcat 요청 처리와 함께 가상 스레드로 전환된다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfiguration {
+}
@@ -0,0 +1,62 @@
+package io.soundbar91.naga.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.common.concurrent.ConcurrencyLimitedDataSource;
+import io.soundbar91.naga.common.concurrent.ConcurrencyLimiter;
+
+/**
+ * Hikari 커넥션 풀 앞에 {@link ConcurrencyLimiter}를 둔다.
+ * <p>
+ * 가상 스레드 모드({@code spring.threads.virtual.enabled=true})에서는 요청 스레드 수에 상한이 없어
+ * Hikari 대기열에 수천 개의 스레드가 쌓일 수 있다. 대기자 수와 대기 시간을 제한해 초과분은 바로 실패시킨다.
+ * 플랫폼 스레드 모드에서는 요청 스레드 수가 이미 제한되므로 기본으로 끄고, {@code virtual-threads} 프로필에서만
+ * {@code naga.concurrency.jdbc.enabled}로 켠다.
+ * <p>
+ * 풀마다 제한기를 따로 둔다. 기본 {@code dataSource} 풀의 제한기 이름은 {@code jdbc}이고, 읽기/쓰기 라우팅처럼 풀이 여럿이면
+ * {@code jdbc.<빈 이름>}이다.
+ */
+@Configuration
+public class ConcurrencyConfiguration {
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    static BeanPostProcessor jdbcConcurrencyLimiterPostProcessor(
+        ObjectProvider<ConcurrencyProperties> properties,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource dataSource)) {
+                    return bean;
+                }
+
+                ConcurrencyProperties.Jdbc jdbc = properties.getObject().jdbc();
+                if (!jdbc.enabled()) {
+                    return bean;
+                }
+
+                int maxConcurrent = jdbc.maxConcurrent() > 0 ? jdbc.maxConcurrent() : poolSize(dataSource);
+                ConcurrencyLimiter limiter = new ConcurrencyLimiter(limiterName(beanName), maxConcurrent, jdbc.maxWaiting(), jdbc.timeout());
+                meterRegistry.ifAvailable(limiter::bindTo);
+                return new ConcurrencyLimitedDataSource(dataSource, limiter);
+            }
+        };
+    }
+
+    private static String limiterName(String beanName) {
+        return "dataSource".equals(beanName) ? "jdbc" : "jdbc." + beanName;
+    }
+
+    private static int poolSize(HikariDataSource dataSource) {
+        return dataSource.getMaximumPoolSize() > 0 ? dataSource.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+    }
+}
@@ -0,0 +1,32 @@
+package io.soundbar91.naga.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 공유 자원 앞 동시 실행 제한 설정.
+ *
+ * @param jdbc 커넥션 풀 앞 제한
+ */
+@ConfigurationProperties(prefix = "naga.concurrency")
+public record ConcurrencyProperties(
+    @DefaultValue Jdbc jdbc
+) {
+
+    /**
+     * @param enabled       true일 때만 커넥션 풀을 감싼다. 꺼져 있으면 Hikari {@code connectionTimeout}만 적용되며,
+     *                      가상 스레드 프로필에서만 켠다
+     * @param maxConcurrent 동시에 빌릴 수 있는 커넥션 수, 0 이하이면 Hikari {@code maximumPoolSize}를 사용
+     * @param maxWaiting    커넥션을 기다릴 수 있는 최대 요청 수, 초과하면 즉시 {@code DATABASE_BUSY}
+     * @param timeout       커넥션 허가를 기다리는 최대 시간
+     */
+    public record Jdbc(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0") int maxConcurrent,
+        @DefaultValue("1000") int maxWaiting,
+        @DefaultValue("5s") Duration timeout
+    ) {
+    }
+}
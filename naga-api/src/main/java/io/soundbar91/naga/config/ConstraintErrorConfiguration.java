@@ -0,0 +1,20 @@
+package io.soundbar91.naga.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.soundbar91.naga.common.exception.ConstraintError;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.user.entity.User;
+
+/**
+ * 에러 코드로 바꿀 DB 제약. 새 제약을 응답에 드러내려면 대상을 추가한다.
+ */
+@Configuration
+public class ConstraintErrorConfiguration {
+
+    @Bean
+    public ConstraintError userEmailConstraintError() {
+        return new ConstraintError(User.EMAIL_UNIQUE_CONSTRAINT, ErrorCode.USER_EMAIL_ALREADY_EXISTS);
+    }
+}
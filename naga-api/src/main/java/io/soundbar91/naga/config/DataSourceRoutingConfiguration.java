@@ -0,0 +1,75 @@
+package io.soundbar91.naga.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.common.datasource.ReplicaFallbackDataSource;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 원본으로 보낸다.
+ * <p>
+ * 애플리케이션이 쓰는 {@code dataSource}는 원본 앞의 {@link LazyConnectionDataSourceProxy}다. 트랜잭션을 시작해도 물리 커넥션을
+ * 얻지 않고 첫 SQL을 실행할 때 얻으므로, 검증에서 실패하는 요청은 커넥션을 잡지 않는다. 그때까지 기록된 {@code setReadOnly(true)}가
+ * 있으면 원본 대신 {@link ReplicaFallbackDataSource}에서 커넥션을 얻는다. 읽기 전용 JPA 트랜잭션은 시작할 때 커넥션을
+ * 읽기 전용으로 표시한다.
+ * <p>
+ * 원본과 복제본 풀은 각각 {@link ConcurrencyConfiguration}의 동시 실행 제한을 받는다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "naga.datasource.replica", name = "url")
+public class DataSourceRoutingConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("naga.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(properties.url())
+            .username(properties.username())
+            .password(properties.password())
+            .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaFallbackDataSource readOnlyDataSource(
+        @Qualifier("replicaDataSource") DataSource replica,
+        @Qualifier("primaryDataSource") DataSource primary,
+        ReplicaDataSourceProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        return new ReplicaFallbackDataSource(replica, primary, properties.healthCheckInterval(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primary,
+        @Qualifier("readOnlyDataSource") DataSource readOnly
+    ) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(readOnly);
+        return dataSource;
+    }
+}
@@ -0,0 +1,22 @@
+package io.soundbar91.naga.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 가입 이메일 중복 확인용 Bloom filter 설정.
+ *
+ * @param enabled            false이면 항상 DB로 중복을 확인한다
+ * @param expectedInsertions 예상 사용자 수
+ * @param falsePositiveRate  목표 거짓 양성 확률, 거짓 양성이면 DB 조회가 한 번 더 발생한다
+ * @param maxMemory          비트 배열 메모리 상한, 상한에 걸리면 실제 거짓 양성 확률은 목표보다 높아진다
+ */
+@ConfigurationProperties(prefix = "naga.user.email-filter")
+public record EmailFilterProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("1000000") long expectedInsertions,
+    @DefaultValue("0.01") double falsePositiveRate,
+    @DefaultValue("4MB") DataSize maxMemory
+) {
+}
@@ -0,0 +1,30 @@
+package io.soundbar91.naga.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.common.idempotency.IdempotencyStore;
+import io.soundbar91.naga.common.idempotency.JdbcIdempotencyStore;
+import io.soundbar91.naga.common.idempotency.MemoryIdempotencyStore;
+
+/**
+ * {@code naga.idempotency.store}에 따라 응답 저장소를 고른다. 여러 인스턴스가 같은 게이트웨이 뒤에 있으면 재시도가 다른 인스턴스로
+ * 갈 수 있으므로 {@code jdbc}를 쓴다.
+ */
+@Configuration
+public class IdempotencyConfiguration {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(
+        IdempotencyProperties properties,
+        NamedParameterJdbcTemplate jdbcTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        return switch (properties.store()) {
+            case MEMORY -> new MemoryIdempotencyStore(properties.maxSize(), properties.ttl(), meterRegistry);
+            case JDBC -> new JdbcIdempotencyStore(jdbcTemplate, properties.ttl());
+        };
+    }
+}
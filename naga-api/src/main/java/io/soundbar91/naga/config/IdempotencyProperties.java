@@ -0,0 +1,46 @@
+package io.soundbar91.naga.config;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * {@code Idempotency-Key} 헤더로 재시도된 POST 요청의 응답을 재사용하는 설정.
+ *
+ * @param enabled         false이면 헤더를 무시하고 모든 요청을 처리한다
+ * @param paths           키를 적용할 POST 경로
+ * @param store           응답 저장소. {@code memory}는 인스턴스마다, {@code jdbc}는 인스턴스 사이에 공유된다
+ * @param ttl             응답을 보관하는 시간. 클라이언트와 게이트웨이의 재시도 기간보다 길어야 한다
+ * @param maxSize         {@code memory} 저장소가 보관하는 최대 응답 수
+ * @param inFlightTimeout 같은 키의 요청이 처리 중일 때 결과를 기다리는 최대 시간
+ * @param cleanupInterval {@code jdbc} 저장소에서 보관 기간이 지난 행을 지우는 주기
+ * @param maxBodySize     지문을 만들려고 메모리에 읽는 본문의 최대 크기. 넘으면 {@code REQUEST_BODY_TOO_LARGE}로 거절한다
+ */
+@ConfigurationProperties(prefix = "naga.idempotency")
+public record IdempotencyProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("/api/users") Set<String> paths,
+    @DefaultValue("memory") Store store,
+    @DefaultValue("24h") Duration ttl,
+    @DefaultValue("100000") int maxSize,
+    @DefaultValue("10s") Duration inFlightTimeout,
+    @DefaultValue("10m") Duration cleanupInterval,
+    @DefaultValue("64KB") DataSize maxBodySize
+) {
+    public IdempotencyProperties {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다");
+        }
+        // 필터가 한도보다 1바이트 더 읽으므로 한도에 1을 더해도 int 범위 안이어야 한다
+        if (maxBodySize.toBytes() < 1 || maxBodySize.toBytes() > Integer.MAX_VALUE - 1) {
+            throw new IllegalArgumentException("maxBodySize는 1B 이상 2GB 미만이어야 합니다");
+        }
+    }
+
+    public enum Store {
+        MEMORY, JDBC
+    }
+}
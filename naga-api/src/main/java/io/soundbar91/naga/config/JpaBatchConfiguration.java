@@ -0,0 +1,29 @@
+package io.soundbar91.naga.config;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 INSERT/UPDATE 설정.
+ * <p>
+ * MySQL에서 배치가 실제로 한 번의 왕복으로 전송되려면 JDBC URL에 {@code rewriteBatchedStatements=true}가 필요하다.
+ */
+@Configuration
+public class JpaBatchConfiguration implements HibernatePropertiesCustomizer {
+
+    private final int batchSize;
+
+    public JpaBatchConfiguration(@Value("${naga.jpa.batch-size:100}") int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+        hibernateProperties.putIfAbsent("hibernate.order_inserts", true);
+        hibernateProperties.putIfAbsent("hibernate.order_updates", true);
+    }
+}
@@ -0,0 +1,64 @@
+package io.soundbar91.naga.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import io.soundbar91.naga.submission.entity.VerdictMode;
+import io.soundbar91.naga.submission.judge.CompareMode;
+
+/**
+ * 채점 설정.
+ *
+ * @param workers              동시에 채점하는 제출 수, 0 이하이면 가용 코어 수의 절반(최소 1)을 사용
+ * @param caseParallelism      테스트 케이스를 실행하는 프로세스 수, 0 이하이면 가용 코어 수를 사용
+ * @param queueCapacity        채점 대기열 크기, 가득 차면 즉시 {@code JUDGE_QUEUE_FULL}로 거절
+ * @param testCaseRoot         문제별 테스트 케이스 디렉터리({@code {root}/{problemId}/*.in, *.out})의 루트
+ * @param workDirectory        제출별 작업 디렉터리를 만들 위치, 없으면 {@code java.io.tmpdir/naga-judge}를 사용
+ * @param timeLimit            테스트 케이스 하나의 실행 시간 제한(벽시계 기준)
+ * @param memoryLimit          테스트 케이스 하나의 메모리(RSS) 제한
+ * @param outputLimit          테스트 케이스 하나의 출력 크기 제한
+ * @param compileTimeout       컴파일 시간 제한
+ * @param monitorInterval      실행 중인 프로세스의 메모리와 출력 크기를 확인하는 간격
+ * @param defaultVerdictMode   제출에 채점 방식이 없을 때 사용하는 방식
+ * @param compareMode          정답 출력과 실행 출력의 비교 방식
+ */
+@ConfigurationProperties(prefix = "naga.judge")
+public record JudgeProperties(
+    @DefaultValue("0") int workers,
+    @DefaultValue("0") int caseParallelism,
+    @DefaultValue("100") int queueCapacity,
+    @DefaultValue("testcases") Path testCaseRoot,
+    Path workDirectory,
+    @DefaultValue("2s") Duration timeLimit,
+    @DefaultValue("256MB") DataSize memoryLimit,
+    @DefaultValue("16MB") DataSize outputLimit,
+    @DefaultValue("30s") Duration compileTimeout,
+    @DefaultValue("10ms") Duration monitorInterval,
+    @DefaultValue("FIRST_FAILURE") VerdictMode defaultVerdictMode,
+    @DefaultValue("LINE") CompareMode compareMode
+) {
+    public JudgeProperties {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("채점 대기열 크기는 1 이상이어야 합니다");
+        }
+        if (monitorInterval.isZero() || monitorInterval.isNegative()) {
+            throw new IllegalArgumentException("monitorInterval은 0보다 커야 합니다");
+        }
+    }
+
+    public int resolvedWorkers() {
+        return workers > 0 ? workers : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    public Path resolvedWorkDirectory() {
+        return workDirectory != null ? workDirectory : Path.of(System.getProperty("java.io.tmpdir"), "naga-judge");
+    }
+
+    public int resolvedCaseParallelism() {
+        return caseParallelism > 0 ? caseParallelism : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,26 @@
+package io.soundbar91.naga.config;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.soundbar91.naga.common.outbox.ApplicationEventOutboxSink;
+import io.soundbar91.naga.common.outbox.FileOutboxSink;
+import io.soundbar91.naga.common.outbox.OutboxSink;
+
+/**
+ * {@code naga.outbox.sink}에 따라 아웃박스 싱크를 고른다. 메시지 브로커 같은 외부 싱크는 {@link OutboxSink} 구현을 추가하고 여기서 고른다.
+ */
+@Configuration
+public class OutboxConfiguration {
+
+    @Bean
+    public OutboxSink outboxSink(OutboxProperties properties, ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper) {
+        return switch (properties.sink()) {
+            case LOCAL -> new ApplicationEventOutboxSink(eventPublisher);
+            case FILE -> new FileOutboxSink(properties.file(), objectMapper);
+        };
+    }
+}
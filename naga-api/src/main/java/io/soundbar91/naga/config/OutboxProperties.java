@@ -0,0 +1,40 @@
+package io.soundbar91.naga.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 아웃박스 릴레이 설정.
+ *
+ * @param enabled          릴레이 실행 여부. 꺼도 알림은 계속 기록된다
+ * @param sink             알림을 보낼 곳. {@code local}은 같은 프로세스의 이벤트 리스너, {@code file}은 {@code file} 경로의 NDJSON 파일
+ * @param file             {@code file} 싱크가 덧붙이는 파일
+ * @param batchSize        한 트랜잭션에서 가져와 발행하는 최대 알림 수
+ * @param maxBatchesPerRun 한 번 실행에서 처리하는 최대 배치 수
+ * @param interval         실행 간격(이전 실행 종료 기준)
+ */
+@ConfigurationProperties(prefix = "naga.outbox")
+public record OutboxProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("local") Sink sink,
+    @DefaultValue("outbox.ndjson") Path file,
+    @DefaultValue("100") int batchSize,
+    @DefaultValue("50") int maxBatchesPerRun,
+    @DefaultValue("1s") Duration interval
+) {
+    public OutboxProperties {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다");
+        }
+        if (maxBatchesPerRun < 1) {
+            throw new IllegalArgumentException("maxBatchesPerRun은 1 이상이어야 합니다");
+        }
+    }
+
+    public enum Sink {
+        LOCAL, FILE
+    }
+}
@@ -0,0 +1,41 @@
+package io.soundbar91.naga.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 비밀번호 해싱 설정.
+ *
+ * @param strength      BCrypt cost factor (4~31)
+ * @param poolSize      해싱 전용 스레드 수, 0 이하이면 가용 코어 수를 사용
+ * @param queueCapacity 해싱 대기열 크기, 가득 차면 즉시 {@code PASSWORD_HASHING_BUSY}로 거절
+ * @param timeout       해싱 결과를 기다리는 최대 시간
+ * @param bulkParallelism 대량 가입 시 동시에 점유할 수 있는 해싱 작업 수, 0 이하이면 풀 크기의 절반을 사용
+ */
+@ConfigurationProperties(prefix = "naga.security.password")
+public record PasswordHashingProperties(
+    @DefaultValue("10") int strength,
+    @DefaultValue("0") int poolSize,
+    @DefaultValue("64") int queueCapacity,
+    @DefaultValue("3s") Duration timeout,
+    @DefaultValue("0") int bulkParallelism
+) {
+    public PasswordHashingProperties {
+        if (strength < 4 || strength > 31) {
+            throw new IllegalArgumentException("BCrypt strength는 4~31 사이여야 합니다");
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("해싱 대기열 크기는 1 이상이어야 합니다");
+        }
+    }
+
+    public int resolvedPoolSize() {
+        return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    }
+
+    public int resolvedBulkParallelism() {
+        return bulkParallelism > 0 ? bulkParallelism : Math.max(1, resolvedPoolSize() / 2);
+    }
+}
@@ -0,0 +1,48 @@
+package io.soundbar91.naga.config;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 가입과 제출 요청의 빈도 제한 설정.
+ *
+ * @param enabled          false이면 필터가 요청을 그대로 통과시킨다
+ * @param paths            제한할 POST 경로
+ * @param client           클라이언트 IP마다 적용하는 버킷
+ * @param global           모든 클라이언트가 함께 쓰는 버킷
+ * @param evictionInterval 쉬고 있는 클라이언트 버킷을 지우는 주기
+ */
+@ConfigurationProperties(prefix = "naga.rate-limit")
+public record RateLimitProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue({"/api/users", "/api/users/import", "/api/submissions"}) Set<String> paths,
+    @DefaultValue Client client,
+    @DefaultValue Global global,
+    @DefaultValue("1m") Duration evictionInterval
+) {
+
+    /**
+     * @param capacity        한 번에 허용할 수 있는 최대 요청 수
+     * @param refillPerSecond 초당 채워지는 요청 수
+     * @param maxClients      버킷을 따로 두는 최대 클라이언트 수, 넘치면 새 클라이언트들은 버킷 하나를 함께 쓴다
+     */
+    public record Client(
+        @DefaultValue("20") int capacity,
+        @DefaultValue("2") double refillPerSecond,
+        @DefaultValue("100000") int maxClients
+    ) {
+    }
+
+    /**
+     * @param capacity        한 번에 허용할 수 있는 최대 요청 수
+     * @param refillPerSecond 초당 채워지는 요청 수
+     */
+    public record Global(
+        @DefaultValue("200") int capacity,
+        @DefaultValue("100") double refillPerSecond
+    ) {
+    }
+}
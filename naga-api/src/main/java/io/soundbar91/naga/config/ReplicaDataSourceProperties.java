@@ -0,0 +1,24 @@
+package io.soundbar91.naga.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 읽기 전용 트랜잭션이 쓰는 복제본 설정. {@code url}이 있을 때만 읽기/쓰기 라우팅을 켠다.
+ * 커넥션 풀 설정은 {@code naga.datasource.replica.hikari.*}로 지정한다.
+ *
+ * @param url                 복제본 JDBC URL
+ * @param username            복제본 사용자
+ * @param password            복제본 비밀번호
+ * @param healthCheckInterval 복제본 상태 확인 주기
+ */
+@ConfigurationProperties(prefix = "naga.datasource.replica")
+public record ReplicaDataSourceProperties(
+    String url,
+    String username,
+    String password,
+    @DefaultValue("5s") Duration healthCheckInterval
+) {
+}
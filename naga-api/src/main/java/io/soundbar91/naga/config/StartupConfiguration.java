@@ -0,0 +1,57 @@
+package io.soundbar91.naga.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * 지연 초기화 모드({@code lazy-init} 프로파일). {@code naga.startup.lazy-packages}에 속한 빈을 첫 사용 시점까지 미룬다.
+ * <p>
+ * {@code spring.main.lazy-initialization=true}는 커넥션 풀, JPA, 필터 같은 핵심 빈의 초기화 비용과 설정 오류까지 첫 요청으로 넘기고,
+ * springdoc처럼 {@code @Lazy(false)}를 직접 선언한 빈은 지연시키지 못한다. 그래서 전역 설정 대신 API 문서처럼 운영 요청 경로에 없는
+ * 패키지의 빈 정의만 골라 지연 초기화로 바꾼다. 이 빈에 의존하는 즉시 초기화 빈이 있으면 그 빈과 함께 기동 시점에 만들어진다.
+ * <p>
+ * 빈 팩토리 후처리 단계에서 쓰이므로 설정 레코드 대신 {@link Binder}로 직접 읽는다.
+ */
+@Configuration
+@Profile("lazy-init")
+public class StartupConfiguration {
+
+    static final String LAZY_PACKAGES_PROPERTY = "naga.startup.lazy-packages";
+
+    @Bean
+    static BeanFactoryPostProcessor lazyNonCriticalBeans(Environment environment) {
+        List<String> lazyPackages = Binder.get(environment)
+            .bind(LAZY_PACKAGES_PROPERTY, Bindable.listOf(String.class))
+            .orElse(List.of());
+        return beanFactory -> {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+                if (beanDefinition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE || !beanDefinition.isSingleton()) {
+                    continue;
+                }
+                Class<?> beanType = beanFactory.getType(beanName, false);
+                if (beanType != null && isInPackages(beanType, lazyPackages)) {
+                    beanDefinition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static boolean isInPackages(Class<?> beanType, List<String> packages) {
+        String typeName = beanType.getName();
+        for (String lazyPackage : packages) {
+            if (typeName.startsWith(lazyPackage + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
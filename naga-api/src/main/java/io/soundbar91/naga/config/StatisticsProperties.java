@@ -0,0 +1,24 @@
+package io.soundbar91.naga.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 제출 통계 쓰기 지연 설정.
+ *
+ * @param flushInterval 메모리 카운터를 DB에 반영하는 간격(이전 반영 종료 기준)
+ * @param batchSize     한 트랜잭션에서 갱신하는 최대 행 수
+ */
+@ConfigurationProperties(prefix = "naga.statistics")
+public record StatisticsProperties(
+    @DefaultValue("5s") Duration flushInterval,
+    @DefaultValue("500") int batchSize
+) {
+    public StatisticsProperties {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.soundbar91.naga.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 채점 진행 상황 SSE 구독 설정.
+ *
+ * @param maxStreamsPerUser 사용자 한 명이 동시에 열 수 있는 구독 수
+ * @param heartbeatInterval 프록시가 유휴 연결을 끊지 않도록 주석 이벤트를 보내는 간격
+ * @param timeout           구독을 닫는 시간. 클라이언트는 끊기면 다시 연결한다
+ * @param bufferSize        구독마다 보내지 못하고 쌓아 두는 최대 이벤트 수. 넘치면 느린 구독으로 보고 닫는다
+ */
+@ConfigurationProperties(prefix = "naga.submission.stream")
+public record SubmissionStreamProperties(
+    @DefaultValue("5") int maxStreamsPerUser,
+    @DefaultValue("15s") Duration heartbeatInterval,
+    @DefaultValue("30m") Duration timeout,
+    @DefaultValue("64") int bufferSize
+) {
+    public SubmissionStreamProperties {
+        if (maxStreamsPerUser < 1) {
+            throw new IllegalArgumentException("maxStreamsPerUser는 1 이상이어야 합니다");
+        }
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize는 1 이상이어야 합니다");
+        }
+    }
+}
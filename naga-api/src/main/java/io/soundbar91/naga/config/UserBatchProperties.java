@@ -0,0 +1,32 @@
+package io.soundbar91.naga.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 사용자 일괄 조회 설정.
+ *
+ * @param maxSize 한 요청에서 조회할 수 있는 최대 ID 수이자 IN 쿼리 하나에 담는 최대 ID 수
+ * @param window  다른 요청의 조회를 모으기 위해 첫 조회가 기다리는 시간. 0이면 같은 호출의 ID만 묶는다
+ * @param timeout 다른 요청이 연 배치의 결과를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "naga.user.batch")
+public record UserBatchProperties(
+    @DefaultValue("100") int maxSize,
+    @DefaultValue("2ms") Duration window,
+    @DefaultValue("1s") Duration timeout
+) {
+    public UserBatchProperties {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다");
+        }
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("window는 0 이상이어야 합니다");
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout은 0보다 커야 합니다");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.soundbar91.naga.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 사용자 조회 캐시 설정.
+ *
+ * @param enabled false이면 항상 DB에서 조회한다
+ * @param maxSize 키 종류(ID, 이메일)마다 보관하는 최대 항목 수
+ * @param ttl     항목을 적재한 뒤 다시 적재하기까지의 시간. 무효화를 놓친 변경도 이 시간이 지나면 반영된다
+ */
+@ConfigurationProperties(prefix = "naga.user.cache")
+public record UserCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("10000") int maxSize,
+    @DefaultValue("10m") Duration ttl
+) {
+    public UserCacheProperties {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.soundbar91.naga.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 사용자 대량 등록 설정.
+ *
+ * @param chunkSize 한 번에 중복 조회, 해싱, 배치 INSERT를 수행하는 행 수
+ */
+@ConfigurationProperties(prefix = "naga.user.import")
+public record UserImportProperties(
+    @DefaultValue("500") int chunkSize
+) {
+    public UserImportProperties {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize는 1 이상이어야 합니다");
+        }
+    }
+}
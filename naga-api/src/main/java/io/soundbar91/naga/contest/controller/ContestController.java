@@ -0,0 +1,57 @@
+package io.soundbar91.naga.contest.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+
+import io.soundbar91.naga.common.dto.ApiResponse;
+import io.soundbar91.naga.contest.dto.ContestResponse;
+import io.soundbar91.naga.contest.dto.CreateContestRequest;
+import io.soundbar91.naga.contest.dto.StandingResponse;
+import io.soundbar91.naga.contest.dto.StandingsPageResponse;
+import io.soundbar91.naga.contest.entity.Contest;
+import io.soundbar91.naga.contest.service.ContestService;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/contests")
+@RequiredArgsConstructor
+public class ContestController {
+
+    private final ContestService contestService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<ContestResponse>> create(@Valid @RequestBody CreateContestRequest request) {
+        Contest contest = contestService.create(request.title(), request.startAt(), request.endAt());
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(ContestResponse.from(contest)));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<ContestResponse>> get(@PathVariable Long id) {
+        Contest contest = contestService.get(id);
+        return ResponseEntity.ok(ApiResponse.success(ContestResponse.from(contest)));
+    }
+
+    @GetMapping("/{id}/standings")
+    public ResponseEntity<ApiResponse<StandingsPageResponse>> standings(
+        @PathVariable Long id,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(contestService.standings(id, page, size)));
+    }
+
+    @GetMapping("/{id}/standings/users/{userId}")
+    public ResponseEntity<ApiResponse<StandingResponse>> standing(@PathVariable Long id, @PathVariable Long userId) {
+        return ResponseEntity.ok(ApiResponse.success(contestService.standing(id, userId)));
+    }
+}
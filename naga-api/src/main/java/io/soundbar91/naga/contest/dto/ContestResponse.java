@@ -0,0 +1,23 @@
+package io.soundbar91.naga.contest.dto;
+
+import java.time.LocalDateTime;
+
+import io.soundbar91.naga.contest.entity.Contest;
+
+public record ContestResponse(
+    Long id,
+    String title,
+    LocalDateTime startAt,
+    LocalDateTime endAt,
+    LocalDateTime createdAt
+) {
+    public static ContestResponse from(Contest contest) {
+        return new ContestResponse(
+            contest.getId(),
+            contest.getTitle(),
+            contest.getStartAt(),
+            contest.getEndAt(),
+            contest.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package io.soundbar91.naga.contest.dto;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import io.soundbar91.naga.contest.entity.Contest;
+
+public record CreateContestRequest(
+    @NotBlank(message = "대회 이름은 필수입니다")
+    @Size(max = Contest.TITLE_MAX_LENGTH, message = "대회 이름은 100자 이하여야 합니다")
+    String title,
+
+    @NotNull(message = "시작 시각은 필수입니다")
+    LocalDateTime startAt,
+
+    @NotNull(message = "종료 시각은 필수입니다")
+    LocalDateTime endAt
+) {
+}
@@ -0,0 +1,19 @@
+package io.soundbar91.naga.contest.dto;
+
+import io.soundbar91.naga.contest.scoreboard.RankedStanding;
+
+public record StandingResponse(
+    int rank,
+    long userId,
+    int solved,
+    long penalty
+) {
+    public static StandingResponse from(RankedStanding ranked) {
+        return new StandingResponse(
+            ranked.rank(),
+            ranked.standing().userId(),
+            ranked.standing().solved(),
+            ranked.standing().penalty()
+        );
+    }
+}
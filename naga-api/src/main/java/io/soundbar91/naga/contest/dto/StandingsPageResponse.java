@@ -0,0 +1,12 @@
+package io.soundbar91.naga.contest.dto;
+
+import java.util.List;
+
+public record StandingsPageResponse(
+    Long contestId,
+    int page,
+    int size,
+    int totalParticipants,
+    List<StandingResponse> standings
+) {
+}
@@ -0,0 +1,56 @@
+package io.soundbar91.naga.contest.entity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.SQLRestriction;
+
+import io.soundbar91.naga.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(name = "contests")
+@SQLRestriction(BaseEntity.NOT_DELETED)
+@NoArgsConstructor(access = PROTECTED)
+public class Contest extends BaseEntity {
+
+    public static final int TITLE_MAX_LENGTH = 100;
+
+    @Column(name = "title", nullable = false, length = TITLE_MAX_LENGTH)
+    private String title;
+
+    @Column(name = "start_at", nullable = false)
+    private LocalDateTime startAt;
+
+    @Column(name = "end_at", nullable = false)
+    private LocalDateTime endAt;
+
+    private Contest(String title, LocalDateTime startAt, LocalDateTime endAt) {
+        this.title = title;
+        this.startAt = startAt;
+        this.endAt = endAt;
+    }
+
+    public static Contest create(String title, LocalDateTime startAt, LocalDateTime endAt) {
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("대회 이름은 필수입니다");
+        }
+        if (title.length() > TITLE_MAX_LENGTH) {
+            throw new IllegalArgumentException("대회 이름은 100자 이하여야 합니다");
+        }
+        if (startAt == null || endAt == null || !endAt.isAfter(startAt)) {
+            throw new IllegalArgumentException("대회 종료 시각은 시작 시각 이후여야 합니다");
+        }
+        return new Contest(title, startAt, endAt);
+    }
+
+    public boolean isRunning(LocalDateTime now) {
+        return !now.isBefore(startAt) && now.isBefore(endAt);
+    }
+}
@@ -0,0 +1,10 @@
+package io.soundbar91.naga.contest.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import io.soundbar91.naga.contest.entity.Contest;
+
+@Repository
+public interface ContestRepository extends JpaRepository<Contest, Long> {
+}
@@ -0,0 +1,190 @@
+package io.soundbar91.naga.contest.scoreboard;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import io.soundbar91.naga.common.support.OrderStatisticTree;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.event.SubmissionJudgedEvent;
+
+/**
+ * 대회 하나의 메모리 순위표.
+ * <p>
+ * 푼 문제 수와 페널티(맞힌 시각의 대회 경과 분 + 그 전 오답마다 20분)로 정렬한 {@link OrderStatisticTree}를 유지해
+ * 판정 반영, 사용자 순위 조회, 페이지 조회를 O(log n)(페이지는 O(log n + 페이지 크기))에 처리한다.
+ * <p>
+ * 판정은 제출 ID로 멱등하게 반영하므로 채점 완료 순서가 제출 순서와 달라도, 재구축 중 같은 판정이 두 번 들어와도 결과가 같다.
+ */
+public class ContestScoreboard {
+
+    static final long PENALTY_MINUTES_PER_REJECTION = 20;
+
+    private final LocalDateTime startAt;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final OrderStatisticTree<Standing> standings = new OrderStatisticTree<>(Standing.ORDER);
+    private final Map<Long, Participant> participants = new HashMap<>();
+
+    public ContestScoreboard(LocalDateTime startAt) {
+        this.startAt = startAt;
+    }
+
+    public void apply(SubmissionJudgedEvent verdict) {
+        if (!verdict.status().isFinal()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Participant participant = participants.get(verdict.userId());
+            if (participant == null) {
+                participant = new Participant(verdict.userId());
+                participants.put(verdict.userId(), participant);
+                standings.add(participant.standing);
+            }
+
+            ProblemState problem = participant.problems.computeIfAbsent(verdict.problemId(), id -> new ProblemState());
+            if (!problem.apply(verdict.submissionId(), verdict.status(), elapsedMinutes(verdict.submittedAt()))) {
+                return;
+            }
+
+            Standing updated = participant.calculate();
+            if (!updated.equals(participant.standing)) {
+                standings.remove(participant.standing);
+                standings.add(updated);
+                participant.standing = updated;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int participantCount() {
+        lock.readLock().lock();
+        try {
+            return standings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param page 0부터 시작하는 페이지 번호
+     */
+    public List<RankedStanding> page(int page, int size) {
+        long from = (long) page * size;
+        lock.readLock().lock();
+        try {
+            if (from >= standings.size()) {
+                return List.of();
+            }
+            List<Standing> rows = standings.range((int) from, size);
+            List<RankedStanding> ranked = new ArrayList<>(rows.size());
+            Standing previous = null;
+            int rank = 0;
+            for (int i = 0; i < rows.size(); i++) {
+                Standing row = rows.get(i);
+                if (previous == null) {
+                    rank = rankOf(row);
+                } else if (!row.sameScore(previous)) {
+                    rank = (int) from + i + 1;
+                }
+                ranked.add(new RankedStanding(rank, row));
+                previous = row;
+            }
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<RankedStanding> find(long userId) {
+        lock.readLock().lock();
+        try {
+            Participant participant = participants.get(userId);
+            if (participant == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new RankedStanding(rankOf(participant.standing), participant.standing));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int rankOf(Standing standing) {
+        return standings.rank(Standing.first(standing.solved(), standing.penalty())) + 1;
+    }
+
+    private long elapsedMinutes(LocalDateTime submittedAt) {
+        return Math.max(0, Duration.between(startAt, submittedAt).toMinutes());
+    }
+
+    private static final class Participant {
+
+        private final long userId;
+        private final Map<Long, ProblemState> problems = new HashMap<>();
+        private Standing standing;
+
+        private Participant(long userId) {
+            this.userId = userId;
+            this.standing = new Standing(userId, 0, 0);
+        }
+
+        private Standing calculate() {
+            int solved = 0;
+            long penalty = 0;
+            for (ProblemState problem : problems.values()) {
+                if (problem.isSolved()) {
+                    solved++;
+                    penalty += problem.penalty();
+                }
+            }
+            return new Standing(userId, solved, penalty);
+        }
+    }
+
+    /**
+     * 가장 먼저 맞힌 제출과 그보다 앞선 오답 제출 ID만 기억한다.
+     */
+    private static final class ProblemState {
+
+        private long acceptedSubmissionId = Long.MAX_VALUE;
+        private long acceptedMinutes;
+        private final Set<Long> rejectedBeforeAccepted = new HashSet<>();
+
+        /**
+         * @return 점수가 바뀔 수 있으면 {@code true}
+         */
+        private boolean apply(long submissionId, SubmissionStatus status, long elapsedMinutes) {
+            if (status == SubmissionStatus.ACCEPTED) {
+                if (submissionId >= acceptedSubmissionId) {
+                    return false;
+                }
+                acceptedSubmissionId = submissionId;
+                acceptedMinutes = elapsedMinutes;
+                rejectedBeforeAccepted.removeIf(id -> id > submissionId);
+                return true;
+            }
+            if (status.isRejected() && submissionId < acceptedSubmissionId) {
+                return rejectedBeforeAccepted.add(submissionId) && isSolved();
+            }
+            return false;
+        }
+
+        private boolean isSolved() {
+            return acceptedSubmissionId != Long.MAX_VALUE;
+        }
+
+        private long penalty() {
+            return acceptedMinutes + PENALTY_MINUTES_PER_REJECTION * rejectedBeforeAccepted.size();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.soundbar91.naga.contest.scoreboard;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.soundbar91.naga.contest.entity.Contest;
+import io.soundbar91.naga.contest.repository.ContestRepository;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.event.SubmissionJudgedEvent;
+import io.soundbar91.naga.submission.repository.SubmissionRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대회별 {@link ContestScoreboard}를 보관한다.
+ * <p>
+ * 시작 시 DB의 대회 판정으로 순위표를 재구축하고, 이후에는 {@link SubmissionJudgedEvent}를 받아 점진적으로 갱신한다.
+ * 순위표가 판정을 멱등하게 반영하므로 재구축 중 도착한 판정을 따로 보관하지 않는다.
+ */
+@Slf4j
+@Component
+public class ContestScoreboards {
+
+    private final ContestRepository contestRepository;
+    private final SubmissionRepository submissionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<Long, ContestScoreboard> scoreboards = new ConcurrentHashMap<>();
+
+    public ContestScoreboards(ContestRepository contestRepository, SubmissionRepository submissionRepository,
+        PlatformTransactionManager transactionManager) {
+        this.contestRepository = contestRepository;
+        this.submissionRepository = submissionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long count = readOnlyTransaction.execute(status -> {
+            contestRepository.findAll().forEach(this::register);
+            EnumSet<SubmissionStatus> verdicts = EnumSet.complementOf(
+                EnumSet.of(SubmissionStatus.PENDING, SubmissionStatus.JUDGING));
+            try (Stream<SubmissionJudgedEvent> events = submissionRepository.streamContestVerdicts(verdicts)) {
+                return events.mapToLong(event -> {
+                    apply(event);
+                    return 1;
+                }).sum();
+            }
+        });
+        log.info("대회 순위표 재구축 완료: 대회 {}개, 판정 {}건", scoreboards.size(), count);
+    }
+
+    @EventListener
+    public void onJudged(SubmissionJudgedEvent event) {
+        if (event.contestId() != null) {
+            apply(event);
+        }
+    }
+
+    /**
+     * 대회가 없으면 빈 값을 돌려준다. 시작 후 만들어진 대회는 처음 조회할 때 빈 순위표를 만든다.
+     */
+    public Optional<ContestScoreboard> find(Long contestId) {
+        ContestScoreboard scoreboard = scoreboards.get(contestId);
+        if (scoreboard != null) {
+            return Optional.of(scoreboard);
+        }
+        return contestRepository.findById(contestId).map(this::register);
+    }
+
+    private void apply(SubmissionJudgedEvent event) {
+        find(event.contestId()).ifPresentOrElse(
+            scoreboard -> scoreboard.apply(event),
+            () -> log.warn("대회가 없어 판정을 순위표에 반영하지 않음: contestId={}, submissionId={}",
+                event.contestId(), event.submissionId()));
+    }
+
+    private ContestScoreboard register(Contest contest) {
+        return scoreboards.computeIfAbsent(contest.getId(), id -> new ContestScoreboard(contest.getStartAt()));
+    }
+}
@@ -0,0 +1,4 @@
+package io.soundbar91.naga.contest.scoreboard;
+
+public record RankedStanding(int rank, Standing standing) {
+}
@@ -0,0 +1,25 @@
+package io.soundbar91.naga.contest.scoreboard;
+
+import java.util.Comparator;
+
+/**
+ * 순위표의 한 행. 푼 문제가 많을수록, 같으면 페널티가 작을수록 앞선다.
+ * 점수가 같은 참가자는 같은 순위이며 목록에서는 사용자 ID 순으로 놓는다.
+ */
+public record Standing(long userId, int solved, long penalty) {
+
+    static final Comparator<Standing> ORDER = Comparator.comparingInt(Standing::solved).reversed()
+        .thenComparingLong(Standing::penalty)
+        .thenComparingLong(Standing::userId);
+
+    /**
+     * 같은 점수의 어떤 참가자보다도 앞에 놓이는 조회용 키.
+     */
+    static Standing first(int solved, long penalty) {
+        return new Standing(Long.MIN_VALUE, solved, penalty);
+    }
+
+    boolean sameScore(Standing other) {
+        return solved == other.solved && penalty == other.penalty;
+    }
+}
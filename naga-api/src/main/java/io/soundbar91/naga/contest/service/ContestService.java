@@ -0,0 +1,68 @@
+package io.soundbar91.naga.contest.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.contest.dto.StandingResponse;
+import io.soundbar91.naga.contest.dto.StandingsPageResponse;
+import io.soundbar91.naga.contest.entity.Contest;
+import io.soundbar91.naga.contest.repository.ContestRepository;
+import io.soundbar91.naga.contest.scoreboard.ContestScoreboard;
+import io.soundbar91.naga.contest.scoreboard.ContestScoreboards;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ContestService {
+
+    public static final int STANDINGS_MAX_PAGE_SIZE = 100;
+
+    private final ContestRepository contestRepository;
+    private final ContestScoreboards contestScoreboards;
+
+    @Transactional
+    public Contest create(String title, LocalDateTime startAt, LocalDateTime endAt) {
+        if (!endAt.isAfter(startAt)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "종료 시각은 시작 시각 이후여야 합니다");
+        }
+        return contestRepository.save(Contest.create(title, startAt, endAt));
+    }
+
+    public Contest get(Long id) {
+        return contestRepository.findById(id)
+            .orElseThrow(() -> new BusinessException(ErrorCode.CONTEST_NOT_FOUND));
+    }
+
+    /**
+     * 순위표는 메모리에서 읽으므로 페이지 위치와 관계없이 O(log n + size)에 응답한다.
+     */
+    public StandingsPageResponse standings(Long contestId, int page, int size) {
+        if (page < 0 || size < 1 || size > STANDINGS_MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "page는 0 이상, size는 1 이상 100 이하여야 합니다");
+        }
+        ContestScoreboard scoreboard = scoreboard(contestId);
+        return new StandingsPageResponse(
+            contestId,
+            page,
+            size,
+            scoreboard.participantCount(),
+            scoreboard.page(page, size).stream().map(StandingResponse::from).toList()
+        );
+    }
+
+    public StandingResponse standing(Long contestId, Long userId) {
+        return scoreboard(contestId).find(userId)
+            .map(StandingResponse::from)
+            .orElseThrow(() -> new BusinessException(ErrorCode.CONTEST_PARTICIPANT_NOT_FOUND));
+    }
+
+    private ContestScoreboard scoreboard(Long contestId) {
+        return contestScoreboards.find(contestId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.CONTEST_NOT_FOUND));
+    }
+}
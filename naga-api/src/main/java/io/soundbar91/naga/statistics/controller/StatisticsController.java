@@ -0,0 +1,28 @@
+package io.soundbar91.naga.statistics.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.soundbar91.naga.common.dto.ApiResponse;
+import io.soundbar91.naga.statistics.dto.StatisticsResponse;
+import io.soundbar91.naga.statistics.service.StatisticsService;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class StatisticsController {
+
+    private final StatisticsService statisticsService;
+
+    @GetMapping("/api/problems/{problemId}/statistics")
+    public ResponseEntity<ApiResponse<StatisticsResponse>> problem(@PathVariable Long problemId) {
+        return ResponseEntity.ok(ApiResponse.success(statisticsService.getProblemStatistics(problemId)));
+    }
+
+    @GetMapping("/api/users/{userId}/statistics")
+    public ResponseEntity<ApiResponse<StatisticsResponse>> user(@PathVariable Long userId) {
+        return ResponseEntity.ok(ApiResponse.success(statisticsService.getUserStatistics(userId)));
+    }
+}
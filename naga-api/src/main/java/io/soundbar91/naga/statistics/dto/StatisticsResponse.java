@@ -0,0 +1,13 @@
+package io.soundbar91.naga.statistics.dto;
+
+public record StatisticsResponse(
+    long submissionCount,
+    long acceptedCount,
+    long solvedCount,
+    double acceptanceRate
+) {
+    public static StatisticsResponse of(long submissionCount, long acceptedCount, long solvedCount) {
+        double acceptanceRate = submissionCount == 0 ? 0 : (double) acceptedCount / submissionCount;
+        return new StatisticsResponse(submissionCount, acceptedCount, solvedCount, acceptanceRate);
+    }
+}
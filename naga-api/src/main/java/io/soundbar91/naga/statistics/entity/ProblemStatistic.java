@@ -0,0 +1,41 @@
+package io.soundbar91.naga.statistics.entity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 문제별 제출 통계. 행은 {@code VerdictCounters}가 모아서 갱신하며 애플리케이션에서 직접 수정하지 않는다.
+ */
+@Getter
+@Entity
+@Table(name = ProblemStatistic.TABLE)
+@NoArgsConstructor(access = PROTECTED)
+public class ProblemStatistic {
+
+    public static final String TABLE = "problem_statistics";
+    public static final String KEY_COLUMN = "problem_id";
+
+    @Id
+    @Column(name = KEY_COLUMN)
+    private Long problemId;
+
+    @Column(name = "submission_count", nullable = false)
+    private long submissionCount;
+
+    @Column(name = "accepted_count", nullable = false)
+    private long acceptedCount;
+
+    @Column(name = "solved_count", nullable = false)
+    private long solvedCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,48 @@
+package io.soundbar91.naga.statistics.entity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자가 처음 맞힌 문제. {@code VerdictCounters}가 행을 넣은 경우에만 해결 수를 올리므로 같은 문제를 다시 맞혀도
+ * 해결 수는 한 번만 오른다. 읽기와 쓰기는 JDBC로 하고 엔티티는 스키마 정의에만 쓴다.
+ */
+@Getter
+@Entity
+@Table(name = UserProblemSolved.TABLE)
+@IdClass(UserProblemSolved.Key.class)
+@NoArgsConstructor(access = PROTECTED)
+public class UserProblemSolved {
+
+    public static final String TABLE = "user_problem_solved";
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "problem_id")
+    private Long problemId;
+
+    @Column(name = "solved_at", nullable = false)
+    private LocalDateTime solvedAt;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = PROTECTED)
+    public static class Key implements Serializable {
+
+        private Long userId;
+        private Long problemId;
+    }
+}
@@ -0,0 +1,10 @@
+package io.soundbar91.naga.statistics.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import io.soundbar91.naga.statistics.entity.ProblemStatistic;
+
+@Repository
+public interface ProblemStatisticRepository extends JpaRepository<ProblemStatistic, Long> {
+}
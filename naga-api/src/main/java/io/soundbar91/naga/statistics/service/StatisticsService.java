@@ -0,0 +1,56 @@
+package io.soundbar91.naga.statistics.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.statistics.dto.StatisticsResponse;
+import io.soundbar91.naga.statistics.repository.ProblemStatisticRepository;
+import io.soundbar91.naga.statistics.repository.UserStatisticRepository;
+import io.soundbar91.naga.submission.judge.TestCaseStore;
+import io.soundbar91.naga.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StatisticsService {
+
+    private final ProblemStatisticRepository problemStatisticRepository;
+    private final UserStatisticRepository userStatisticRepository;
+    private final UserRepository userRepository;
+    private final TestCaseStore testCaseStore;
+    private final VerdictCounters verdictCounters;
+
+    /**
+     * 반영 도중에 조회해도 값이 줄어 보이지 않도록 아직 반영하지 않은 값을 먼저 읽고 저장된 값을 읽는다.
+     */
+    public StatisticsResponse getProblemStatistics(Long problemId) {
+        if (!testCaseStore.exists(problemId)) {
+            throw new BusinessException(ErrorCode.PROBLEM_NOT_FOUND);
+        }
+        VerdictCounters.Pending pending = verdictCounters.pendingForProblem(problemId);
+        return problemStatisticRepository.findById(problemId)
+            .map(statistic -> StatisticsResponse.of(
+                statistic.getSubmissionCount() + pending.submissionCount(),
+                statistic.getAcceptedCount() + pending.acceptedCount(),
+                statistic.getSolvedCount() + pending.solvedCount()))
+            .orElseGet(() -> StatisticsResponse.of(
+                pending.submissionCount(), pending.acceptedCount(), pending.solvedCount()));
+    }
+
+    public StatisticsResponse getUserStatistics(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        VerdictCounters.Pending pending = verdictCounters.pendingForUser(userId);
+        return userStatisticRepository.findById(userId)
+            .map(statistic -> StatisticsResponse.of(
+                statistic.getSubmissionCount() + pending.submissionCount(),
+                statistic.getAcceptedCount() + pending.acceptedCount(),
+                statistic.getSolvedCount() + pending.solvedCount()))
+            .orElseGet(() -> StatisticsResponse.of(
+                pending.submissionCount(), pending.acceptedCount(), pending.solvedCount()));
+    }
+}
@@ -0,0 +1,299 @@
+package io.soundbar91.naga.statistics.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.common.concurrent.StripedCounters;
+import io.soundbar91.naga.config.StatisticsProperties;
+import io.soundbar91.naga.statistics.entity.ProblemStatistic;
+import io.soundbar91.naga.statistics.entity.UserProblemSolved;
+import io.soundbar91.naga.statistics.entity.UserStatistic;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.event.SubmissionJudgedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 판정마다 문제별, 사용자별 제출 수, 정답 수, 해결 수를 메모리에 모았다가 주기적으로 DB에 반영한다.
+ * <p>
+ * 판정마다 {@code count = count + 1}을 실행하면 인기 문제의 통계 행 잠금에 채점 작업자가 줄을 서게 된다.
+ * 대신 {@link StripedCounters}에 더하고, {@code flushInterval}마다 키 순서로 정렬한 행을 {@code batchSize}개씩
+ * 배치 UPDATE하고 없는 행만 배치 INSERT한다. 커밋한 뒤에만 메모리 값을 빼므로 반영이 실패해도 다음 주기에 다시 시도한다.
+ * 종료할 때 남은 값을 반영한다.
+ * <p>
+ * 해결 수는 사용자가 문제를 처음 맞혔을 때만 오르므로 정답 판정의 (사용자, 문제) 쌍을 따로 모은다. 반영할 때 쌍을
+ * {@code user_problem_solved}에 없는 경우에만 넣고, 넣은 쌍만큼 같은 트랜잭션에서 두 통계 행의 해결 수를 올린다.
+ * 다른 인스턴스가 같은 쌍을 동시에 넣으면 기본 키 충돌로 그 배치가 실패하고 다음 주기에 이미 있는 쌍으로 걸러진다.
+ * <p>
+ * 조회는 저장된 값에 아직 반영하지 않은 값을 더한다. 반영 커밋과 메모리 차감 사이에 조회하면 잠시 더 크게 보일 수 있다.
+ * 아직 반영하지 않은 해결 수는 모은 쌍 중 {@code user_problem_solved}에 없는 쌍을 세어 구한다.
+ */
+@Slf4j
+@Component
+public class VerdictCounters {
+
+    private static final int SUBMISSIONS = 0;
+    private static final int ACCEPTED = 1;
+    private static final int SOLVED = 2;
+
+    private static final String SOLVED_INSERT_SQL = "insert into " + UserProblemSolved.TABLE
+        + " (user_id, problem_id, solved_at) select ?, ?, ? from dual where not exists"
+        + " (select 1 from " + UserProblemSolved.TABLE + " where user_id = ? and problem_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StatisticsProperties properties;
+    private final Target problems;
+    private final Target users;
+    private final Set<Solve> solves = ConcurrentHashMap.newKeySet();
+
+    public VerdictCounters(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+        StatisticsProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.problems = new Target(ProblemStatistic.TABLE, ProblemStatistic.KEY_COLUMN, meterRegistry);
+        this.users = new Target(UserStatistic.TABLE, UserStatistic.KEY_COLUMN, meterRegistry);
+    }
+
+    /**
+     * 시스템 오류는 제출자의 결과가 아니므로 세지 않는다.
+     */
+    @EventListener
+    public void onJudged(SubmissionJudgedEvent event) {
+        if (event.status() == SubmissionStatus.SYSTEM_ERROR) {
+            return;
+        }
+        long accepted = event.status() == SubmissionStatus.ACCEPTED ? 1 : 0;
+        problems.counters.add(event.problemId(), 1, accepted, 0);
+        users.counters.add(event.userId(), 1, accepted, 0);
+        if (accepted == 1) {
+            solves.add(new Solve(event.userId(), event.problemId()));
+        }
+    }
+
+    public Pending pendingForProblem(long problemId) {
+        List<Long> userIds = solves.stream().filter(solve -> solve.problemId() == problemId).map(Solve::userId).toList();
+        long unsolved = unsolved("problem_id", problemId, "user_id", userIds);
+        return Pending.of(problems.counters.get(problemId), unsolved);
+    }
+
+    public Pending pendingForUser(long userId) {
+        List<Long> problemIds = solves.stream().filter(solve -> solve.userId() == userId).map(Solve::problemId).toList();
+        long unsolved = unsolved("user_id", userId, "problem_id", problemIds);
+        return Pending.of(users.counters.get(userId), unsolved);
+    }
+
+    private long unsolved(String keyColumn, long key, String idColumn, List<Long> pendingIds) {
+        if (pendingIds.isEmpty()) {
+            return 0;
+        }
+        String sql = "select count(*) from " + UserProblemSolved.TABLE + " where " + keyColumn + " = ? and " + idColumn
+            + " in (" + String.join(", ", Collections.nCopies(pendingIds.size(), "?")) + ")";
+        List<Object> args = new ArrayList<>(pendingIds.size() + 1);
+        args.add(key);
+        args.addAll(pendingIds);
+        Long solved = jdbcTemplate.queryForObject(sql, Long.class, args.toArray());
+        return pendingIds.size() - (solved != null ? solved : 0);
+    }
+
+    @Scheduled(fixedDelayString = "${naga.statistics.flush-interval:5s}",
+        initialDelayString = "${naga.statistics.flush-interval:5s}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (DataAccessException ex) {
+            log.warn("제출 통계 반영 실패, 다음 주기에 다시 시도합니다", ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            int flushed = flush();
+            log.info("종료 전 제출 통계 반영 완료: {}행", flushed);
+        } catch (DataAccessException ex) {
+            log.error("종료 전 제출 통계 반영 실패: 문제 {}개, 사용자 {}명, 해결 {}건의 값이 유실됩니다",
+                problems.counters.snapshot().size(), users.counters.snapshot().size(), solves.size(), ex);
+        }
+    }
+
+    /**
+     * 반영한 행 수를 돌려준다. 주기 작업과 종료 처리가 겹치지 않도록 한 번에 하나만 실행한다.
+     */
+    public synchronized int flush() {
+        return flush(problems) + flush(users) + flushSolves();
+    }
+
+    private int flush(Target target) {
+        List<Map.Entry<Long, long[]>> entries = new ArrayList<>(target.counters.snapshot().entrySet());
+        for (int from = 0; from < entries.size(); from += properties.batchSize()) {
+            List<Map.Entry<Long, long[]>> chunk =
+                entries.subList(from, Math.min(from + properties.batchSize(), entries.size()));
+            transactionTemplate.executeWithoutResult(status -> upsert(target, chunk, LocalDateTime.now()));
+            chunk.forEach(entry -> target.counters.subtract(entry.getKey(), entry.getValue()));
+            target.flushedRows.increment(chunk.size());
+        }
+        target.counters.evictIdle();
+        return entries.size();
+    }
+
+    private int flushSolves() {
+        List<Solve> pending = solves.stream()
+            .sorted(Comparator.comparing(Solve::userId).thenComparing(Solve::problemId))
+            .toList();
+        for (int from = 0; from < pending.size(); from += properties.batchSize()) {
+            List<Solve> chunk = pending.subList(from, Math.min(from + properties.batchSize(), pending.size()));
+            transactionTemplate.executeWithoutResult(status -> recordSolves(chunk, LocalDateTime.now()));
+            chunk.forEach(solves::remove);
+        }
+        return pending.size();
+    }
+
+    /**
+     * 새로 넣은 쌍만 해결 수에 더한다. {@code insert ... select}는 MySQL 드라이버가 다중 행 INSERT로 다시 쓰지 않으므로
+     * 행마다 반영 건수를 돌려받는다.
+     */
+    private void recordSolves(List<Solve> chunk, LocalDateTime now) {
+        int[] inserted = jdbcTemplate.batchUpdate(SOLVED_INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Solve solve = chunk.get(i);
+                ps.setLong(1, solve.userId());
+                ps.setLong(2, solve.problemId());
+                ps.setObject(3, now);
+                ps.setLong(4, solve.userId());
+                ps.setLong(5, solve.problemId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return chunk.size();
+            }
+        });
+
+        List<Solve> firstSolves = new ArrayList<>();
+        for (int i = 0; i < inserted.length; i++) {
+            if (inserted[i] == 1) {
+                firstSolves.add(chunk.get(i));
+            }
+        }
+        if (firstSolves.isEmpty()) {
+            return;
+        }
+        upsert(problems, solvedDeltas(firstSolves, Solve::problemId), now);
+        upsert(users, solvedDeltas(firstSolves, Solve::userId), now);
+    }
+
+    private static List<Map.Entry<Long, long[]>> solvedDeltas(List<Solve> firstSolves, Function<Solve, Long> key) {
+        Map<Long, long[]> deltas = new TreeMap<>();
+        firstSolves.forEach(solve -> deltas.computeIfAbsent(key.apply(solve), k -> new long[3])[SOLVED]++);
+        return new ArrayList<>(deltas.entrySet());
+    }
+
+    private void upsert(Target target, List<Map.Entry<Long, long[]>> chunk, LocalDateTime now) {
+        int[] updated = jdbcTemplate.batchUpdate(target.updateSql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                long[] deltas = chunk.get(i).getValue();
+                ps.setLong(1, deltas[SUBMISSIONS]);
+                ps.setLong(2, deltas[ACCEPTED]);
+                ps.setLong(3, deltas[SOLVED]);
+                ps.setObject(4, now);
+                ps.setLong(5, chunk.get(i).getKey());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return chunk.size();
+            }
+        });
+
+        List<Map.Entry<Long, long[]>> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(chunk.get(i));
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(target.insertSql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                long[] deltas = missing.get(i).getValue();
+                ps.setLong(1, missing.get(i).getKey());
+                ps.setLong(2, deltas[SUBMISSIONS]);
+                ps.setLong(3, deltas[ACCEPTED]);
+                ps.setLong(4, deltas[SOLVED]);
+                ps.setObject(5, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return missing.size();
+            }
+        });
+    }
+
+    /**
+     * @param submissionCount 아직 반영하지 않은 제출 수
+     * @param acceptedCount   아직 반영하지 않은 정답 수
+     * @param solvedCount     아직 반영하지 않은 해결 수
+     */
+    public record Pending(long submissionCount, long acceptedCount, long solvedCount) {
+
+        private static Pending of(long[] sums, long solvedCount) {
+            return new Pending(sums[SUBMISSIONS], sums[ACCEPTED], solvedCount);
+        }
+    }
+
+    private record Solve(long userId, long problemId) {
+    }
+
+    private static final class Target {
+
+        private final StripedCounters counters = new StripedCounters(3);
+        private final String updateSql;
+        private final String insertSql;
+        private final Counter flushedRows;
+
+        private Target(String table, String keyColumn, MeterRegistry meterRegistry) {
+            this.updateSql = "update " + table + " set submission_count = submission_count + ?,"
+                + " accepted_count = accepted_count + ?, solved_count = solved_count + ?, updated_at = ?"
+                + " where " + keyColumn + " = ?";
+            this.insertSql = "insert into " + table + " (" + keyColumn + ", submission_count, accepted_count,"
+                + " solved_count, updated_at) values (?, ?, ?, ?, ?)";
+            this.flushedRows = Counter.builder("naga.statistics.flushed.rows")
+                .description("DB에 반영한 통계 행 수")
+                .tag("table", table)
+                .register(meterRegistry);
+            Gauge.builder("naga.statistics.pending.keys", counters, StripedCounters::size)
+                .description("아직 반영하지 않은 값이 있거나 최근 갱신된 키 수")
+                .tag("table", table)
+                .register(meterRegistry);
+        }
+    }
+}
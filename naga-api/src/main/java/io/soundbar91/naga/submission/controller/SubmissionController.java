@@ -0,0 +1,84 @@
+package io.soundbar91.naga.submission.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.validation.Valid;
+
+import io.soundbar91.naga.common.dto.ApiResponse;
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.submission.dto.CreateSubmissionRequest;
+import io.soundbar91.naga.submission.dto.SubmissionResponse;
+import io.soundbar91.naga.submission.entity.Submission;
+import io.soundbar91.naga.submission.service.SubmissionService;
+import io.soundbar91.naga.submission.stream.SubmissionStreamHub;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/submissions")
+@RequiredArgsConstructor
+public class SubmissionController {
+
+    private final SubmissionService submissionService;
+
+    /**
+     * 채점은 비동기로 진행되므로 {@code PENDING} 상태의 제출을 202로 돌려준다.
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<SubmissionResponse>> create(@Valid @RequestBody CreateSubmissionRequest request) {
+        Submission submission = submissionService.create(
+            request.userId(),
+            request.problemId(),
+            request.contestId(),
+            request.language(),
+            request.sourceCode(),
+            request.verdictMode()
+        );
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(SubmissionResponse.from(submission)));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<SubmissionResponse>> get(@PathVariable Long id) {
+        Submission submission = submissionService.get(id);
+        return ResponseEntity.ok(ApiResponse.success(SubmissionResponse.from(submission)));
+    }
+
+    /**
+     * 채점 진행 상황을 {@code progress} 이벤트로 보내고 판정을 보낸 뒤 닫는다. 이벤트 데이터는 {@link ApiResponse} 형태다.
+     */
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(submissionService.stream(id));
+        } catch (BusinessException ex) {
+            return rejected(ex);
+        }
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamByUser(@RequestParam Long userId) {
+        try {
+            return ResponseEntity.ok(submissionService.streamByUser(userId));
+        } catch (BusinessException ex) {
+            return rejected(ex);
+        }
+    }
+
+    /**
+     * 이벤트 스트림을 요청한 클라이언트는 JSON 에러 응답을 받을 수 없으므로 에러도 {@code error} 이벤트로 보낸다.
+     */
+    private static ResponseEntity<SseEmitter> rejected(BusinessException ex) {
+        return ResponseEntity.status(ex.getErrorCode().getHttpStatus())
+                .body(SubmissionStreamHub.rejected(ex));
+    }
+}
@@ -0,0 +1,29 @@
+package io.soundbar91.naga.submission.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import io.soundbar91.naga.submission.entity.Language;
+import io.soundbar91.naga.submission.entity.Submission;
+import io.soundbar91.naga.submission.entity.VerdictMode;
+
+public record CreateSubmissionRequest(
+    @NotNull(message = "사용자 ID는 필수입니다")
+    Long userId,
+
+    @NotNull(message = "문제 ID는 필수입니다")
+    Long problemId,
+
+    Long contestId,
+
+    @NotNull(message = "언어는 필수입니다")
+    Language language,
+
+    @NotBlank(message = "소스 코드는 필수입니다")
+    @Size(max = Submission.SOURCE_CODE_MAX_LENGTH, message = "소스 코드는 65536자 이하여야 합니다")
+    String sourceCode,
+
+    VerdictMode verdictMode
+) {
+}
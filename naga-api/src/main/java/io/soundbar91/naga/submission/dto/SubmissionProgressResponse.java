@@ -0,0 +1,26 @@
+package io.soundbar91.naga.submission.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.event.JudgePhase;
+import io.soundbar91.naga.submission.event.SubmissionProgressEvent;
+
+@JsonInclude(value = JsonInclude.Include.NON_NULL)
+public record SubmissionProgressResponse(
+    Long submissionId,
+    JudgePhase phase,
+    int completedCases,
+    int totalCases,
+    SubmissionStatus status
+) {
+    public static SubmissionProgressResponse from(SubmissionProgressEvent event) {
+        return new SubmissionProgressResponse(
+            event.submissionId(),
+            event.phase(),
+            event.completedCases(),
+            event.totalCases(),
+            event.status()
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package io.soundbar91.naga.submission.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.soundbar91.naga.submission.entity.Language;
+import io.soundbar91.naga.submission.entity.Submission;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.entity.VerdictMode;
+
+@JsonInclude(value = JsonInclude.Include.NON_NULL)
+public record SubmissionResponse(
+    Long id,
+    Long userId,
+    Long problemId,
+    Long contestId,
+    Language language,
+    VerdictMode verdictMode,
+    SubmissionStatus status,
+    Integer passedCases,
+    Integer totalCases,
+    Long executionTimeMs,
+    Long memoryKb,
+    String message,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+    public static SubmissionResponse from(Submission submission) {
+        return new SubmissionResponse(
+            submission.getId(),
+            submission.getUserId(),
+            submission.getProblemId(),
+            submission.getContestId(),
+            submission.getLanguage(),
+            submission.getVerdictMode(),
+            submission.getStatus(),
+            submission.getPassedCases(),
+            submission.getTotalCases(),
+            submission.getExecutionTimeMs(),
+            submission.getMemoryKb(),
+            submission.getMessage(),
+            submission.getCreatedAt(),
+            submission.getUpdatedAt()
+        );
+    }
+}
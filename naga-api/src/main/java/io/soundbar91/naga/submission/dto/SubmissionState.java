@@ -0,0 +1,27 @@
+package io.soundbar91.naga.submission.dto;
+
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.event.SubmissionProgressEvent;
+
+/**
+ * 진행 상황을 다시 만드는 데 필요한 제출의 열. 엔티티가 아니므로 영속성 컨텍스트에 같은 제출이 올라와 있어도
+ * 조회할 때의 DB 값을 담는다.
+ */
+public record SubmissionState(
+    Long id,
+    Long userId,
+    SubmissionStatus status,
+    Integer passedCases,
+    Integer totalCases
+) {
+    /**
+     * DB에는 케이스 진행 수가 없으므로 채점 중인 제출은 컴파일 단계로 알리고 이후 이벤트로 갱신한다.
+     */
+    public SubmissionProgressEvent toProgressEvent() {
+        return switch (status) {
+            case PENDING -> SubmissionProgressEvent.queued(id, userId);
+            case JUDGING -> SubmissionProgressEvent.compiling(id, userId, 0);
+            default -> SubmissionProgressEvent.finished(id, userId, status, passedCases, totalCases);
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package io.soundbar91.naga.submission.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 채점 언어별 소스 파일명, 컴파일 명령, 실행 명령.
+ * 명령은 제출 작업 디렉터리에서 실행되며 실행 파일은 {@code PATH}에서 찾는다.
+ */
+@Getter
+public enum Language {
+
+    CPP17("main.cpp", List.of("g++", "-O2", "-std=c++17", "-o", "main", "main.cpp"), List.of("./main")),
+    JAVA17("Main.java", List.of("javac", "-encoding", "UTF-8", "Main.java"), List.of("java", "-cp", ".", "Main")),
+    PYTHON3("main.py", List.of("python3", "-m", "py_compile", "main.py"), List.of("python3", "main.py")),
+    ;
+
+    /**
+     * 메타스페이스, 코드 캐시, 스레드 스택 등 힙 밖에서 쓰는 메모리로 남겨 두는 크기.
+     * 빈 프로그램의 힙 밖 RSS는 약 32MB이므로 클래스를 더 올리는 제출을 감안해 두 배를 둔다.
+     */
+    private static final long JVM_NON_HEAP_HEADROOM_BYTES = 64L * 1024 * 1024;
+
+    private final String sourceFileName;
+    private final List<String> compileCommand;
+    private final List<String> runCommand;
+
+    Language(String sourceFileName, List<String> compileCommand, List<String> runCommand) {
+        this.sourceFileName = sourceFileName;
+        this.compileCommand = compileCommand;
+        this.runCommand = runCommand;
+    }
+
+    /**
+     * JVM은 RSS가 제한에 닿기 전에 힙을 키우므로 최대 힙을 지정한다. 제한은 힙 밖 메모리까지 포함한 RSS로 재므로
+     * 최대 힙을 제한과 같게 두면 힙이 차기 전에 RSS가 제한을 넘는다. 힙 밖 여유를 빼되, 제한이 작으면 절반은 힙에 준다.
+     */
+    public List<String> runCommand(long memoryLimitBytes) {
+        if (this != JAVA17) {
+            return runCommand;
+        }
+        long heapBytes = memoryLimitBytes - Math.min(JVM_NON_HEAP_HEADROOM_BYTES, memoryLimitBytes / 2);
+        List<String> command = new ArrayList<>(runCommand);
+        command.add(1, "-Xmx" + Math.max(1, heapBytes / (1024 * 1024)) + "m");
+        return command;
+    }
+}
@@ -0,0 +1,113 @@
+package io.soundbar91.naga.submission.entity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import org.hibernate.annotations.SQLRestriction;
+
+import io.soundbar91.naga.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Table(
+    name = "submissions",
+    indexes = {
+        @Index(name = "idx_submissions_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_submissions_problem_id", columnList = "problem_id, id"),
+        @Index(name = "idx_submissions_contest_id", columnList = "contest_id, id")
+    }
+)
+@SQLRestriction(BaseEntity.NOT_DELETED)
+@NoArgsConstructor(access = PROTECTED)
+public class Submission extends BaseEntity {
+
+    public static final int SOURCE_CODE_MAX_LENGTH = 65536;
+    public static final int MESSAGE_MAX_LENGTH = 2000;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "problem_id", nullable = false)
+    private Long problemId;
+
+    @Column(name = "contest_id")
+    private Long contestId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "language", nullable = false, length = 20)
+    private Language language;
+
+    @Column(name = "source_code", nullable = false, length = SOURCE_CODE_MAX_LENGTH)
+    private String sourceCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "verdict_mode", nullable = false, length = 20)
+    private VerdictMode verdictMode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 30)
+    private SubmissionStatus status;
+
+    @Column(name = "passed_cases")
+    private Integer passedCases;
+
+    @Column(name = "total_cases")
+    private Integer totalCases;
+
+    @Column(name = "execution_time_ms")
+    private Long executionTimeMs;
+
+    @Column(name = "memory_kb")
+    private Long memoryKb;
+
+    @Column(name = "message", length = MESSAGE_MAX_LENGTH)
+    private String message;
+
+    private Submission(Long userId, Long problemId, Long contestId, Language language, String sourceCode,
+        VerdictMode verdictMode) {
+        this.userId = userId;
+        this.problemId = problemId;
+        this.contestId = contestId;
+        this.language = language;
+        this.sourceCode = sourceCode;
+        this.verdictMode = verdictMode;
+        this.status = SubmissionStatus.PENDING;
+    }
+
+    public static Submission create(Long userId, Long problemId, Long contestId, Language language, String sourceCode,
+        VerdictMode verdictMode) {
+        if (sourceCode == null || sourceCode.isBlank()) {
+            throw new IllegalArgumentException("소스 코드는 필수입니다");
+        }
+        if (sourceCode.length() > SOURCE_CODE_MAX_LENGTH) {
+            throw new IllegalArgumentException("소스 코드는 65536자 이하여야 합니다");
+        }
+        return new Submission(userId, problemId, contestId, language, sourceCode, verdictMode);
+    }
+
+    public void startJudging() {
+        this.status = SubmissionStatus.JUDGING;
+    }
+
+    public void complete(SubmissionStatus status, int passedCases, int totalCases, long executionTimeMs, long memoryKb,
+        String message) {
+        if (!status.isFinal()) {
+            throw new IllegalArgumentException("최종 판정이 아닙니다: " + status);
+        }
+        this.status = status;
+        this.passedCases = passedCases;
+        this.totalCases = totalCases;
+        this.executionTimeMs = executionTimeMs;
+        this.memoryKb = memoryKb;
+        this.message = message != null && message.length() > MESSAGE_MAX_LENGTH
+            ? message.substring(0, MESSAGE_MAX_LENGTH)
+            : message;
+    }
+}
@@ -0,0 +1,25 @@
+package io.soundbar91.naga.submission.entity;
+
+public enum SubmissionStatus {
+    PENDING,
+    JUDGING,
+    ACCEPTED,
+    WRONG_ANSWER,
+    TIME_LIMIT_EXCEEDED,
+    MEMORY_LIMIT_EXCEEDED,
+    OUTPUT_LIMIT_EXCEEDED,
+    RUNTIME_ERROR,
+    COMPILE_ERROR,
+    SYSTEM_ERROR;
+
+    public boolean isFinal() {
+        return this != PENDING && this != JUDGING;
+    }
+
+    /**
+     * 제출한 코드가 틀렸다는 판정. 컴파일 에러와 시스템 오류는 실행 결과가 아니므로 포함하지 않는다.
+     */
+    public boolean isRejected() {
+        return isFinal() && this != ACCEPTED && this != COMPILE_ERROR && this != SYSTEM_ERROR;
+    }
+}
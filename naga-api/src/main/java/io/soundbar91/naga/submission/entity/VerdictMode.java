@@ -0,0 +1,13 @@
+package io.soundbar91.naga.submission.entity;
+
+/**
+ * 채점 방식.
+ * <ul>
+ *     <li>{@code FIRST_FAILURE}: 처음 실패한 테스트 케이스에서 채점을 멈추고 남은 케이스를 취소한다</li>
+ *     <li>{@code ALL_CASES}: 모든 테스트 케이스를 실행해 통과한 케이스 수를 기록한다</li>
+ * </ul>
+ */
+public enum VerdictMode {
+    FIRST_FAILURE,
+    ALL_CASES
+}
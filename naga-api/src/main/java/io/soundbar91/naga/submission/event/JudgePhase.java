@@ -0,0 +1,11 @@
+package io.soundbar91.naga.submission.event;
+
+/**
+ * 채점 진행 단계. 선언 순서가 진행 순서다.
+ */
+public enum JudgePhase {
+    QUEUED,
+    COMPILING,
+    RUNNING,
+    FINISHED
+}
@@ -0,0 +1,19 @@
+package io.soundbar91.naga.submission.event;
+
+import java.time.LocalDateTime;
+
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+
+/**
+ * 제출의 최종 판정이 커밋된 뒤 발행된다. 대회 밖 제출이면 {@code contestId}가 {@code null}이다.
+ * 재구축 시 DB에서 읽은 판정도 같은 형태로 전달된다.
+ */
+public record SubmissionJudgedEvent(
+    Long submissionId,
+    Long contestId,
+    Long userId,
+    Long problemId,
+    SubmissionStatus status,
+    LocalDateTime submittedAt
+) {
+}
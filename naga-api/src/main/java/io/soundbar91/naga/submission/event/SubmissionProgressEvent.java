@@ -0,0 +1,46 @@
+package io.soundbar91.naga.submission.event;
+
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+
+/**
+ * 채점 진행 상황. 판정은 {@link JudgePhase#FINISHED}일 때만 담기며, 이때 {@code completedCases}는 통과한 케이스 수다.
+ * 서로 다른 스레드에서 발행되므로 도착 순서가 진행 순서와 다를 수 있으며, 받는 쪽은 {@link #isAfter}로 걸러낸다.
+ */
+public record SubmissionProgressEvent(
+    Long submissionId,
+    Long userId,
+    JudgePhase phase,
+    int completedCases,
+    int totalCases,
+    SubmissionStatus status
+) {
+    public static SubmissionProgressEvent queued(Long submissionId, Long userId) {
+        return new SubmissionProgressEvent(submissionId, userId, JudgePhase.QUEUED, 0, 0, null);
+    }
+
+    public static SubmissionProgressEvent compiling(Long submissionId, Long userId, int totalCases) {
+        return new SubmissionProgressEvent(submissionId, userId, JudgePhase.COMPILING, 0, totalCases, null);
+    }
+
+    public static SubmissionProgressEvent running(Long submissionId, Long userId, int completedCases, int totalCases) {
+        return new SubmissionProgressEvent(submissionId, userId, JudgePhase.RUNNING, completedCases, totalCases, null);
+    }
+
+    public static SubmissionProgressEvent finished(Long submissionId, Long userId, SubmissionStatus status,
+        int completedCases, int totalCases) {
+        return new SubmissionProgressEvent(submissionId, userId, JudgePhase.FINISHED, completedCases, totalCases, status);
+    }
+
+    /**
+     * 같은 제출에서 {@code other}보다 뒤의 진행 상황이면 {@code true}. {@code other}가 없으면 항상 {@code true}다.
+     */
+    public boolean isAfter(SubmissionProgressEvent other) {
+        if (other == null) {
+            return true;
+        }
+        if (phase != other.phase) {
+            return phase.compareTo(other.phase) > 0;
+        }
+        return completedCases > other.completedCases;
+    }
+}
@@ -0,0 +1,18 @@
+package io.soundbar91.naga.submission.judge;
+
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+
+/**
+ * @param mismatch 오답일 때 처음 달라진 위치, 그 외에는 {@code null}
+ */
+public record CaseResult(
+    TestCase testCase,
+    SubmissionStatus status,
+    long timeMs,
+    long memoryKb,
+    CheckResult mismatch
+) {
+    public boolean accepted() {
+        return status == SubmissionStatus.ACCEPTED;
+    }
+}
@@ -0,0 +1,20 @@
+package io.soundbar91.naga.submission.judge;
+
+/**
+ * 출력 비교 결과.
+ *
+ * @param accepted       정답 여부
+ * @param expectedOffset 처음 달라진 위치의 정답 파일 바이트 오프셋, 정답이면 -1
+ * @param actualOffset   처음 달라진 위치의 실행 출력 바이트 오프셋, 정답이면 -1
+ */
+public record CheckResult(
+    boolean accepted,
+    long expectedOffset,
+    long actualOffset
+) {
+    public static final CheckResult ACCEPTED = new CheckResult(true, -1, -1);
+
+    public static CheckResult mismatch(long expectedOffset, long actualOffset) {
+        return new CheckResult(false, expectedOffset, actualOffset);
+    }
+}
@@ -0,0 +1,13 @@
+package io.soundbar91.naga.submission.judge;
+
+/**
+ * 출력 비교 방식.
+ * <ul>
+ *     <li>{@code LINE}: 줄 단위로 비교한다. 줄 끝 공백과 출력 끝의 빈 줄은 무시한다</li>
+ *     <li>{@code TOKEN}: 공백과 줄바꿈으로 나눈 토큰 단위로 비교한다</li>
+ * </ul>
+ */
+public enum CompareMode {
+    LINE,
+    TOKEN
+}
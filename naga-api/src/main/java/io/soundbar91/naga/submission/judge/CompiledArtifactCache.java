@@ -0,0 +1,334 @@
+package io.soundbar91.naga.submission.judge;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.config.ArtifactCacheProperties;
+import io.soundbar91.naga.submission.entity.Language;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 컴파일 결과의 로컬 디스크 캐시.
+ * <p>
+ * 키는 {@code namespace}, 언어, 컴파일 명령(플래그 포함), 소스 코드의 SHA-256이다. 같은 키의 결과가 있으면 컴파일하지 않고
+ * 캐시 항목의 파일을 작업 디렉터리로 복사한다. 컴파일 에러도 메시지를 캐시하며, 컴파일 시간 초과는 부하 때문일 수 있으므로
+ * 캐시하지 않는다.
+ * <p>
+ * 같은 키를 여러 작업자가 동시에 요청하면 한 작업자만 컴파일하고 나머지는 그 결과가 저장될 때까지 기다린다.
+ * 전체 크기가 {@code maxSize}를 넘으면 가장 오래 쓰이지 않은 항목부터 지운다. 항목은 임시 디렉터리에 만든 뒤
+ * 원자적으로 이름을 바꿔 게시하고, 지울 때도 먼저 이름을 바꿔 복사 중인 항목이 반쯤 지워진 채로 보이지 않게 한다.
+ * 캐시 저장에 실패해도 채점은 계속한다.
+ */
+@Slf4j
+@Component
+public class CompiledArtifactCache {
+
+    private static final String COMPILE_ERROR_FILE = ".compile-error";
+    private static final String TEMP_PREFIX = ".tmp-";
+    private static final String EVICTED_PREFIX = ".evicted-";
+
+    private final SourceCompiler compiler;
+    private final ArtifactCacheProperties properties;
+    private final Path root;
+    private final long maxSizeBytes;
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter evictions;
+    private long totalBytes;
+
+    public CompiledArtifactCache(SourceCompiler compiler, ArtifactCacheProperties properties, MeterRegistry meterRegistry)
+        throws IOException {
+        this.compiler = compiler;
+        this.properties = properties;
+        this.root = properties.resolvedDirectory();
+        this.maxSizeBytes = properties.maxSize().toBytes();
+
+        this.hits = Counter.builder("naga.judge.artifact.cache.lookups")
+            .tag("result", "hit")
+            .description("캐시된 컴파일 결과를 사용한 횟수")
+            .register(meterRegistry);
+        this.misses = Counter.builder("naga.judge.artifact.cache.lookups")
+            .tag("result", "miss")
+            .description("캐시에 없어 컴파일한 횟수")
+            .register(meterRegistry);
+        this.coalesced = Counter.builder("naga.judge.artifact.cache.coalesced")
+            .description("같은 키를 컴파일 중인 작업자를 기다린 횟수")
+            .register(meterRegistry);
+        this.evictions = Counter.builder("naga.judge.artifact.cache.evictions")
+            .description("크기 상한 때문에 지운 항목 수")
+            .register(meterRegistry);
+        Gauge.builder("naga.judge.artifact.cache.size", this, CompiledArtifactCache::sizeBytes)
+            .description("캐시 전체 크기(바이트)")
+            .register(meterRegistry);
+        Gauge.builder("naga.judge.artifact.cache.entries", this, CompiledArtifactCache::entryCount)
+            .description("캐시 항목 수")
+            .register(meterRegistry);
+
+        if (properties.enabled()) {
+            Files.createDirectories(root);
+            load();
+        }
+    }
+
+    public SourceCompiler.Result compile(Language language, String sourceCode, Path directory) throws IOException {
+        if (!properties.enabled()) {
+            return compiler.compile(language, sourceCode, directory);
+        }
+
+        String key = key(language, sourceCode);
+        while (true) {
+            SourceCompiler.Result cached = restore(key, directory);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+
+            CompletableFuture<Void> flight = new CompletableFuture<>();
+            CompletableFuture<Void> leader = inFlight.putIfAbsent(key, flight);
+            if (leader == null) {
+                try {
+                    cached = restore(key, directory);
+                    if (cached != null) {
+                        hits.increment();
+                        return cached;
+                    }
+                    misses.increment();
+                    SourceCompiler.Result result = compiler.compile(language, sourceCode, directory);
+                    store(key, directory, result);
+                    return result;
+                } finally {
+                    inFlight.remove(key, flight);
+                    flight.complete(null);
+                }
+            }
+
+            coalesced.increment();
+            await(leader);
+        }
+    }
+
+    long sizeBytes() {
+        synchronized (entries) {
+            return totalBytes;
+        }
+    }
+
+    int entryCount() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private SourceCompiler.Result restore(String key, Path directory) throws IOException {
+        synchronized (entries) {
+            if (entries.get(key) == null) {
+                return null;
+            }
+        }
+
+        Path entry = root.resolve(key);
+        try {
+            Path compileError = entry.resolve(COMPILE_ERROR_FILE);
+            SourceCompiler.Result result;
+            if (Files.exists(compileError)) {
+                result = SourceCompiler.Result.failed(Files.readString(compileError, StandardCharsets.UTF_8));
+            } else {
+                copyFiles(entry, directory);
+                result = SourceCompiler.Result.compiled();
+            }
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            return result;
+        } catch (NoSuchFileException ex) {
+            // 복사하는 동안 항목이 지워졌다
+            return null;
+        } catch (UncheckedIOException ex) {
+            // Files.walk로 순회하는 도중 항목이 지워졌다
+            if (ex.getCause() instanceof NoSuchFileException) {
+                return null;
+            }
+            throw ex;
+        }
+    }
+
+    private void store(String key, Path directory, SourceCompiler.Result result) {
+        if (result.timedOut()) {
+            return;
+        }
+
+        Path temp = root.resolve(TEMP_PREFIX + UUID.randomUUID());
+        try {
+            Files.createDirectories(temp);
+            if (result.success()) {
+                copyFiles(directory, temp);
+                Files.deleteIfExists(temp.resolve(SourceCompiler.COMPILE_LOG));
+            } else {
+                Files.writeString(temp.resolve(COMPILE_ERROR_FILE), result.message(), StandardCharsets.UTF_8);
+            }
+
+            long size = sizeOf(temp);
+            if (size > maxSizeBytes) {
+                deleteRecursively(temp);
+                return;
+            }
+            try {
+                Files.move(temp, root.resolve(key), StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException | DirectoryNotEmptyException ex) {
+                deleteRecursively(temp);
+                return;
+            }
+            register(key, size);
+        } catch (IOException | UncheckedIOException ex) {
+            log.warn("컴파일 결과 캐시 저장 실패: key={}", key, ex);
+            deleteRecursively(temp);
+        }
+    }
+
+    private void register(String key, long size) {
+        List<String> evicted = new ArrayList<>();
+        synchronized (entries) {
+            Long previous = entries.put(key, size);
+            totalBytes += size - (previous != null ? previous : 0);
+            Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+            while (totalBytes > maxSizeBytes && eldest.hasNext()) {
+                Map.Entry<String, Long> entry = eldest.next();
+                if (entry.getKey().equals(key)) {
+                    continue;
+                }
+                totalBytes -= entry.getValue();
+                evicted.add(entry.getKey());
+                eldest.remove();
+            }
+        }
+
+        for (String evictedKey : evicted) {
+            Path trash = root.resolve(EVICTED_PREFIX + UUID.randomUUID());
+            try {
+                Files.move(root.resolve(evictedKey), trash, StandardCopyOption.ATOMIC_MOVE);
+                deleteRecursively(trash);
+            } catch (IOException ex) {
+                log.warn("컴파일 결과 캐시 삭제 실패: key={}", evictedKey, ex);
+            }
+            evictions.increment();
+        }
+    }
+
+    /**
+     * 재시작 후 디렉터리에 남은 항목을 마지막 사용 시각 순으로 다시 등록하고, 중단된 저장과 삭제의 흔적을 지운다.
+     */
+    private void load() throws IOException {
+        List<Path> existing = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(root)) {
+            for (Path path : paths.toList()) {
+                String name = path.getFileName().toString();
+                if (name.startsWith(TEMP_PREFIX) || name.startsWith(EVICTED_PREFIX)) {
+                    deleteRecursively(path);
+                } else if (Files.isDirectory(path)) {
+                    existing.add(path);
+                }
+            }
+        }
+
+        existing.sort(Comparator.comparing(CompiledArtifactCache::lastModified));
+        for (Path path : existing) {
+            register(path.getFileName().toString(), sizeOf(path));
+        }
+    }
+
+    private String key(Language language, String sourceCode) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String header = properties.namespace() + "\n" + language.name() + "\n"
+                + String.join(" ", language.getCompileCommand()) + "\n";
+            digest.update(header.getBytes(StandardCharsets.UTF_8));
+            digest.update(sourceCode.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void await(CompletableFuture<Void> leader) {
+        try {
+            leader.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("채점이 취소되었습니다");
+        } catch (ExecutionException ex) {
+            // 먼저 컴파일한 작업자는 결과와 관계없이 정상 완료한다
+        }
+    }
+
+    private static void copyFiles(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : paths.toList()) {
+                Path destination = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(destination);
+                } else {
+                    Files.copy(path, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+                }
+            }
+        }
+    }
+
+    private static long sizeOf(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile)
+                .mapToLong(path -> {
+                    try {
+                        return Files.size(path);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                })
+                .sum();
+        }
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException ex) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException | UncheckedIOException ex) {
+            // 남은 파일은 다음 기동 때 정리된다
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package io.soundbar91.naga.submission.judge;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.config.JudgeProperties;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.entity.VerdictMode;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 제출 하나를 컴파일하고 테스트 케이스를 병렬로 실행해 판정한다. 컴파일은 {@link CompiledArtifactCache}를 거친다.
+ * <p>
+ * 테스트 케이스는 모든 제출이 공유하는 코어 수 크기의 실행 풀에서 번호 순으로 실행된다.
+ * {@link VerdictMode#FIRST_FAILURE}이면 실패한 케이스가 나오는 즉시 실행 중이거나 대기 중인 나머지 케이스를 취소한다.
+ * 작업 디렉터리는 이미 시작된 케이스의 프로세스가 모두 종료된 뒤에 지운다.
+ */
+@Component
+public class Judge {
+
+    private final TestCaseStore testCaseStore;
+    private final CompiledArtifactCache compiler;
+    private final ProcessRunner processRunner;
+    private final OutputChecker outputChecker;
+    private final JudgeProperties properties;
+    private final ThreadPoolExecutor caseExecutor;
+
+    public Judge(
+        TestCaseStore testCaseStore,
+        CompiledArtifactCache compiler,
+        ProcessRunner processRunner,
+        OutputChecker outputChecker,
+        JudgeProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.testCaseStore = testCaseStore;
+        this.compiler = compiler;
+        this.processRunner = processRunner;
+        this.outputChecker = outputChecker;
+        this.properties = properties;
+
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.caseExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(
+            properties.resolvedCaseParallelism(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "judge-case-" + threadSequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+
+        Gauge.builder("naga.judge.case.queue.depth", caseExecutor, executor -> executor.getQueue().size())
+            .description("실행을 기다리는 테스트 케이스 수")
+            .register(meterRegistry);
+        Gauge.builder("naga.judge.case.active", caseExecutor, ThreadPoolExecutor::getActiveCount)
+            .description("실행 중인 테스트 케이스 수")
+            .register(meterRegistry);
+    }
+
+    public JudgeResult grade(JudgeTask task) {
+        return grade(task, JudgeProgressListener.NONE);
+    }
+
+    public JudgeResult grade(JudgeTask task, JudgeProgressListener listener) {
+        List<TestCase> testCases = testCaseStore.load(task.problemId());
+        Path directory = createWorkDirectory(task.submissionId());
+        try {
+            listener.compiling(testCases.size());
+            SourceCompiler.Result compiled = compiler.compile(task.language(), task.sourceCode(), directory);
+            if (!compiled.success()) {
+                return JudgeResult.compileError(testCases.size(), compiled.message());
+            }
+            listener.running(0, testCases.size());
+            return runTestCases(task, testCases, directory, listener);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    private JudgeResult runTestCases(JudgeTask task, List<TestCase> testCases, Path directory,
+        JudgeProgressListener listener) {
+        CompletionService<CaseResult> completion = new ExecutorCompletionService<>(caseExecutor);
+        List<Future<CaseResult>> futures = new ArrayList<>(testCases.size());
+        CaseResult[] results = new CaseResult[testCases.size()];
+        AtomicBoolean stopped = new AtomicBoolean();
+        Phaser running = new Phaser(1);
+
+        try {
+            for (TestCase testCase : testCases) {
+                futures.add(completion.submit(() -> {
+                    running.register();
+                    try {
+                        if (stopped.get()) {
+                            throw new CancellationException();
+                        }
+                        return runTestCase(task, testCase, directory);
+                    } finally {
+                        running.arriveAndDeregister();
+                    }
+                }));
+            }
+            for (int completed = 0; completed < testCases.size(); completed++) {
+                CaseResult result = completion.take().get();
+                results[result.testCase().index()] = result;
+                listener.running(completed + 1, testCases.size());
+                if (!result.accepted() && task.verdictMode() == VerdictMode.FIRST_FAILURE) {
+                    break;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("채점이 중단되었습니다", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("테스트 케이스 실행에 실패했습니다", ex.getCause());
+        } finally {
+            stopped.set(true);
+            futures.forEach(future -> future.cancel(true));
+            running.arriveAndAwaitAdvance();
+        }
+
+        return JudgeResult.of(results);
+    }
+
+    /**
+     * 실행 출력은 파일에 쓰지 않고 파이프로 받아 바로 비교한다. 정답과 달라지는 즉시 프로세스를 멈춘다.
+     */
+    private CaseResult runTestCase(JudgeTask task, TestCase testCase, Path directory) throws IOException {
+        long memoryLimit = properties.memoryLimit().toBytes();
+        ProcessBuilder builder = new ProcessBuilder(task.language().runCommand(memoryLimit))
+            .directory(directory.toFile())
+            .redirectInput(testCase.input().toFile())
+            .redirectError(ProcessBuilder.Redirect.DISCARD);
+
+        AtomicReference<CheckResult> check = new AtomicReference<>();
+        ProcessRunner.Result run = processRunner.run(
+            builder, properties.timeLimit(), memoryLimit, properties.outputLimit().toBytes(), stdout -> {
+                CheckResult result = outputChecker.check(testCase.expectedOutput(), stdout);
+                check.set(result);
+                return result.accepted();
+            });
+        SubmissionStatus status = verdict(run, check.get());
+        return new CaseResult(testCase, status, run.timeMs(), run.memoryKb(),
+            status == SubmissionStatus.WRONG_ANSWER ? check.get() : null);
+    }
+
+    private static SubmissionStatus verdict(ProcessRunner.Result run, CheckResult check) {
+        return switch (run.outcome()) {
+            case TIME_LIMIT_EXCEEDED -> SubmissionStatus.TIME_LIMIT_EXCEEDED;
+            case MEMORY_LIMIT_EXCEEDED -> SubmissionStatus.MEMORY_LIMIT_EXCEEDED;
+            case OUTPUT_LIMIT_EXCEEDED -> SubmissionStatus.OUTPUT_LIMIT_EXCEEDED;
+            case STOPPED -> SubmissionStatus.WRONG_ANSWER;
+            case EXITED -> {
+                if (run.exitCode() != 0) {
+                    yield SubmissionStatus.RUNTIME_ERROR;
+                }
+                yield check != null && check.accepted() ? SubmissionStatus.ACCEPTED : SubmissionStatus.WRONG_ANSWER;
+            }
+        };
+    }
+
+    private Path createWorkDirectory(Long submissionId) {
+        try {
+            Path root = Files.createDirectories(properties.resolvedWorkDirectory());
+            return Files.createTempDirectory(root, "submission-" + submissionId + "-");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException ex) {
+            // 지우지 못한 작업 디렉터리는 판정에 영향을 주지 않으므로 남겨 둔다
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        caseExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,16 @@
+package io.soundbar91.naga.submission.judge;
+
+/**
+ * 채점 진행 상황을 받는다. 채점을 호출한 작업자 스레드에서 호출되며 오래 걸리는 작업을 해서는 안 된다.
+ */
+public interface JudgeProgressListener {
+
+    JudgeProgressListener NONE = new JudgeProgressListener() {
+    };
+
+    default void compiling(int totalCases) {
+    }
+
+    default void running(int completedCases, int totalCases) {
+    }
+}
@@ -0,0 +1,134 @@
+package io.soundbar91.naga.submission.judge;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.config.JudgeProperties;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.event.SubmissionProgressEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 내 채점 대기열.
+ * <p>
+ * {@code workers}개의 작업자가 크기가 고정된 대기열에서 제출을 꺼내 채점한다. 대기열이 가득 차면 요청을 쌓아두지 않고
+ * {@link ErrorCode#JUDGE_QUEUE_FULL}로 즉시 거절한다.
+ * <p>
+ * 채점 서버 규모를 정할 수 있도록 다음 지표를 노출한다.
+ * <ul>
+ *     <li>{@code naga.judge.queue.depth}: 대기 중인 제출 수</li>
+ *     <li>{@code naga.judge.active}: 채점 중인 제출 수</li>
+ *     <li>{@code naga.judge.queue.wait}: 대기열에서 기다린 시간</li>
+ *     <li>{@code naga.judge.duration{verdict}}: 판정별 채점 시간(컴파일 포함)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class JudgeQueue {
+
+    private final JudgeWorker worker;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTimer;
+    private final Map<SubmissionStatus, Timer> durationTimers = new EnumMap<>(SubmissionStatus.class);
+
+    public JudgeQueue(JudgeWorker worker, JudgeProperties properties, MeterRegistry meterRegistry,
+        ApplicationEventPublisher eventPublisher) {
+        this.worker = worker;
+        this.eventPublisher = eventPublisher;
+
+        int workers = properties.resolvedWorkers();
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            workers, workers,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.queueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "judge-worker-" + threadSequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("naga.judge.queue.depth", executor, pool -> pool.getQueue().size())
+            .description("채점을 기다리는 제출 수")
+            .register(meterRegistry);
+        Gauge.builder("naga.judge.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("채점 중인 제출 수")
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("naga.judge.queue.wait")
+            .description("제출이 채점 대기열에서 기다린 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        for (SubmissionStatus status : SubmissionStatus.values()) {
+            if (status.isFinal()) {
+                durationTimers.put(status, Timer.builder("naga.judge.duration")
+                    .description("판정별 채점 시간")
+                    .tag("verdict", status.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            }
+        }
+    }
+
+    /**
+     * 대기열에 넣은 뒤에만 {@code QUEUED}를 발행하므로 거절된 제출은 대기 중으로 알려지지 않는다.
+     * 작업자는 발행이 끝날 때까지 기다렸다가 채점하므로 {@code QUEUED}가 작업자의 진행 이벤트보다 먼저 나간다.
+     */
+    public void submit(JudgeTask task) {
+        long enqueuedAt = System.nanoTime();
+        CompletableFuture<Void> queued = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                queued.join();
+                judge(task, enqueuedAt);
+            });
+        } catch (RejectedExecutionException ex) {
+            throw new BusinessException(ErrorCode.JUDGE_QUEUE_FULL);
+        }
+        try {
+            eventPublisher.publishEvent(SubmissionProgressEvent.queued(task.submissionId(), task.userId()));
+        } finally {
+            queued.complete(null);
+        }
+    }
+
+    private void judge(JudgeTask task, long enqueuedAt) {
+        long startedAt = System.nanoTime();
+        waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+        try {
+            SubmissionStatus status = worker.judge(task);
+            durationTimers.get(status).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException ex) {
+            log.error("판정 저장 실패: submissionId={}", task.submissionId(), ex);
+        }
+    }
+
+    /**
+     * 대기 중인 제출은 버린다. {@code PENDING}으로 남은 제출은 다음 시작 때 {@link JudgeRecovery}가 다시 넣는다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        int dropped = executor.shutdownNow().size();
+        if (dropped > 0) {
+            log.warn("종료로 채점하지 못한 대기 제출 {}건은 다음 시작 때 다시 채점합니다", dropped);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.soundbar91.naga.submission.judge;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.repository.SubmissionRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시작 시 끝나지 않은 제출을 다시 채점 대기열에 넣는다.
+ * <p>
+ * 대기열은 프로세스 안에만 있으므로 종료할 때 대기 중이거나 채점 중이던 제출은 {@code PENDING}이나 {@code JUDGING}으로
+ * 남는다. 이런 제출을 id 순으로 다시 넣고, 대기열이 가득 차 넣지 못한 제출은 {@link SubmissionStatus#SYSTEM_ERROR}로
+ * 끝내 영원히 대기 상태로 남지 않게 한다. 채점 인스턴스가 하나라는 전제이며, 여럿이면 같은 제출을 중복 채점한다.
+ */
+@Slf4j
+@Component
+public class JudgeRecovery {
+
+    static final String QUEUE_FULL_MESSAGE = "서버 재시작 후 채점 대기열이 가득 차 채점하지 못했습니다";
+
+    private final SubmissionRepository submissionRepository;
+    private final JudgeQueue judgeQueue;
+    private final JudgeWorker judgeWorker;
+    private final TransactionTemplate transactionTemplate;
+
+    public JudgeRecovery(SubmissionRepository submissionRepository, JudgeQueue judgeQueue, JudgeWorker judgeWorker,
+        PlatformTransactionManager transactionManager) {
+        this.submissionRepository = submissionRepository;
+        this.judgeQueue = judgeQueue;
+        this.judgeWorker = judgeWorker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 방금 커밋된 제출을 놓치지 않도록 복제본이 아니라 원본에서 읽는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        List<JudgeTask> unfinished = transactionTemplate.execute(status -> submissionRepository
+            .findAllByStatusInOrderByIdAsc(EnumSet.of(SubmissionStatus.PENDING, SubmissionStatus.JUDGING))
+            .stream()
+            .map(JudgeTask::from)
+            .toList());
+        if (unfinished.isEmpty()) {
+            return;
+        }
+
+        List<JudgeTask> rejected = new ArrayList<>();
+        for (JudgeTask task : unfinished) {
+            try {
+                judgeQueue.submit(task);
+            } catch (BusinessException ex) {
+                rejected.add(task);
+            }
+        }
+        rejected.forEach(task -> judgeWorker.fail(task, QUEUE_FULL_MESSAGE));
+        log.info("끝나지 않은 제출 복구 완료: 다시 대기 {}건, 시스템 오류 처리 {}건",
+            unfinished.size() - rejected.size(), rejected.size());
+    }
+}
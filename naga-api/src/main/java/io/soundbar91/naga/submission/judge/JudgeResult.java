@@ -0,0 +1,57 @@
+package io.soundbar91.naga.submission.judge;
+
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+
+public record JudgeResult(
+    SubmissionStatus status,
+    int passedCases,
+    int totalCases,
+    long executionTimeMs,
+    long memoryKb,
+    String message
+) {
+    public static JudgeResult compileError(int totalCases, String message) {
+        return new JudgeResult(SubmissionStatus.COMPILE_ERROR, 0, totalCases, 0, 0, message);
+    }
+
+    public static JudgeResult systemError(String message) {
+        return new JudgeResult(SubmissionStatus.SYSTEM_ERROR, 0, 0, 0, 0, message);
+    }
+
+    /**
+     * 실행된 케이스 결과를 모은다. 조기 종료로 실행되지 않은 케이스는 {@code null}이며,
+     * 판정은 실행된 케이스 중 번호가 가장 앞선 실패 케이스를 따른다.
+     */
+    public static JudgeResult of(CaseResult[] results) {
+        int passed = 0;
+        long time = 0;
+        long memory = 0;
+        CaseResult firstFailure = null;
+        for (CaseResult result : results) {
+            if (result == null) {
+                continue;
+            }
+            time = Math.max(time, result.timeMs());
+            memory = Math.max(memory, result.memoryKb());
+            if (result.accepted()) {
+                passed++;
+            } else if (firstFailure == null) {
+                firstFailure = result;
+            }
+        }
+
+        if (firstFailure == null) {
+            return new JudgeResult(SubmissionStatus.ACCEPTED, passed, results.length, time, memory, null);
+        }
+        return new JudgeResult(firstFailure.status(), passed, results.length, time, memory, describe(firstFailure));
+    }
+
+    private static String describe(CaseResult failure) {
+        String message = "테스트 케이스 " + failure.testCase().name();
+        if (failure.mismatch() == null) {
+            return message;
+        }
+        return message + ": 출력 " + failure.mismatch().actualOffset() + "바이트 위치부터 정답("
+            + failure.mismatch().expectedOffset() + "바이트 위치)과 다릅니다";
+    }
+}
@@ -0,0 +1,28 @@
+package io.soundbar91.naga.submission.judge;
+
+import io.soundbar91.naga.submission.entity.Language;
+import io.soundbar91.naga.submission.entity.Submission;
+import io.soundbar91.naga.submission.entity.VerdictMode;
+
+/**
+ * 채점 대기열에 들어가는 작업. 작업자가 제출을 다시 조회하지 않도록 채점에 필요한 값을 담는다.
+ */
+public record JudgeTask(
+    Long submissionId,
+    Long userId,
+    Long problemId,
+    Language language,
+    String sourceCode,
+    VerdictMode verdictMode
+) {
+    public static JudgeTask from(Submission submission) {
+        return new JudgeTask(
+            submission.getId(),
+            submission.getUserId(),
+            submission.getProblemId(),
+            submission.getLanguage(),
+            submission.getSourceCode(),
+            submission.getVerdictMode()
+        );
+    }
+}
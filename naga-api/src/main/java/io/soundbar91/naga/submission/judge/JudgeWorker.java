@@ -0,0 +1,92 @@
+package io.soundbar91.naga.submission.judge;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.soundbar91.naga.submission.entity.Submission;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.event.SubmissionJudgedEvent;
+import io.soundbar91.naga.submission.event.SubmissionProgressEvent;
+import io.soundbar91.naga.submission.repository.SubmissionRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대기열에서 꺼낸 제출을 채점하고 판정을 저장한다.
+ * 채점하는 동안에는 커넥션을 잡지 않도록 상태 변경마다 짧은 트랜잭션을 사용한다.
+ * 진행 단계마다 {@link SubmissionProgressEvent}를, 판정이 커밋되면 {@link SubmissionJudgedEvent}를 발행한다.
+ */
+@Slf4j
+@Component
+public class JudgeWorker {
+
+    private final Judge judge;
+    private final SubmissionRepository submissionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public JudgeWorker(Judge judge, SubmissionRepository submissionRepository,
+        PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher) {
+        this.judge = judge;
+        this.submissionRepository = submissionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    public SubmissionStatus judge(JudgeTask task) {
+        transactionTemplate.executeWithoutResult(status ->
+            submissionRepository.findById(task.submissionId()).ifPresent(Submission::startJudging));
+
+        JudgeResult result;
+        try {
+            result = judge.grade(task, new JudgeProgressListener() {
+                @Override
+                public void compiling(int totalCases) {
+                    eventPublisher.publishEvent(
+                        SubmissionProgressEvent.compiling(task.submissionId(), task.userId(), totalCases));
+                }
+
+                @Override
+                public void running(int completedCases, int totalCases) {
+                    eventPublisher.publishEvent(SubmissionProgressEvent.running(
+                        task.submissionId(), task.userId(), completedCases, totalCases));
+                }
+            });
+        } catch (RuntimeException ex) {
+            log.error("채점 실패: submissionId={}", task.submissionId(), ex);
+            result = JudgeResult.systemError("채점 중 오류가 발생했습니다");
+        }
+
+        record(task, result);
+        return result.status();
+    }
+
+    /**
+     * 채점하지 않고 {@link SubmissionStatus#SYSTEM_ERROR}로 끝낸다. 채점 결과와 같은 이벤트를 발행한다.
+     */
+    public void fail(JudgeTask task, String message) {
+        record(task, JudgeResult.systemError(message));
+    }
+
+    private void record(JudgeTask task, JudgeResult verdict) {
+        SubmissionJudgedEvent event = transactionTemplate.execute(status ->
+            submissionRepository.findById(task.submissionId()).map(submission -> {
+                submission.complete(
+                    verdict.status(),
+                    verdict.passedCases(),
+                    verdict.totalCases(),
+                    verdict.executionTimeMs(),
+                    verdict.memoryKb(),
+                    verdict.message()
+                );
+                return new SubmissionJudgedEvent(submission.getId(), submission.getContestId(), submission.getUserId(),
+                    submission.getProblemId(), submission.getStatus(), submission.getCreatedAt());
+            }).orElse(null));
+        if (event != null) {
+            eventPublisher.publishEvent(event);
+            eventPublisher.publishEvent(SubmissionProgressEvent.finished(
+                task.submissionId(), task.userId(), verdict.status(), verdict.passedCases(), verdict.totalCases()));
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package io.soundbar91.naga.submission.judge;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.soundbar91.naga.config.JudgeProperties;
+
+/**
+ * 정답 출력 파일과 실행 출력을 바이트 단위로 흘려 가며 비교한다.
+ * <p>
+ * 정답 파일은 최대 256MB 단위로 메모리 매핑해 힙으로 복사하지 않고, 실행 출력은 고정 크기 버퍼로
+ * 읽으면서 같은 구간을 벡터 비교로 넘기므로 테스트 파일 크기와 관계없이 힙 사용량이 일정하다. 처음 달라진 위치에서 바로 멈추고
+ * 양쪽의 바이트 오프셋을 돌려준다.
+ * <p>
+ * 공백으로 보는 바이트는 ASCII 공백(스페이스, 탭, CR, FF, VT)과 줄바꿈뿐이다.
+ * UTF-8의 멀티바이트 문자는 ASCII 바이트를 포함하지 않으므로 디코딩 없이 바이트로 비교해도 결과가 같다.
+ */
+@Component
+public class OutputChecker {
+
+    private static final int WINDOW_SIZE = 256 * 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int EOF = -1;
+    private static final int NEWLINE = '\n';
+
+    private final CompareMode mode;
+    private final int windowSize;
+
+    @Autowired
+    public OutputChecker(JudgeProperties properties) {
+        this(properties.compareMode());
+    }
+
+    public OutputChecker(CompareMode mode) {
+        this(mode, WINDOW_SIZE);
+    }
+
+    OutputChecker(CompareMode mode, int windowSize) {
+        this.mode = mode;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * {@code actual}을 끝까지 읽지 않고 돌아올 수 있으므로, 호출한 쪽이 스트림을 닫거나 실행을 멈춰야 한다.
+     */
+    public CheckResult check(Path expected, InputStream actual) throws IOException {
+        try (FileChannel channel = FileChannel.open(expected, StandardOpenOption.READ)) {
+            MappedCursor expectedCursor = new MappedCursor(channel, windowSize);
+            StreamCursor actualCursor = new StreamCursor(actual);
+            return mode == CompareMode.TOKEN
+                ? compareTokens(expectedCursor, actualCursor)
+                : compareLines(expectedCursor, actualCursor);
+        }
+    }
+
+    /**
+     * 같은 구간은 {@link #skipCommon}으로 한꺼번에 넘기고, 달라진 지점에서는 양쪽이 모두 줄 끝 공백인지 확인한다.
+     * 달라진 지점부터 양쪽의 공백을 건너뛰어 둘 다 줄바꿈이나 끝에 닿으면 줄 끝 공백의 차이이므로 계속 비교한다.
+     * 한쪽만 끝났으면 다른 쪽의 나머지가 모두 공백일 때만 정답이다.
+     */
+    private static CheckResult compareLines(MappedCursor expected, StreamCursor actual) throws IOException {
+        while (true) {
+            skipCommon(expected, actual);
+            int e = expected.peek();
+            int a = actual.peek();
+            if (e == EOF && a == EOF) {
+                return CheckResult.ACCEPTED;
+            }
+
+            long expectedOffset = expected.position();
+            long actualOffset = actual.position();
+            e = skipBlanks(expected);
+            a = skipBlanks(actual);
+            if (!isLineEnd(e) || !isLineEnd(a)) {
+                return CheckResult.mismatch(expectedOffset, actualOffset);
+            }
+            if (e == EOF && a != EOF && !restIsWhitespace(actual)
+                || a == EOF && e != EOF && !restIsWhitespace(expected)) {
+                return CheckResult.mismatch(expectedOffset, actualOffset);
+            }
+            if (e == EOF || a == EOF) {
+                return CheckResult.ACCEPTED;
+            }
+        }
+    }
+
+    /**
+     * 같은 구간을 한꺼번에 넘긴 뒤, 마지막으로 넘긴 바이트가 토큰의 일부였다면 양쪽 토큰이 함께 끝나는지 확인한다.
+     * 그다음 양쪽의 공백을 건너뛰고 다음 토큰의 첫 바이트가 같으면 계속 비교한다.
+     */
+    private static CheckResult compareTokens(MappedCursor expected, StreamCursor actual) throws IOException {
+        int last = EOF;
+        while (true) {
+            int skippedLast = skipCommon(expected, actual);
+            if (skippedLast != EOF) {
+                last = skippedLast;
+            }
+            int e = expected.peek();
+            int a = actual.peek();
+            if (e == EOF && a == EOF) {
+                return CheckResult.ACCEPTED;
+            }
+
+            boolean inToken = last != EOF && !isWhitespace(last);
+            if (inToken && (!isTokenEnd(e) || !isTokenEnd(a))) {
+                return CheckResult.mismatch(expected.position(), actual.position());
+            }
+            skipWhitespace(expected);
+            skipWhitespace(actual);
+            e = expected.peek();
+            a = actual.peek();
+            if (e != a) {
+                return CheckResult.mismatch(expected.position(), actual.position());
+            }
+            if (e == EOF) {
+                return CheckResult.ACCEPTED;
+            }
+            last = EOF;
+        }
+    }
+
+    /**
+     * 양쪽이 같은 동안 함께 넘기고 마지막으로 넘긴 바이트를 돌려준다(넘긴 것이 없으면 {@code -1}).
+     * 정답 창과 출력 버퍼가 겹치는 구간을 {@link ByteBuffer#mismatch}로 비교하므로 벡터 명령으로 처리된다.
+     */
+    private static int skipCommon(MappedCursor expected, StreamCursor actual) throws IOException {
+        int last = EOF;
+        while (expected.peek() != EOF && actual.peek() != EOF) {
+            ByteBuffer window = expected.window;
+            ByteBuffer view = actual.view;
+            int expectedPosition = window.position();
+            int actualPosition = actual.position;
+            int length = Math.min(window.remaining(), actual.limit - actualPosition);
+
+            int windowLimit = window.limit();
+            window.limit(expectedPosition + length);
+            view.limit(actualPosition + length).position(actualPosition);
+            int mismatch = window.mismatch(view);
+            window.limit(windowLimit);
+
+            int common = mismatch < 0 ? length : mismatch;
+            if (common > 0) {
+                last = actual.buffer[actualPosition + common - 1] & 0xFF;
+                window.position(expectedPosition + common);
+                actual.position += common;
+            }
+            if (mismatch >= 0) {
+                return last;
+            }
+        }
+        return last;
+    }
+
+    private static int skipBlanks(Cursor cursor) throws IOException {
+        int b = cursor.peek();
+        while (isBlank(b)) {
+            cursor.advance();
+            b = cursor.peek();
+        }
+        return b;
+    }
+
+    private static void skipWhitespace(Cursor cursor) throws IOException {
+        while (isWhitespace(cursor.peek())) {
+            cursor.advance();
+        }
+    }
+
+    private static boolean restIsWhitespace(Cursor cursor) throws IOException {
+        skipWhitespace(cursor);
+        return cursor.peek() == EOF;
+    }
+
+    private static boolean isLineEnd(int b) {
+        return b == NEWLINE || b == EOF;
+    }
+
+    private static boolean isTokenEnd(int b) {
+        return b == EOF || isWhitespace(b);
+    }
+
+    private static boolean isBlank(int b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == NEWLINE || isBlank(b);
+    }
+
+    private abstract static class Cursor {
+
+        abstract int peek() throws IOException;
+
+        abstract void advance();
+
+        abstract long position();
+    }
+
+    /**
+     * 파일을 {@code windowSize} 단위로 차례로 매핑한다. 다 읽은 창은 참조를 버려 GC 때 매핑이 해제된다.
+     */
+    private static final class MappedCursor extends Cursor {
+
+        private final FileChannel channel;
+        private final long size;
+        private final int windowSize;
+        private long windowStart;
+        private MappedByteBuffer window;
+
+        MappedCursor(FileChannel channel, int windowSize) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            this.windowSize = windowSize;
+            this.window = map(0);
+        }
+
+        @Override
+        int peek() throws IOException {
+            if (!window.hasRemaining()) {
+                long nextStart = windowStart + window.limit();
+                if (nextStart >= size) {
+                    return EOF;
+                }
+                windowStart = nextStart;
+                window = map(nextStart);
+            }
+            return window.get(window.position()) & 0xFF;
+        }
+
+        @Override
+        void advance() {
+            window.position(window.position() + 1);
+        }
+
+        @Override
+        long position() {
+            return windowStart + window.position();
+        }
+
+        private MappedByteBuffer map(long start) throws IOException {
+            return channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(windowSize, size - start));
+        }
+    }
+
+    private static final class StreamCursor extends Cursor {
+
+        private final InputStream input;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final ByteBuffer view = ByteBuffer.wrap(buffer);
+        private long bufferStart;
+        private int position;
+        private int limit;
+
+        StreamCursor(InputStream input) {
+            this.input = input;
+        }
+
+        @Override
+        int peek() throws IOException {
+            if (position == limit) {
+                int read = input.read(buffer);
+                if (read <= 0) {
+                    return EOF;
+                }
+                bufferStart += limit;
+                position = 0;
+                limit = read;
+            }
+            return buffer[position] & 0xFF;
+        }
+
+        @Override
+        void advance() {
+            position++;
+        }
+
+        @Override
+        long position() {
+            return bufferStart + position;
+        }
+    }
+}
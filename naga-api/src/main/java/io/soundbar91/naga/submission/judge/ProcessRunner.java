@@ -0,0 +1,274 @@
+package io.soundbar91.naga.submission.judge;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.stereotype.Component;
+
+import io.soundbar91.naga.config.JudgeProperties;
+
+/**
+ * 자식 프로세스를 시간, 메모리, 출력 크기 제한 안에서 실행한다.
+ * <p>
+ * 프로세스가 끝나기를 {@code monitorInterval}마다 기다리면서 {@code /proc/{pid}/status}의 최대 RSS(VmHWM)와
+ * 출력 크기를 확인하고, 제한을 넘으면 하위 프로세스까지 강제 종료한다.
+ * {@code /proc}이 없는 환경에서는 메모리 제한을 적용하지 않는다.
+ * 실행 중인 스레드가 인터럽트되면 프로세스를 종료하고 {@link CancellationException}을 던진다.
+ */
+@Component
+public class ProcessRunner {
+
+    private static final String PEAK_RESIDENT_PREFIX = "VmHWM:";
+    private static final Duration STDOUT_DRAIN_TIMEOUT = Duration.ofSeconds(1);
+
+    private final long monitorIntervalNanos;
+
+    public ProcessRunner(JudgeProperties properties) {
+        this.monitorIntervalNanos = properties.monitorInterval().toNanos();
+    }
+
+    /**
+     * 출력을 파일로 리다이렉트한 프로세스를 실행한다.
+     *
+     * @param memoryLimitBytes 0 이하이면 메모리 제한 없음
+     * @param outputFile       크기를 감시할 출력 파일, {@code null}이면 감시하지 않음
+     */
+    public Result run(ProcessBuilder builder, Duration timeLimit, long memoryLimitBytes, Path outputFile,
+        long outputLimitBytes) throws IOException {
+        BooleanSupplier outputExceeded = outputFile == null
+            ? () -> false
+            : () -> sizeOf(outputFile) > outputLimitBytes;
+        long startedAt = System.nanoTime();
+        Process process = builder.start();
+
+        Result result = monitor(process, startedAt, timeLimit, memoryLimitBytes, outputExceeded, () -> false);
+        if (result.outcome() == Outcome.EXITED && outputExceeded.getAsBoolean()) {
+            return result.with(Outcome.OUTPUT_LIMIT_EXCEEDED);
+        }
+        return result;
+    }
+
+    /**
+     * 표준 출력을 파이프로 받아 {@code consumer}에게 흘려 보내며 프로세스를 실행한다.
+     * {@code consumer}는 별도 가상 스레드에서 실행되며, {@code false}를 돌려주면 더 볼 필요가 없다는 뜻이므로
+     * 프로세스를 즉시 종료하고 {@link Outcome#STOPPED}를 돌려준다. 단, 이미 출력이 닫혔다면 프로세스가 곧 끝나므로
+     * 종료 코드를 확인할 수 있게 그대로 기다린다. 출력이 {@code outputLimitBytes}를 넘으면
+     * {@code consumer}에게는 끝난 스트림으로 보이고 결과는 {@link Outcome#OUTPUT_LIMIT_EXCEEDED}가 된다.
+     */
+    public Result run(ProcessBuilder builder, Duration timeLimit, long memoryLimitBytes, long outputLimitBytes,
+        StdoutConsumer consumer) throws IOException {
+        long startedAt = System.nanoTime();
+        Process process = builder.redirectOutput(ProcessBuilder.Redirect.PIPE).start();
+        LimitedInputStream stdout = new LimitedInputStream(process.getInputStream(), outputLimitBytes);
+
+        CompletableFuture<Boolean> consumption = new CompletableFuture<>();
+        Thread.ofVirtual().name("judge-stdout-" + process.pid()).start(() -> {
+            try (stdout) {
+                consumption.complete(consumer.consume(stdout));
+            } catch (Throwable ex) {
+                consumption.completeExceptionally(ex);
+            }
+        });
+
+        Result result;
+        try {
+            result = monitor(process, startedAt, timeLimit, memoryLimitBytes, stdout::exceeded,
+                () -> !stdout.ended() && consumption.isDone() && !consumption.getNow(true));
+            if (result.outcome() == Outcome.EXITED) {
+                awaitConsumer(consumption, process);
+            }
+        } finally {
+            process.getInputStream().close();
+        }
+
+        if (stdout.exceeded()) {
+            return result.with(Outcome.OUTPUT_LIMIT_EXCEEDED);
+        }
+        return result;
+    }
+
+    private Result monitor(Process process, long startedAt, Duration timeLimit, long memoryLimitBytes,
+        BooleanSupplier outputExceeded, BooleanSupplier stopRequested) {
+        long deadline = startedAt + timeLimit.toNanos();
+        long peakMemoryKb = 0;
+        try {
+            while (true) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining > 0 && process.waitFor(Math.min(remaining, monitorIntervalNanos), TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+                peakMemoryKb = Math.max(peakMemoryKb, peakResidentKb(process.pid()));
+                if (memoryLimitBytes > 0 && peakMemoryKb * 1024 > memoryLimitBytes) {
+                    return kill(process, Outcome.MEMORY_LIMIT_EXCEEDED, startedAt, peakMemoryKb);
+                }
+                if (outputExceeded.getAsBoolean()) {
+                    return kill(process, Outcome.OUTPUT_LIMIT_EXCEEDED, startedAt, peakMemoryKb);
+                }
+                if (stopRequested.getAsBoolean()) {
+                    return kill(process, Outcome.STOPPED, startedAt, peakMemoryKb);
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    return kill(process, Outcome.TIME_LIMIT_EXCEEDED, startedAt, peakMemoryKb);
+                }
+            }
+        } catch (InterruptedException ex) {
+            destroy(process);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("채점이 취소되었습니다");
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        return new Result(Outcome.EXITED, process.exitValue(), elapsedMs, peakMemoryKb);
+    }
+
+    /**
+     * 프로세스가 끝난 뒤 파이프에 남은 출력을 {@code consumer}가 마저 읽을 때까지 기다린다.
+     * 출력을 물려받은 손자 프로세스가 파이프를 붙잡고 있으면 정리하고 기다리지 않는다.
+     */
+    private static void awaitConsumer(CompletableFuture<Boolean> consumption, Process process) {
+        try {
+            consumption.get(STDOUT_DRAIN_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("채점이 취소되었습니다");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException cause) {
+                throw new UncheckedIOException(cause);
+            }
+            throw new IllegalStateException("출력 처리에 실패했습니다", ex.getCause());
+        }
+    }
+
+    private static Result kill(Process process, Outcome outcome, long startedAt, long peakMemoryKb) {
+        destroy(process);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        return new Result(outcome, -1, elapsedMs, peakMemoryKb);
+    }
+
+    private static void destroy(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+        try {
+            process.waitFor(1, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException ex) {
+            return 0;
+        }
+    }
+
+    private static long peakResidentKb(long pid) {
+        try {
+            List<String> lines = Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"));
+            for (String line : lines) {
+                if (line.startsWith(PEAK_RESIDENT_PREFIX)) {
+                    String value = line.substring(PEAK_RESIDENT_PREFIX.length()).trim();
+                    return Long.parseLong(value.substring(0, value.indexOf(' ')));
+                }
+            }
+        } catch (IOException | RuntimeException ex) {
+            // 이미 종료된 프로세스이거나 /proc이 없는 환경
+        }
+        return 0;
+    }
+
+    @FunctionalInterface
+    public interface StdoutConsumer {
+
+        /**
+         * @return 프로세스를 계속 실행할 필요가 없으면 {@code false}
+         */
+        boolean consume(InputStream stdout) throws IOException;
+    }
+
+    public enum Outcome {
+        EXITED,
+        STOPPED,
+        TIME_LIMIT_EXCEEDED,
+        MEMORY_LIMIT_EXCEEDED,
+        OUTPUT_LIMIT_EXCEEDED
+    }
+
+    public record Result(
+        Outcome outcome,
+        int exitCode,
+        long timeMs,
+        long memoryKb
+    ) {
+        public boolean succeeded() {
+            return outcome == Outcome.EXITED && exitCode == 0;
+        }
+
+        Result with(Outcome outcome) {
+            return new Result(outcome, exitCode, timeMs, memoryKb);
+        }
+    }
+
+    /**
+     * 한도를 넘는 바이트를 읽으려 하면 끝난 스트림처럼 동작하고 초과 여부를 기록한다.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+        private volatile boolean exceeded;
+        private volatile boolean ended;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        boolean exceeded() {
+            return exceeded;
+        }
+
+        boolean ended() {
+            return ended;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (exceeded) {
+                return -1;
+            }
+            int read = in.read(buffer, offset, (int) Math.min(length, limit - count + 1));
+            if (read < 0) {
+                ended = true;
+            } else if (read > 0) {
+                count += read;
+                if (count > limit) {
+                    exceeded = true;
+                    return -1;
+                }
+            }
+            return read;
+        }
+    }
+}
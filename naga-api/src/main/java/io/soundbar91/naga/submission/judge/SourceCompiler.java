@@ -0,0 +1,81 @@
+package io.soundbar91.naga.submission.judge;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.stereotype.Component;
+
+import io.soundbar91.naga.config.JudgeProperties;
+import io.soundbar91.naga.submission.entity.Language;
+import io.soundbar91.naga.submission.entity.Submission;
+
+/**
+ * 제출 작업 디렉터리에 소스를 쓰고 언어별 컴파일 명령을 실행한다.
+ * 컴파일러 출력은 판정 메시지 길이만큼만 남긴다.
+ */
+@Component
+public class SourceCompiler {
+
+    static final String COMPILE_LOG = "compile.log";
+    private static final long COMPILE_LOG_LIMIT_BYTES = 1024 * 1024;
+
+    private final ProcessRunner processRunner;
+    private final JudgeProperties properties;
+
+    public SourceCompiler(ProcessRunner processRunner, JudgeProperties properties) {
+        this.processRunner = processRunner;
+        this.properties = properties;
+    }
+
+    public Result compile(Language language, String sourceCode, Path directory) throws IOException {
+        Files.writeString(directory.resolve(language.getSourceFileName()), sourceCode, StandardCharsets.UTF_8);
+
+        Path log = directory.resolve(COMPILE_LOG);
+        ProcessBuilder builder = new ProcessBuilder(language.getCompileCommand())
+            .directory(directory.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(log.toFile());
+
+        ProcessRunner.Result result = processRunner.run(
+            builder, properties.compileTimeout(), 0, log, COMPILE_LOG_LIMIT_BYTES);
+        if (result.outcome() == ProcessRunner.Outcome.TIME_LIMIT_EXCEEDED) {
+            return Result.compileTimeout();
+        }
+        if (!result.succeeded()) {
+            return Result.failed(readLog(log));
+        }
+        return Result.compiled();
+    }
+
+    private static String readLog(Path log) throws IOException {
+        byte[] bytes = Files.readAllBytes(log);
+        String message = new String(bytes, 0, Math.min(bytes.length, Submission.MESSAGE_MAX_LENGTH * 4),
+            StandardCharsets.UTF_8);
+        return message.length() > Submission.MESSAGE_MAX_LENGTH
+            ? message.substring(0, Submission.MESSAGE_MAX_LENGTH)
+            : message;
+    }
+
+    /**
+     * @param timedOut 컴파일 시간 초과 여부. 부하 때문일 수 있으므로 캐시하지 않는다
+     */
+    public record Result(
+        boolean success,
+        boolean timedOut,
+        String message
+    ) {
+        static Result compiled() {
+            return new Result(true, false, null);
+        }
+
+        static Result failed(String message) {
+            return new Result(false, false, message);
+        }
+
+        static Result compileTimeout() {
+            return new Result(false, true, "컴파일 시간이 초과되었습니다");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package io.soundbar91.naga.submission.judge;
+
+import java.nio.file.Path;
+
+public record TestCase(
+    int index,
+    String name,
+    Path input,
+    Path expectedOutput
+) {
+}
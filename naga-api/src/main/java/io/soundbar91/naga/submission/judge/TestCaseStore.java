@@ -0,0 +1,66 @@
+package io.soundbar91.naga.submission.judge;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.config.JudgeProperties;
+
+/**
+ * 파일 시스템의 문제별 테스트 케이스.
+ * {@code {testCaseRoot}/{problemId}/} 아래의 {@code NAME.in}과 {@code NAME.out} 쌍이 하나의 케이스이며,
+ * 이름 길이, 이름 순으로 정렬해 {@code 2.in}이 {@code 10.in}보다 앞선다.
+ */
+@Component
+public class TestCaseStore {
+
+    private static final String INPUT_SUFFIX = ".in";
+    private static final String OUTPUT_SUFFIX = ".out";
+
+    private final Path root;
+
+    public TestCaseStore(JudgeProperties properties) {
+        this.root = properties.testCaseRoot();
+    }
+
+    public boolean exists(Long problemId) {
+        return Files.isDirectory(root.resolve(String.valueOf(problemId)));
+    }
+
+    public List<TestCase> load(Long problemId) {
+        Path directory = root.resolve(String.valueOf(problemId));
+        if (!Files.isDirectory(directory)) {
+            throw new BusinessException(ErrorCode.PROBLEM_NOT_FOUND);
+        }
+
+        List<String> names;
+        try (Stream<Path> files = Files.list(directory)) {
+            names = files.map(path -> path.getFileName().toString())
+                .filter(fileName -> fileName.endsWith(INPUT_SUFFIX))
+                .map(fileName -> fileName.substring(0, fileName.length() - INPUT_SUFFIX.length()))
+                .sorted(Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()))
+                .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        List<TestCase> testCases = new ArrayList<>(names.size());
+        for (String name : names) {
+            Path expectedOutput = directory.resolve(name + OUTPUT_SUFFIX);
+            if (!Files.isRegularFile(expectedOutput)) {
+                throw new IllegalStateException("테스트 케이스 출력 파일이 없습니다: " + expectedOutput);
+            }
+            testCases.add(new TestCase(testCases.size(), name, directory.resolve(name + INPUT_SUFFIX), expectedOutput));
+        }
+        return testCases;
+    }
+}
@@ -0,0 +1,47 @@
+package io.soundbar91.naga.submission.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import io.soundbar91.naga.submission.dto.SubmissionState;
+import io.soundbar91.naga.submission.entity.Submission;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.event.SubmissionJudgedEvent;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface SubmissionRepository extends JpaRepository<Submission, Long> {
+
+    List<Submission> findAllByStatusInOrderByIdAsc(Collection<SubmissionStatus> statuses);
+
+    /**
+     * 제출의 현재 상태를 DTO로 읽는다. 엔티티 조회와 달리 영속성 컨텍스트의 1차 캐시를 거치지 않는다.
+     */
+    @Query("select new io.soundbar91.naga.submission.dto.SubmissionState("
+        + "s.id, s.userId, s.status, s.passedCases, s.totalCases) "
+        + "from Submission s where s.id = :id")
+    Optional<SubmissionState> findStateById(@Param("id") Long id);
+
+    @Query("select new io.soundbar91.naga.submission.dto.SubmissionState("
+        + "s.id, s.userId, s.status, s.passedCases, s.totalCases) "
+        + "from Submission s where s.userId = :userId and s.status in :statuses")
+    List<SubmissionState> findStatesByUserIdAndStatusIn(@Param("userId") Long userId,
+        @Param("statuses") Collection<SubmissionStatus> statuses);
+
+    /**
+     * 대회 제출 중 {@code statuses}에 속한 판정을 이벤트와 같은 형태로 읽는다. 소스 코드는 읽지 않는다.
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select new io.soundbar91.naga.submission.event.SubmissionJudgedEvent("
+        + "s.id, s.contestId, s.userId, s.problemId, s.status, s.createdAt) "
+        + "from Submission s where s.contestId is not null and s.status in :statuses")
+    Stream<SubmissionJudgedEvent> streamContestVerdicts(@Param("statuses") Collection<SubmissionStatus> statuses);
+}
@@ -0,0 +1,110 @@
+package io.soundbar91.naga.submission.service;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.config.JudgeProperties;
+import io.soundbar91.naga.contest.entity.Contest;
+import io.soundbar91.naga.contest.repository.ContestRepository;
+import io.soundbar91.naga.submission.dto.SubmissionState;
+import io.soundbar91.naga.submission.entity.Language;
+import io.soundbar91.naga.submission.entity.Submission;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.entity.VerdictMode;
+import io.soundbar91.naga.submission.event.SubmissionProgressEvent;
+import io.soundbar91.naga.submission.judge.JudgeQueue;
+import io.soundbar91.naga.submission.judge.JudgeTask;
+import io.soundbar91.naga.submission.judge.TestCaseStore;
+import io.soundbar91.naga.submission.repository.SubmissionRepository;
+import io.soundbar91.naga.submission.stream.SubmissionStreamHub;
+import io.soundbar91.naga.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SubmissionService {
+
+    private final SubmissionRepository submissionRepository;
+    private final UserRepository userRepository;
+    private final ContestRepository contestRepository;
+    private final TestCaseStore testCaseStore;
+    private final JudgeQueue judgeQueue;
+    private final JudgeProperties judgeProperties;
+    private final SubmissionStreamHub submissionStreamHub;
+
+    /**
+     * 제출을 저장한 뒤 채점 대기열에 넣는다. 작업자가 제출을 조회할 수 있도록 저장이 커밋된 후에 넣어야 하므로
+     * 트랜잭션 없이 실행한다. 대기열이 가득 차 거절되면 저장한 제출을 지우고 {@link ErrorCode#JUDGE_QUEUE_FULL}을 던진다.
+     * 대회 제출은 대회가 진행 중일 때만 받는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Submission create(Long userId, Long problemId, Long contestId, Language language, String sourceCode,
+        VerdictMode verdictMode) {
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        if (contestId != null) {
+            Contest contest = contestRepository.findById(contestId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CONTEST_NOT_FOUND));
+            if (!contest.isRunning(LocalDateTime.now())) {
+                throw new BusinessException(ErrorCode.CONTEST_NOT_RUNNING);
+            }
+        }
+        if (!testCaseStore.exists(problemId)) {
+            throw new BusinessException(ErrorCode.PROBLEM_NOT_FOUND);
+        }
+
+        VerdictMode mode = verdictMode != null ? verdictMode : judgeProperties.defaultVerdictMode();
+        Submission saved = submissionRepository.save(
+            Submission.create(userId, problemId, contestId, language, sourceCode, mode));
+        try {
+            judgeQueue.submit(JudgeTask.from(saved));
+        } catch (BusinessException ex) {
+            submissionRepository.delete(saved);
+            throw ex;
+        }
+        return saved;
+    }
+
+    public Submission get(Long id) {
+        return submissionRepository.findById(id)
+            .orElseThrow(() -> new BusinessException(ErrorCode.SUBMISSION_NOT_FOUND));
+    }
+
+    /**
+     * 구독을 등록한 뒤 현재 상태를 다시 읽어야 그 사이에 끝난 판정을 놓치지 않는다. 처음 읽은 엔티티가 영속성 컨텍스트에
+     * 남아 있어도 DB 값을 읽도록 다시 읽을 때는 {@link SubmissionState}로 조회한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter stream(Long submissionId) {
+        Submission submission = get(submissionId);
+        return submissionStreamHub.subscribeSubmission(submission.getUserId(), submissionId,
+            () -> currentProgress(submissionId));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter streamByUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        return submissionStreamHub.subscribeUser(userId, () -> submissionRepository
+            .findStatesByUserIdAndStatusIn(userId, EnumSet.of(SubmissionStatus.PENDING, SubmissionStatus.JUDGING))
+            .stream()
+            .map(SubmissionState::toProgressEvent)
+            .toList());
+    }
+
+    private SubmissionProgressEvent currentProgress(Long submissionId) {
+        return submissionRepository.findStateById(submissionId)
+            .map(SubmissionState::toProgressEvent)
+            .orElseThrow(() -> new BusinessException(ErrorCode.SUBMISSION_NOT_FOUND));
+    }
+}
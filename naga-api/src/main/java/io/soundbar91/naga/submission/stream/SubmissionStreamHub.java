@@ -0,0 +1,283 @@
+package io.soundbar91.naga.submission.stream;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.common.dto.ApiResponse;
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.config.SubmissionStreamProperties;
+import io.soundbar91.naga.submission.dto.SubmissionProgressResponse;
+import io.soundbar91.naga.submission.event.JudgePhase;
+import io.soundbar91.naga.submission.event.SubmissionProgressEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채점 진행 이벤트를 SSE 구독자에게 나눠 보낸다.
+ * <p>
+ * 구독은 비동기 요청이므로 유휴 연결은 요청 스레드를 잡지 않는다. 이벤트를 발행한 채점 작업자는 구독마다 있는 대기열에
+ * 넣기만 하고, 실제 전송은 구독마다 한 번에 하나씩 가상 스레드에서 수행하므로 느린 클라이언트가 채점을 막지 않는다.
+ * 대기열이 {@code bufferSize}를 넘는 구독은 닫고, 클라이언트가 다시 연결하면 현재 상태부터 받는다.
+ * <p>
+ * 이벤트는 여러 스레드에서 발행되므로 구독마다 제출별로 마지막으로 보낸 진행 상황보다 뒤의 것만 보낸다.
+ * 제출 하나를 구독하면 판정 이벤트를 보낸 뒤 스트림을 닫는다.
+ */
+@Slf4j
+@Component
+public class SubmissionStreamHub {
+
+    static final String PROGRESS_EVENT = "progress";
+    static final String ERROR_EVENT = "error";
+
+    private final SubmissionStreamProperties properties;
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("submission-stream-", 0).factory());
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<Subscriber>> bySubmission = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> byUser = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> openStreams = new ConcurrentHashMap<>();
+    private final Counter slowSubscribers;
+
+    public SubmissionStreamHub(SubmissionStreamProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Gauge.builder("naga.submission.stream.open", subscribers, Set::size)
+            .description("열려 있는 채점 진행 구독 수")
+            .register(meterRegistry);
+        this.slowSubscribers = Counter.builder("naga.submission.stream.dropped")
+            .description("보내지 못한 이벤트가 쌓여 닫은 구독 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 제출 하나의 진행 상황을 구독한다. 구독을 등록한 뒤 {@code current}로 현재 상태를 읽어 보내므로,
+     * 등록 전에 발행된 이벤트를 놓쳐도 현재 상태에 반영되어 있다. 현재 상태를 읽지 못하면 구독을 닫고 예외를 그대로 던진다.
+     */
+    public SseEmitter subscribeSubmission(Long ownerId, Long submissionId, Supplier<SubmissionProgressEvent> current) {
+        Subscriber subscriber = open(ownerId, submissionId, bySubmission, submissionId);
+        try {
+            subscriber.enqueue(current.get());
+        } catch (RuntimeException ex) {
+            subscriber.close(false);
+            throw ex;
+        }
+        return subscriber.emitter;
+    }
+
+    /**
+     * 사용자의 모든 제출 진행 상황을 구독한다. {@code current}는 구독을 등록한 뒤 채점 중인 제출의 현재 상태를 읽는다.
+     */
+    public SseEmitter subscribeUser(Long userId, Supplier<List<SubmissionProgressEvent>> current) {
+        Subscriber subscriber = open(userId, null, byUser, userId);
+        try {
+            current.get().forEach(subscriber::enqueue);
+        } catch (RuntimeException ex) {
+            subscriber.close(false);
+            throw ex;
+        }
+        return subscriber.emitter;
+    }
+
+    /**
+     * 구독을 열기 전에 거절된 요청에 {@link ApiResponse} 형태의 에러 이벤트 하나를 보내고 닫는 스트림.
+     */
+    public static SseEmitter rejected(BusinessException ex) {
+        SseEmitter emitter = new SseEmitter();
+        try {
+            ErrorCode errorCode = ex.getErrorCode();
+            emitter.send(SseEmitter.event()
+                .name(ERROR_EVENT)
+                .data(ApiResponse.error(errorCode.name(), ex.getMessage()), MediaType.APPLICATION_JSON));
+            emitter.complete();
+        } catch (IOException sendFailure) {
+            emitter.completeWithError(sendFailure);
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onProgress(SubmissionProgressEvent event) {
+        deliver(bySubmission.get(event.submissionId()), event);
+        deliver(byUser.get(event.userId()), event);
+    }
+
+    @Scheduled(fixedRateString = "${naga.submission.stream.heartbeat-interval:15s}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.enqueue(null));
+    }
+
+    public int openStreams() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.close(true));
+        sender.shutdownNow();
+    }
+
+    private void deliver(Set<Subscriber> targets, SubmissionProgressEvent event) {
+        if (targets != null) {
+            targets.forEach(subscriber -> subscriber.enqueue(event));
+        }
+    }
+
+    private Subscriber open(Long ownerId, Long submissionId, Map<Long, Set<Subscriber>> index, Long key) {
+        if (!acquire(ownerId)) {
+            throw new BusinessException(ErrorCode.SUBMISSION_STREAM_LIMIT_EXCEEDED);
+        }
+        Subscriber subscriber = new Subscriber(ownerId, submissionId, index, key);
+        subscribers.add(subscriber);
+        index.compute(key, (k, registered) -> {
+            Set<Subscriber> targets = registered != null ? registered : ConcurrentHashMap.newKeySet();
+            targets.add(subscriber);
+            return targets;
+        });
+        subscriber.emitter.onCompletion(() -> subscriber.close(false));
+        subscriber.emitter.onTimeout(() -> subscriber.close(true));
+        subscriber.emitter.onError(error -> subscriber.close(false));
+        return subscriber;
+    }
+
+    private boolean acquire(Long ownerId) {
+        boolean[] acquired = new boolean[1];
+        openStreams.compute(ownerId, (id, open) -> {
+            int count = open != null ? open : 0;
+            if (count >= properties.maxStreamsPerUser()) {
+                return open;
+            }
+            acquired[0] = true;
+            return count + 1;
+        });
+        return acquired[0];
+    }
+
+    private void release(Long ownerId) {
+        openStreams.computeIfPresent(ownerId, (id, open) -> open <= 1 ? null : open - 1);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        private final Long ownerId;
+        private final Long submissionId;
+        private final Map<Long, Set<Subscriber>> index;
+        private final Long key;
+        private final Queue<Message> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final Map<Long, SubmissionProgressEvent> lastSent = new HashMap<>();
+
+        private Subscriber(Long ownerId, Long submissionId, Map<Long, Set<Subscriber>> index, Long key) {
+            this.ownerId = ownerId;
+            this.submissionId = submissionId;
+            this.index = index;
+            this.key = key;
+        }
+
+        /**
+         * @param event {@code null}이면 하트비트
+         */
+        private void enqueue(SubmissionProgressEvent event) {
+            if (closed.get()) {
+                return;
+            }
+            if (pendingCount.incrementAndGet() > properties.bufferSize()) {
+                slowSubscribers.increment();
+                close(true);
+                return;
+            }
+            pending.add(new Message(event));
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Message message;
+                while (!closed.get() && (message = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    send(message.event());
+                }
+            } finally {
+                draining.set(false);
+            }
+            if (!closed.get() && !pending.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void send(SubmissionProgressEvent event) {
+            try {
+                if (event == null) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                    return;
+                }
+                if (!event.isAfter(lastSent.get(event.submissionId()))) {
+                    return;
+                }
+                emitter.send(SseEmitter.event()
+                    .name(PROGRESS_EVENT)
+                    .data(ApiResponse.success(SubmissionProgressResponse.from(event)), MediaType.APPLICATION_JSON));
+                if (event.phase() == JudgePhase.FINISHED) {
+                    lastSent.remove(event.submissionId());
+                    if (submissionId != null) {
+                        close(true);
+                    }
+                } else {
+                    lastSent.put(event.submissionId(), event);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                log.debug("채점 진행 구독 전송 실패: ownerId={}", ownerId, ex);
+                close(false);
+            }
+        }
+
+        /**
+         * @param complete 응답을 직접 끝내야 하면 {@code true}. 연결 오류나 완료 콜백에서 부르면 {@code false}다
+         */
+        private void close(boolean complete) {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscribers.remove(this);
+            index.computeIfPresent(key, (k, targets) -> {
+                targets.remove(this);
+                return targets.isEmpty() ? null : targets;
+            });
+            release(ownerId);
+            if (complete) {
+                emitter.complete();
+            }
+        }
+    }
+
+    private record Message(SubmissionProgressEvent event) {
+    }
+}
@@ -1,18 +1,32 @@
 package io.soundbar91.naga.user.controller;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 import io.soundbar91.naga.common.dto.ApiResponse;
 import io.soundbar91.naga.user.dto.CreateUserRequest;
+import io.soundbar91.naga.user.dto.UserBatchResponse;
+import io.soundbar91.naga.user.dto.UserImportFormat;
+import io.soundbar91.naga.user.dto.UserImportResponse;
+import io.soundbar91.naga.user.dto.UserPageResponse;
 import io.soundbar91.naga.user.dto.UserResponse;
 import io.soundbar91.naga.user.entity.User;
+import io.soundbar91.naga.user.service.UserImportService;
 import io.soundbar91.naga.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 
@@ -21,7 +35,11 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UserController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+
     private final UserService userService;
+    private final UserImportService userImportService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<UserResponse>> create(@Valid @RequestBody CreateUserRequest request) {
@@ -30,4 +48,50 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success(response));
     }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<ApiResponse<UserBatchResponse>> getAll(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(ApiResponse.success(userService.getAll(ids)));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<UserPageResponse>> list(
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(userService.list(cursor, size)));
+    }
+
+    /**
+     * 비동기 응답의 타임아웃에 걸리지 않도록 요청 스레드에서 응답 본문에 바로 쓴다.
+     */
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void export(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        userService.export(response.getOutputStream());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<UserResponse>> get(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success(userService.get(id)));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Void>> delete(@PathVariable Long id) {
+        userService.delete(id);
+        return ResponseEntity.ok(ApiResponse.success());
+    }
+
+    @PostMapping(value = "/import", consumes = NDJSON)
+    public ResponseEntity<ApiResponse<UserImportResponse>> importNdjson(Reader body) throws IOException {
+        UserImportResponse response = userImportService.importUsers(body, UserImportFormat.NDJSON);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping(value = "/import", consumes = CSV)
+    public ResponseEntity<ApiResponse<UserImportResponse>> importCsv(Reader body) throws IOException {
+        UserImportResponse response = userImportService.importUsers(body, UserImportFormat.CSV);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 }
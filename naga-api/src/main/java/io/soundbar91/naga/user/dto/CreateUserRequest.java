@@ -1,24 +1,25 @@
 package io.soundbar91.naga.user.dto;
 
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
+import io.soundbar91.naga.user.validation.UserCredentialRules;
+import io.soundbar91.naga.user.validation.ValidEmail;
+import io.soundbar91.naga.user.validation.ValidPassword;
+
 public record CreateUserRequest(
     @NotBlank(message = "이메일은 필수입니다")
-    @Pattern(
-        regexp = "^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$",
-        message = "올바른 이메일 형식이 아닙니다"
-    )
-    @Size(max = 100, message = "이메일은 100자 이하여야 합니다")
+    @ValidEmail
+    @Size(max = UserCredentialRules.EMAIL_MAX_LENGTH, message = "이메일은 100자 이하여야 합니다")
     String email,
 
     @NotBlank(message = "비밀번호는 필수입니다")
-    @Size(min = 8, max = 20, message = "비밀번호는 8~20자여야 합니다")
-    @Pattern(
-        regexp = "^(?=.*[A-Za-z])(?=.*\\d)(?=.*[@$!%*#?&]).+$",
-        message = "비밀번호는 영문, 숫자, 특수문자를 포함해야 합니다"
+    @Size(
+        min = UserCredentialRules.PASSWORD_MIN_LENGTH,
+        max = UserCredentialRules.PASSWORD_MAX_LENGTH,
+        message = "비밀번호는 8~20자여야 합니다"
     )
+    @ValidPassword
     String password
 ) {
 }
@@ -0,0 +1,13 @@
+package io.soundbar91.naga.user.dto;
+
+import java.util.List;
+
+/**
+ * @param users      찾은 사용자. 요청한 ID 순서이며 같은 ID를 여러 번 요청해도 한 번만 담는다
+ * @param missingIds 없거나 삭제된 사용자의 ID. 요청한 ID 순서다
+ */
+public record UserBatchResponse(
+    List<UserResponse> users,
+    List<Long> missingIds
+) {
+}
@@ -0,0 +1,13 @@
+package io.soundbar91.naga.user.dto;
+
+/**
+ * 대량 등록 본문 형식.
+ * <ul>
+ *     <li>{@code NDJSON}: 한 줄에 {@code {"email": "...", "password": "..."}} 하나</li>
+ *     <li>{@code CSV}: 한 줄에 {@code email,password} 하나, 첫 줄의 {@code email,password} 헤더는 생략 가능</li>
+ * </ul>
+ */
+public enum UserImportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,17 @@
+package io.soundbar91.naga.user.dto;
+
+import java.util.List;
+
+public record UserImportResponse(
+    int total,
+    int created,
+    int failed,
+    List<UserImportRowResult> rows
+) {
+    public static UserImportResponse from(List<UserImportRowResult> rows) {
+        int created = (int) rows.stream()
+            .filter(row -> row.status() == UserImportRowResult.Status.CREATED)
+            .count();
+        return new UserImportResponse(rows.size(), created, rows.size() - created, rows);
+    }
+}
@@ -0,0 +1,26 @@
+package io.soundbar91.naga.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(value = JsonInclude.Include.NON_NULL)
+public record UserImportRowResult(
+    long line,
+    String email,
+    Status status,
+    Long id,
+    String errorCode,
+    String message
+) {
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    public static UserImportRowResult created(long line, String email, Long id) {
+        return new UserImportRowResult(line, email, Status.CREATED, id, null, null);
+    }
+
+    public static UserImportRowResult failed(long line, String email, String errorCode, String message) {
+        return new UserImportRowResult(line, email, Status.FAILED, null, errorCode, message);
+    }
+}
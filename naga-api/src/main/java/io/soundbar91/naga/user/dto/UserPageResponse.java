@@ -0,0 +1,12 @@
+package io.soundbar91.naga.user.dto;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지 요청에 넘길 값. 마지막 페이지면 {@code null}이다
+ */
+public record UserPageResponse(
+    List<UserResponse> users,
+    Long nextCursor
+) {
+}
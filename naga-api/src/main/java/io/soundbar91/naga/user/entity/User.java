@@ -1,23 +1,55 @@
 package io.soundbar91.naga.user.entity;
 
+import static lombok.AccessLevel.NONE;
 import static lombok.AccessLevel.PROTECTED;
 
+import org.hibernate.annotations.SQLRestriction;
+
 import io.soundbar91.naga.common.entity.BaseEntity;
+import io.soundbar91.naga.user.validation.UserCredentialRules;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
-@Table(name = "users")
+@Table(
+    name = "users",
+    uniqueConstraints = @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "live_email"),
+    indexes = @Index(name = "idx_users_deleted_at", columnList = "deleted_at")
+)
+@SQLRestriction(BaseEntity.NOT_DELETED)
+@EntityListeners(UserChangeListener.class)
 @NoArgsConstructor(access = PROTECTED)
 public class User extends BaseEntity {
 
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+
+    /**
+     * 사용자 이벤트를 아웃박스에 기록할 때 쓰는 집합 종류. 같은 사용자의 이벤트는 이 값과 id로 묶인다.
+     */
+    public static final String AGGREGATE_TYPE = "user";
+
+    /**
+     * 삭제되지 않은 행에서는 {@code email}과 같고 삭제된 행에서는 NULL인 생성 컬럼.
+     * <p>
+     * 유니크 제약을 이 컬럼에 걸어 이메일 중복은 살아 있는 사용자끼리만 판정한다. NULL끼리는 중복이 아니므로 보관 전의
+     * 삭제 행이 있어도 같은 이메일로 다시 가입할 수 있다. 이메일 조회도 이 컬럼의 유니크 인덱스를 타므로 삭제 행을 읽지 않는다.
+     * DB가 계산하는 값이라 엔티티에서는 쓰지 않는다.
+     */
+    @Getter(NONE)
+    @Column(name = "live_email", length = 100, insertable = false, updatable = false,
+        columnDefinition = "varchar(100) generated always as (case when deleted_at is null then email end)")
+    private String liveEmail;
+
     @NotBlank(message = "이메일은 필수입니다")
-    @Column(name = "email", nullable = false, unique = true, length = 100)
+    @Column(name = "email", nullable = false, length = 100)
     private String email;
 
     @NotBlank(message = "비밀번호는 필수입니다")
@@ -39,12 +71,12 @@ public class User extends BaseEntity {
             throw new IllegalArgumentException("이메일은 필수입니다");
         }
 
-        if (!email.matches("^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$")) {
-            throw new IllegalArgumentException("올바른 이메일 형식이 아닙니다");
+        if (email.length() > UserCredentialRules.EMAIL_MAX_LENGTH) {
+            throw new IllegalArgumentException("이메일은 " + UserCredentialRules.EMAIL_MAX_LENGTH + "자 이하여야 합니다");
         }
 
-        if (email.length() > 100) {
-            throw new IllegalArgumentException("이메일은 100자 이하여야 합니다");
+        if (!UserCredentialRules.isEmailFormat(email)) {
+            throw new IllegalArgumentException("올바른 이메일 형식이 아닙니다");
         }
     }
 }
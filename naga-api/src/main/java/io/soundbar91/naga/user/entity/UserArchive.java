@@ -0,0 +1,51 @@
+package io.soundbar91.naga.user.entity;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 기간이 지난 소프트 삭제 사용자. {@code SoftDeleteArchiveJob}만 행을 추가한다.
+ * 같은 이메일로 재가입 후 다시 삭제될 수 있으므로 이메일에 유니크 제약을 두지 않는다.
+ */
+@Getter
+@Entity
+@Table(
+    name = UserArchive.TABLE,
+    indexes = @Index(name = "idx_users_archive_email", columnList = "email")
+)
+@NoArgsConstructor(access = PROTECTED)
+public class UserArchive {
+
+    public static final String TABLE = "users_archive";
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "email", nullable = false, length = 100)
+    private String email;
+
+    @Column(name = "password", nullable = false)
+    private String password;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,26 @@
+package io.soundbar91.naga.user.entity;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import io.soundbar91.naga.user.event.UserChangedEvent;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 행이 수정되거나 삭제되면 {@link UserChangedEvent}를 발행한다. 엔티티가 변경을 받는 쪽을 알지 않도록
+ * 캐시 무효화는 이벤트를 받는 쪽이 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void changed(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
+    }
+}
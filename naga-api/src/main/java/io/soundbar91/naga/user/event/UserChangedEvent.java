@@ -0,0 +1,8 @@
+package io.soundbar91.naga.user.event;
+
+/**
+ * 사용자 행이 수정되거나 삭제되어 DB에 반영될 때 발행된다. 소프트 삭제도 수정으로 반영된다.
+ * 아웃박스에 기록하지 않는 프로세스 안의 알림으로, 사용자 캐시가 받아 무효화한다.
+ */
+public record UserChangedEvent(Long userId, String email) {
+}
@@ -0,0 +1,18 @@
+package io.soundbar91.naga.user.event;
+
+import java.time.LocalDateTime;
+
+import io.soundbar91.naga.user.entity.User;
+
+/**
+ * 사용자가 가입하거나 일괄 등록되면 아웃박스에 기록된다. 환영 메일, 분석, 채점 계정 생성이 받는다.
+ */
+public record UserCreatedEvent(Long userId, String email, LocalDateTime createdAt) {
+
+    public static final String AGGREGATE_TYPE = User.AGGREGATE_TYPE;
+    public static final String TYPE = "UserCreated";
+
+    public static UserCreatedEvent from(User user) {
+        return new UserCreatedEvent(user.getId(), user.getEmail(), user.getCreatedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package io.soundbar91.naga.user.event;
+
+import java.time.LocalDateTime;
+
+import io.soundbar91.naga.user.entity.User;
+
+/**
+ * 사용자가 소프트 삭제되면 아웃박스에 기록된다.
+ */
+public record UserDeletedEvent(Long userId, LocalDateTime deletedAt) {
+
+    public static final String AGGREGATE_TYPE = User.AGGREGATE_TYPE;
+    public static final String TYPE = "UserDeleted";
+
+    public static UserDeletedEvent from(User user) {
+        return new UserDeletedEvent(user.getId(), user.getDeletedAt());
+    }
+}
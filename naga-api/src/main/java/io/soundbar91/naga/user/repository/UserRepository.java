@@ -1,14 +1,56 @@
 package io.soundbar91.naga.user.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import io.soundbar91.naga.user.dto.UserResponse;
 import io.soundbar91.naga.user.entity.User;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
-    boolean existsByEmail(String email);
+    @Query("select u from User u where u.liveEmail = :email")
+    Optional<User> findByEmail(@Param("email") String email);
+
+    /**
+     * 가입은 트랜잭션 없이 해싱하므로, 이 조회가 트랜잭션 밖에서 돌면 EntityManager가 가입이 끝날 때까지 남아
+     * 커넥션을 해싱 내내 잡고 있다. 자체 읽기 전용 트랜잭션으로 감싸 커밋 시점에 돌려준다.
+     */
+    @Transactional(readOnly = true)
+    @Query("select count(u) > 0 from User u where u.liveEmail = :email")
+    boolean existsByEmail(@Param("email") String email);
+
+    @Query("select u.email from User u where u.liveEmail in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select u.email from User u")
+    Stream<String> streamAllEmails();
+
+    @Query("select new io.soundbar91.naga.user.dto.UserResponse(u.id, u.email, u.createdAt, u.updatedAt) "
+        + "from User u where u.id > :cursor order by u.id")
+    List<UserResponse> findPageAfter(@Param("cursor") Long cursor, Limit limit);
+
+    /**
+     * 일괄 조회는 트랜잭션 없이 호출하므로 자체 읽기 전용 트랜잭션으로 감싸 복제본에서 읽고 조회가 끝나면 커넥션을 돌려준다.
+     */
+    @Transactional(readOnly = true)
+    @Query("select new io.soundbar91.naga.user.dto.UserResponse(u.id, u.email, u.createdAt, u.updatedAt) "
+        + "from User u where u.id in :ids")
+    List<UserResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select new io.soundbar91.naga.user.dto.UserResponse(u.id, u.email, u.createdAt, u.updatedAt) "
+        + "from User u order by u.id")
+    Stream<UserResponse> streamAllResponses();
 }
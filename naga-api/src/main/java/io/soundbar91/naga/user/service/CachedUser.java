@@ -0,0 +1,25 @@
+package io.soundbar91.naga.user.service;
+
+import java.time.LocalDateTime;
+
+import io.soundbar91.naga.user.dto.UserResponse;
+import io.soundbar91.naga.user.entity.User;
+
+/**
+ * 캐시에 보관하는 사용자 값. 여러 요청이 공유하므로 영속성 컨텍스트와 분리된 불변 값으로 보관한다.
+ */
+public record CachedUser(
+    Long id,
+    String email,
+    String password,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+    public static CachedUser from(User user) {
+        return new CachedUser(user.getId(), user.getEmail(), user.getPassword(), user.getCreatedAt(), user.getUpdatedAt());
+    }
+
+    public UserResponse toResponse() {
+        return new UserResponse(id, email, createdAt, updatedAt);
+    }
+}
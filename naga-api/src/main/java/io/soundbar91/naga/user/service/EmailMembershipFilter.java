@@ -0,0 +1,112 @@
+package io.soundbar91.naga.user.service;
+
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.common.support.BloomFilter;
+import io.soundbar91.naga.config.EmailFilterProperties;
+import io.soundbar91.naga.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가입된 이메일의 메모리 멤버십 인덱스.
+ * <p>
+ * 기동 후 전체 이메일로 Bloom filter를 채우고, 가입이 성공할 때마다 추가한다.
+ * {@link #mightContain}이 false이면 확실히 없는 이메일이므로 중복 조회 SELECT를 생략할 수 있다.
+ * 다른 인스턴스에서 가입한 이메일은 알 수 없으므로 최종 중복 판정은 DB 유니크 제약이 맡는다.
+ * 워밍업이 끝나기 전이나 비활성화 상태에서는 항상 true를 반환해 DB 조회로 넘어간다.
+ */
+@Slf4j
+@Component
+public class EmailMembershipFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final EmailFilterProperties properties;
+    private final BloomFilter filter;
+    private final Counter absentLookups;
+    private final Counter presentLookups;
+    private final Counter falsePositives;
+    private volatile boolean ready;
+
+    public EmailMembershipFilter(
+        UserRepository userRepository,
+        PlatformTransactionManager transactionManager,
+        EmailFilterProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+        this.filter = BloomFilter.create(
+            properties.expectedInsertions(),
+            properties.falsePositiveRate(),
+            properties.maxMemory().toBytes() * Byte.SIZE
+        );
+
+        this.absentLookups = Counter.builder("naga.user.email.filter.lookups")
+            .tag("result", "absent")
+            .description("Bloom filter가 없다고 판정해 DB 조회를 생략한 횟수")
+            .register(meterRegistry);
+        this.presentLookups = Counter.builder("naga.user.email.filter.lookups")
+            .tag("result", "maybe_present")
+            .description("Bloom filter가 있을 수 있다고 판정해 DB를 조회한 횟수")
+            .register(meterRegistry);
+        this.falsePositives = Counter.builder("naga.user.email.filter.false.positives")
+            .description("Bloom filter는 있다고 했지만 DB에 없던 횟수")
+            .register(meterRegistry);
+        Gauge.builder("naga.user.email.filter.expected.fpp", filter, BloomFilter::expectedFalsePositiveRate)
+            .description("채워진 비트 비율로 추정한 거짓 양성 확률")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        long count = readOnlyTransaction.execute(status -> {
+            try (Stream<String> emails = userRepository.streamAllEmails()) {
+                return emails.mapToLong(email -> {
+                    filter.put(email);
+                    return 1;
+                }).sum();
+            }
+        });
+        ready = true;
+        log.info("이메일 필터 워밍업 완료: {}건, {} bits, 해시 {}개", count, filter.bitSize(), filter.hashFunctions());
+    }
+
+    public boolean mightContain(String email) {
+        if (!ready) {
+            presentLookups.increment();
+            return true;
+        }
+
+        boolean mightContain = filter.mightContain(email);
+        (mightContain ? presentLookups : absentLookups).increment();
+        return mightContain;
+    }
+
+    public void add(String email) {
+        if (properties.enabled()) {
+            filter.put(email);
+        }
+    }
+
+    public void recordFalsePositive() {
+        if (ready) {
+            falsePositives.increment();
+        }
+    }
+}
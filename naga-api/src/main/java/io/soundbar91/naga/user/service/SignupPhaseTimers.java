@@ -0,0 +1,48 @@
+package io.soundbar91.naga.user.service;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 회원가입 단계별 소요 시간. p99가 튈 때 검증, 중복 조회, 해싱, 저장 중 어디가 원인인지 가르기 위해 쓴다.
+ * <p>
+ * 단계마다 {@code naga.user.signup.phase{phase}} 타이머를 하나씩 미리 만들고 백분위 히스토그램을 함께 내보낸다.
+ * 실패한 단계도 실패할 때까지 걸린 시간을 기록한다.
+ */
+@Component
+public class SignupPhaseTimers {
+
+    public enum Phase {
+        VALIDATE,
+        DUPLICATE_CHECK,
+        HASH,
+        INSERT
+    }
+
+    private final Map<Phase, Timer> timers = new EnumMap<>(Phase.class);
+
+    public SignupPhaseTimers(MeterRegistry meterRegistry) {
+        for (Phase phase : Phase.values()) {
+            timers.put(phase, Timer.builder("naga.user.signup.phase")
+                .description("회원가입 단계별 소요 시간")
+                .tag("phase", phase.name().toLowerCase(Locale.ROOT))
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+
+    public <T> T record(Phase phase, Supplier<T> step) {
+        return timers.get(phase).record(step);
+    }
+
+    public void run(Phase phase, Runnable step) {
+        timers.get(phase).record(step);
+    }
+}
@@ -0,0 +1,154 @@
+package io.soundbar91.naga.user.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.config.UserBatchProperties;
+import io.soundbar91.naga.user.dto.UserResponse;
+import io.soundbar91.naga.user.repository.UserRepository;
+
+/**
+ * 여러 요청의 ID 조회를 모아 IN 쿼리 하나로 처리한다.
+ * <p>
+ * 열린 배치가 없을 때 조회한 호출이 배치를 열고 {@code window}만큼 기다린 뒤 그동안 모인 ID를 한 번에 조회한다.
+ * 그 사이 다른 호출의 ID는 같은 배치에 더해지고, 이미 배치에 있는 ID는 중복 없이 같은 결과를 나눠 받는다.
+ * 배치가 {@code maxSize}에 닿으면 기다리지 않고 닫아 그 자리에서 조회한다. 조회는 배치를 연 호출(또는 채운 호출)의 스레드에서
+ * 실행하므로 별도 스레드가 없다. 다른 호출이 연 배치의 결과는 {@code timeout}까지만 기다리고, 넘으면 DB가 바쁜 것으로 보고
+ * 실패한다.
+ * <p>
+ * {@code naga.user.batch.size} 지표로 IN 쿼리 하나에 담긴 ID 수를 노출한다.
+ */
+@Component
+public class UserBatchLoader {
+
+    private final UserRepository userRepository;
+    private final UserBatchProperties properties;
+    private final DistributionSummary batchSize;
+    private final Object lock = new Object();
+    private Batch open;
+
+    public UserBatchLoader(UserRepository userRepository, UserBatchProperties properties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.batchSize = DistributionSummary.builder("naga.user.batch.size")
+            .description("IN 쿼리 하나로 조회한 사용자 ID 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 중복을 제거한 ID 순서대로 결과를 돌려준다. 없거나 삭제된 사용자의 ID는 결과에 없다.
+     */
+    public Map<Long, UserResponse> load(Collection<Long> ids) {
+        Map<Long, CompletableFuture<Optional<UserResponse>>> futures = new LinkedHashMap<>();
+        List<Batch> full = new ArrayList<>();
+        Batch opened = null;  // 이 호출이 마지막으로 연 배치. 앞서 연 배치는 가득 차서 full에 있다
+        synchronized (lock) {
+            for (Long id : new LinkedHashSet<>(ids)) {
+                if (open == null) {
+                    open = new Batch();
+                    opened = open;
+                }
+                futures.put(id, open.add(id));
+                if (open.size() >= properties.maxSize()) {
+                    full.add(open);
+                    open = null;
+                }
+            }
+        }
+
+        for (Batch batch : full) {
+            dispatch(batch);
+        }
+        if (opened != null && !opened.dispatched.get()) {
+            waitWindow();
+            synchronized (lock) {
+                if (open == opened) {
+                    open = null;
+                }
+            }
+            dispatch(opened);
+        }
+
+        Map<Long, UserResponse> results = new LinkedHashMap<>();
+        long deadline = System.nanoTime() + properties.timeout().toNanos();
+        futures.forEach((id, future) -> await(future, deadline).ifPresent(user -> results.put(id, user)));
+        return results;
+    }
+
+    private void dispatch(Batch batch) {
+        if (!batch.dispatched.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            batchSize.record(batch.size());
+            Map<Long, UserResponse> found = new HashMap<>();
+            for (UserResponse user : userRepository.findResponsesByIdIn(batch.waiters.keySet())) {
+                found.put(user.id(), user);
+            }
+            batch.waiters.forEach((id, future) -> future.complete(Optional.ofNullable(found.get(id))));
+        } catch (RuntimeException ex) {
+            batch.waiters.values().forEach(future -> future.completeExceptionally(ex));
+        }
+    }
+
+    private void waitWindow() {
+        if (properties.window().isZero()) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(properties.window().toNanos());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Optional<UserResponse> await(CompletableFuture<Optional<UserResponse>> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new BusinessException(ErrorCode.DATABASE_BUSY);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.DATABASE_BUSY);
+        }
+    }
+
+    /**
+     * {@link #waiters}는 배치가 열려 있는 동안 {@code lock} 안에서만 바뀌고, 닫힌 뒤에는 조회하는 스레드만 읽는다.
+     */
+    private static final class Batch {
+
+        private final Map<Long, CompletableFuture<Optional<UserResponse>>> waiters = new HashMap<>();
+        private final AtomicBoolean dispatched = new AtomicBoolean();
+
+        private CompletableFuture<Optional<UserResponse>> add(Long id) {
+            return waiters.computeIfAbsent(id, key -> new CompletableFuture<>());
+        }
+
+        private int size() {
+            return waiters.size();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.soundbar91.naga.user.service;
+
+import java.util.Optional;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.common.support.ExpiringCache;
+import io.soundbar91.naga.config.UserCacheProperties;
+import io.soundbar91.naga.user.event.UserChangedEvent;
+import io.soundbar91.naga.user.repository.UserRepository;
+
+/**
+ * ID와 이메일로 사용자를 찾는 캐시. 두 키를 따로 보관하며 사용자가 바뀌면 두 키를 모두 무효화한다.
+ * <p>
+ * 변경은 {@link UserChangedEvent}로 알려진다. 커밋 전에 다른 요청이 이전 값을 다시 적재할 수 있으므로
+ * 트랜잭션 안이면 커밋이 끝난 뒤 한 번 더 무효화한다.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final UserCacheProperties properties;
+    private final ExpiringCache<Long, CachedUser> byId;
+    private final ExpiringCache<String, CachedUser> byEmail;
+
+    public UserCache(UserRepository userRepository, UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.byId = new ExpiringCache<>("user.id", properties.maxSize(), properties.ttl(), meterRegistry);
+        this.byEmail = new ExpiringCache<>("user.email", properties.maxSize(), properties.ttl(), meterRegistry);
+    }
+
+    public Optional<CachedUser> findById(Long id) {
+        if (!properties.enabled()) {
+            return userRepository.findById(id).map(CachedUser::from);
+        }
+        return byId.get(id, key -> userRepository.findById(key).map(CachedUser::from));
+    }
+
+    public Optional<CachedUser> findByEmail(String email) {
+        if (!properties.enabled()) {
+            return userRepository.findByEmail(email).map(CachedUser::from);
+        }
+        return byEmail.get(email, key -> userRepository.findByEmail(key).map(CachedUser::from));
+    }
+
+    @EventListener
+    public void onChanged(UserChangedEvent event) {
+        evict(event.userId(), event.email());
+    }
+
+    public void evict(Long id, String email) {
+        invalidate(id, email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(id, email);
+                }
+            });
+        }
+    }
+
+    private void invalidate(Long id, String email) {
+        if (id != null) {
+            byId.invalidate(id);
+        }
+        if (email != null) {
+            byEmail.invalidate(email);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package io.soundbar91.naga.user.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.common.outbox.OutboxWriter;
+import io.soundbar91.naga.common.security.PasswordHasher;
+import io.soundbar91.naga.config.UserImportProperties;
+import io.soundbar91.naga.user.dto.CreateUserRequest;
+import io.soundbar91.naga.user.dto.UserImportFormat;
+import io.soundbar91.naga.user.dto.UserImportResponse;
+import io.soundbar91.naga.user.dto.UserImportRowResult;
+import io.soundbar91.naga.user.entity.User;
+import io.soundbar91.naga.user.event.UserCreatedEvent;
+import io.soundbar91.naga.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 대량 등록.
+ * <p>
+ * 본문을 한 줄씩 읽어 {@code chunkSize} 단위로 처리한다. 청크마다 검증, 이메일 필터에 걸린 이메일만 모은 중복 조회(IN 쿼리 1회),
+ * 병렬 해싱, 배치 INSERT를 순서대로 수행하므로 전체 본문을 메모리에 올리지 않는다.
+ * 배치 INSERT가 동시 가입과 경합해 유니크 제약에 걸리면 해당 청크만 한 건씩 다시 저장한다.
+ * 저장한 사용자마다 같은 트랜잭션에 {@link UserCreatedEvent} 아웃박스 알림을 기록한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserImportService {
+
+    private static final String CSV_HEADER = "email,password";
+
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final EmailMembershipFilter emailMembershipFilter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final UserImportProperties properties;
+    private final OutboxWriter outboxWriter;
+
+    public UserImportResponse importUsers(Reader body, UserImportFormat format) throws IOException {
+        BufferedReader reader = body instanceof BufferedReader buffered ? buffered : new BufferedReader(body);
+        List<UserImportRowResult> results = new ArrayList<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(properties.chunkSize());
+
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (format == UserImportFormat.CSV && lineNumber == 1 && CSV_HEADER.equals(line.strip()))) {
+                continue;
+            }
+            chunk.add(parse(lineNumber, line, format));
+            if (chunk.size() == properties.chunkSize()) {
+                importChunk(chunk, seenEmails, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, seenEmails, results);
+        }
+
+        return UserImportResponse.from(results);
+    }
+
+    private ImportRow parse(long lineNumber, String line, UserImportFormat format) {
+        if (format == UserImportFormat.CSV) {
+            int separator = line.indexOf(',');
+            if (separator < 0) {
+                return ImportRow.invalid(lineNumber, "email,password 형식이어야 합니다");
+            }
+            return ImportRow.of(lineNumber, new CreateUserRequest(line.substring(0, separator), line.substring(separator + 1)));
+        }
+
+        try {
+            CreateUserRequest request = objectMapper.readValue(line, CreateUserRequest.class);
+            if (request == null) {
+                return ImportRow.invalid(lineNumber, "JSON 형식이 올바르지 않습니다");
+            }
+            return ImportRow.of(lineNumber, request);
+        } catch (JsonProcessingException ex) {
+            return ImportRow.invalid(lineNumber, "JSON 형식이 올바르지 않습니다");
+        }
+    }
+
+    private void importChunk(List<ImportRow> chunk, Set<String> seenEmails, List<UserImportRowResult> results) {
+        UserImportRowResult[] chunkResults = new UserImportRowResult[chunk.size()];
+        List<Integer> candidates = new ArrayList<>(chunk.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            ImportRow row = chunk.get(i);
+            String violation = row.parseError() != null ? row.parseError() : validate(row.request());
+            if (violation != null) {
+                chunkResults[i] = failed(row, ErrorCode.INVALID_INPUT_VALUE, violation);
+            } else if (!seenEmails.add(row.request().email())) {
+                chunkResults[i] = failed(row, ErrorCode.USER_EMAIL_ALREADY_EXISTS);
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        List<String> suspects = candidates.stream()
+            .map(i -> chunk.get(i).request().email())
+            .filter(emailMembershipFilter::mightContain)
+            .toList();
+        Set<String> existingEmails = suspects.isEmpty()
+            ? Set.of()
+            : new HashSet<>(userRepository.findExistingEmails(suspects));
+
+        List<Integer> pending = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            if (existingEmails.contains(chunk.get(i).request().email())) {
+                chunkResults[i] = failed(chunk.get(i), ErrorCode.USER_EMAIL_ALREADY_EXISTS);
+            } else {
+                pending.add(i);
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            List<String> hashes = passwordHasher.hashAll(
+                pending.stream().map(i -> chunk.get(i).request().password()).toList());
+            insert(chunk, pending, hashes, chunkResults);
+        }
+
+        results.addAll(List.of(chunkResults));
+    }
+
+    private String validate(CreateUserRequest request) {
+        Set<ConstraintViolation<CreateUserRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
+
+    private void insert(List<ImportRow> chunk, List<Integer> pending, List<String> hashes,
+        UserImportRowResult[] chunkResults) {
+        List<User> users = new ArrayList<>(pending.size());
+        for (int p = 0; p < pending.size(); p++) {
+            users.add(User.create(chunk.get(pending.get(p)).request().email(), hashes.get(p)));
+        }
+
+        try {
+            persist(users);
+            for (int p = 0; p < pending.size(); p++) {
+                ImportRow row = chunk.get(pending.get(p));
+                emailMembershipFilter.add(row.request().email());
+                chunkResults[pending.get(p)] = UserImportRowResult.created(row.line(), row.request().email(), users.get(p).getId());
+            }
+        } catch (DataIntegrityViolationException ex) {
+            for (int p = 0; p < pending.size(); p++) {
+                ImportRow row = chunk.get(pending.get(p));
+                User user = User.create(row.request().email(), hashes.get(p));
+                try {
+                    persist(List.of(user));
+                    emailMembershipFilter.add(row.request().email());
+                    chunkResults[pending.get(p)] = UserImportRowResult.created(row.line(), row.request().email(), user.getId());
+                } catch (DataIntegrityViolationException duplicated) {
+                    chunkResults[pending.get(p)] = failed(row, ErrorCode.USER_EMAIL_ALREADY_EXISTS);
+                }
+            }
+        }
+    }
+
+    private void persist(List<User> users) {
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.saveAllAndFlush(users);
+            for (User user : users) {
+                outboxWriter.append(UserCreatedEvent.AGGREGATE_TYPE, user.getId(), UserCreatedEvent.TYPE,
+                    UserCreatedEvent.from(user));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    private static UserImportRowResult failed(ImportRow row, ErrorCode errorCode) {
+        return failed(row, errorCode, errorCode.getMessage());
+    }
+
+    private static UserImportRowResult failed(ImportRow row, ErrorCode errorCode, String message) {
+        String email = row.request() != null ? row.request().email() : null;
+        return UserImportRowResult.failed(row.line(), email, errorCode.name(), message);
+    }
+
+    private record ImportRow(long line, CreateUserRequest request, String parseError) {
+
+        static ImportRow of(long line, CreateUserRequest request) {
+            return new ImportRow(line, request, null);
+        }
+
+        static ImportRow invalid(long line, String parseError) {
+            return new ImportRow(line, null, parseError);
+        }
+    }
+}
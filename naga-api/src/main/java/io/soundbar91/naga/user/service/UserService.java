@@ -1,13 +1,36 @@
 package io.soundbar91.naga.user.service;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.soundbar91.naga.common.exception.BusinessException;
 import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.common.outbox.OutboxWriter;
+import io.soundbar91.naga.common.security.PasswordHasher;
+import io.soundbar91.naga.config.UserBatchProperties;
+import io.soundbar91.naga.user.dto.UserBatchResponse;
+import io.soundbar91.naga.user.dto.UserPageResponse;
+import io.soundbar91.naga.user.dto.UserResponse;
 import io.soundbar91.naga.user.entity.User;
+import io.soundbar91.naga.user.event.UserCreatedEvent;
+import io.soundbar91.naga.user.event.UserDeletedEvent;
 import io.soundbar91.naga.user.repository.UserRepository;
+import io.soundbar91.naga.user.service.SignupPhaseTimers.Phase;
+import io.soundbar91.naga.user.validation.UserCredentialRules;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -15,21 +38,131 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class UserService {
 
+    public static final int LIST_MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final EmailMembershipFilter emailMembershipFilter;
+    private final UserCache userCache;
+    private final ObjectMapper objectMapper;
+    private final SignupPhaseTimers signupPhaseTimers;
+    private final OutboxWriter outboxWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final UserBatchLoader userBatchLoader;
+    private final UserBatchProperties batchProperties;
 
-    @Transactional
+    /**
+     * 해싱이 끝날 때까지 커넥션을 잡지 않도록 트랜잭션 없이 실행한다.
+     * 중복 조회와 저장은 각각 짧은 트랜잭션에서 수행되며, 저장 트랜잭션에 {@link UserCreatedEvent} 아웃박스 알림을 함께 기록한다.
+     * <p>
+     * 이메일 필터가 없다고 판정하면 중복 조회를 생략한다. 동시 가입 경합은 유니크 제약 위반으로 드러나며
+     * {@code GlobalExceptionHandler}가 {@link ErrorCode#USER_EMAIL_ALREADY_EXISTS}로 변환한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User create(String email, String rawPassword) {
-        validatePassword(rawPassword);
+        signupPhaseTimers.run(Phase.VALIDATE, () -> validatePassword(rawPassword));
+        signupPhaseTimers.run(Phase.DUPLICATE_CHECK, () -> checkDuplicateEmail(email));
+
+        String encodedPassword = signupPhaseTimers.record(Phase.HASH, () -> passwordHasher.hash(rawPassword));
+        User user = User.create(email, encodedPassword);
 
-        if (userRepository.existsByEmail(email)) {
-            throw new BusinessException(ErrorCode.USER_EMAIL_ALREADY_EXISTS);
+        User saved = signupPhaseTimers.record(Phase.INSERT, () -> transactionTemplate.execute(status -> {
+            User inserted = userRepository.save(user);
+            outboxWriter.append(UserCreatedEvent.AGGREGATE_TYPE, inserted.getId(), UserCreatedEvent.TYPE,
+                UserCreatedEvent.from(inserted));
+            return inserted;
+        }));
+        emailMembershipFilter.add(email);
+        return saved;
+    }
+
+    /**
+     * 소프트 삭제하고 같은 트랜잭션에 {@link UserDeletedEvent} 아웃박스 알림을 기록한다.
+     * 캐시는 변경 이벤트를 받은 {@link UserCache}가 무효화한다.
+     */
+    @Transactional
+    public void delete(Long id) {
+        User user = userRepository.findById(id)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        user.softDelete();
+        outboxWriter.append(UserDeletedEvent.AGGREGATE_TYPE, user.getId(), UserDeletedEvent.TYPE, UserDeletedEvent.from(user));
+    }
+
+    public UserResponse get(Long id) {
+        return userCache.findById(id)
+            .map(CachedUser::toResponse)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    /**
+     * 문제, 순위표, 제출 목록의 작성자 정보처럼 여러 사용자를 한 번에 조회한다.
+     * 중복 ID는 한 번만 조회하며, 동시에 들어온 다른 요청의 조회와 함께 IN 쿼리 하나로 묶일 수 있다.
+     * 배치를 모으며 기다리는 동안 커넥션을 잡지 않도록 트랜잭션 없이 실행하고, 조회는 자체 읽기 전용 트랜잭션에서 한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserBatchResponse getAll(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > batchProperties.maxSize() || ids.stream().anyMatch(Objects::isNull)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "ids는 1개 이상 " + batchProperties.maxSize() + "개 이하여야 합니다");
+        }
+        Map<Long, UserResponse> found = userBatchLoader.load(ids);
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            if (!found.containsKey(id) && !missingIds.contains(id)) {
+                missingIds.add(id);
+            }
         }
+        return new UserBatchResponse(List.copyOf(found.values()), missingIds);
+    }
 
-        String encodedPassword = passwordEncoder.encode(rawPassword);
-        User user = User.create(email, encodedPassword);
+    /**
+     * ID 순서의 키셋 페이지. OFFSET 없이 {@code id > cursor} 범위를 인덱스로 찾으므로 페이지 위치와 관계없이 응답 시간이 같다.
+     * 한 건을 더 읽어 다음 페이지가 있는지 판단한다.
+     *
+     * @param cursor 직전 페이지의 {@code nextCursor}. 첫 페이지면 {@code null}
+     */
+    public UserPageResponse list(Long cursor, int size) {
+        if (size < 1 || size > LIST_MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "size는 1 이상 " + LIST_MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+        List<UserResponse> users = userRepository.findPageAfter(cursor == null ? 0L : cursor, Limit.of(size + 1));
+        if (users.size() <= size) {
+            return new UserPageResponse(users, null);
+        }
+        List<UserResponse> page = users.subList(0, size);
+        return new UserPageResponse(page, page.get(size - 1).id());
+    }
 
-        return userRepository.save(user);
+    /**
+     * 전체 사용자를 ID 순서의 NDJSON으로 쓰고 쓴 행 수를 돌려준다.
+     * <p>
+     * fetch size를 지정한 커서로 읽은 행을 바로 쓰며, 엔티티가 아닌 DTO로 조회하므로 영속성 컨텍스트에 쌓이는 것이 없다.
+     * 사용자 수와 관계없이 힙 사용량이 일정하다.
+     * <p>
+     * MySQL 드라이버는 기본으로 결과 전체를 메모리에 받아 fetch size를 무시하므로, 운영 접속 URL에
+     * {@code useCursorFetch=true}를 넣어야 서버 커서로 나눠 읽는다.
+     */
+    public long export(OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<UserResponse> users = userRepository.streamAllResponses()) {
+            Iterator<UserResponse> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(iterator.next()));
+                out.write('\n');
+                count++;
+            }
+        }
+        out.flush();
+        return count;
+    }
+
+    private void checkDuplicateEmail(String email) {
+        if (emailMembershipFilter.mightContain(email)) {
+            if (userRepository.existsByEmail(email)) {
+                throw new BusinessException(ErrorCode.USER_EMAIL_ALREADY_EXISTS);
+            }
+            emailMembershipFilter.recordFalsePositive();
+        }
     }
 
     private void validatePassword(String rawPassword) {
@@ -37,11 +170,11 @@ public class UserService {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "비밀번호는 필수입니다");
         }
 
-        if (rawPassword.length() < 8 || rawPassword.length() > 20) {
+        if (!UserCredentialRules.isPasswordLength(rawPassword)) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "비밀번호는 8~20자여야 합니다");
         }
 
-        if (!rawPassword.matches("^(?=.*[A-Za-z])(?=.*\\d)(?=.*[@$!%*#?&]).+$")) {
+        if (!UserCredentialRules.isPasswordFormat(rawPassword)) {
             throw new BusinessException(ErrorCode.INVALID_PASSWORD_FORMAT);
         }
     }
@@ -0,0 +1,112 @@
+package io.soundbar91.naga.user.validation;
+
+/**
+ * 이메일, 비밀번호 형식 규칙.
+ * <p>
+ * DTO 제약({@link ValidEmail}, {@link ValidPassword}), {@code User} 도메인 검증, {@code UserService}가 함께 사용한다.
+ * 정규식 없이 문자열을 한 번만 훑으며, 아래 정규식의 전체 일치({@code Matcher#matches})와 같은 결과를 낸다.
+ * 단, {@link #EMAIL_MAX_LENGTH}를 넘는 이메일은 훑지 않고 거절한다.
+ * <ul>
+ *     <li>이메일: {@code ^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\.[A-Za-z]{2,}$}</li>
+ *     <li>비밀번호: {@code ^(?=.*[A-Za-z])(?=.*\d)(?=.*[@$!%*#?&]).+$}</li>
+ * </ul>
+ */
+public final class UserCredentialRules {
+
+    public static final int EMAIL_MAX_LENGTH = 100;
+    public static final int PASSWORD_MIN_LENGTH = 8;
+    public static final int PASSWORD_MAX_LENGTH = 20;
+
+    private UserCredentialRules() {
+    }
+
+    public static boolean isEmailFormat(CharSequence email) {
+        int length = email.length();
+        if (length > EMAIL_MAX_LENGTH) {
+            return false;
+        }
+        int at = -1;
+        int lastDot = -1;
+        boolean topLevelLettersOnly = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                if (at >= 0) {
+                    return false;
+                }
+                at = i;
+            } else if (at < 0) {
+                if (!isLocalPartChar(c)) {
+                    return false;
+                }
+            } else if (c == '.') {
+                lastDot = i;
+                topLevelLettersOnly = true;
+            } else if (isAsciiLetter(c)) {
+                continue;
+            } else if (isAsciiDigit(c) || c == '-') {
+                topLevelLettersOnly = false;
+            } else {
+                return false;
+            }
+        }
+
+        return at > 0
+            && lastDot >= at + 2
+            && length - lastDot - 1 >= 2
+            && topLevelLettersOnly;
+    }
+
+    public static boolean isPasswordFormat(CharSequence password) {
+        int length = password.length();
+        if (length == 0) {
+            return false;
+        }
+
+        boolean hasLetter = false;
+        boolean hasDigit = false;
+        boolean hasSpecial = false;
+        for (int i = 0; i < length; i++) {
+            char c = password.charAt(i);
+            if (isAsciiLetter(c)) {
+                hasLetter = true;
+            } else if (isAsciiDigit(c)) {
+                hasDigit = true;
+            } else if (isPasswordSpecial(c)) {
+                hasSpecial = true;
+            } else if (isLineTerminator(c)) {
+                return false;
+            }
+        }
+        return hasLetter && hasDigit && hasSpecial;
+    }
+
+    public static boolean isPasswordLength(CharSequence password) {
+        return password.length() >= PASSWORD_MIN_LENGTH && password.length() <= PASSWORD_MAX_LENGTH;
+    }
+
+    private static boolean isLocalPartChar(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c)
+            || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isPasswordSpecial(char c) {
+        return c == '@' || c == '$' || c == '!' || c == '%' || c == '*' || c == '#' || c == '?' || c == '&';
+    }
+
+    /**
+     * 정규식 {@code .}이 일치하지 않는 문자 ({@code DOTALL}, {@code UNIX_LINES} 미사용 기준).
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
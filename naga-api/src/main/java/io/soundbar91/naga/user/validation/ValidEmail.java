@@ -0,0 +1,29 @@
+package io.soundbar91.naga.user.validation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.RECORD_COMPONENT;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * {@link UserCredentialRules#isEmailFormat}로 형식을 검사한다. null은 유효로 본다.
+ */
+@Documented
+@Constraint(validatedBy = ValidEmailValidator.class)
+@Target({FIELD, PARAMETER, RECORD_COMPONENT})
+@Retention(RUNTIME)
+public @interface ValidEmail {
+
+    String message() default "올바른 이메일 형식이 아닙니다";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,17 @@
+package io.soundbar91.naga.user.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ValidEmailValidator implements ConstraintValidator<ValidEmail, CharSequence> {
+
+    /**
+     * 길이 초과는 {@code @Size}가 알리므로 형식 오류를 함께 내지 않는다.
+     */
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null
+            || value.length() > UserCredentialRules.EMAIL_MAX_LENGTH
+            || UserCredentialRules.isEmailFormat(value);
+    }
+}
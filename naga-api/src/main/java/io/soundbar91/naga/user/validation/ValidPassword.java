@@ -0,0 +1,29 @@
+package io.soundbar91.naga.user.validation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.RECORD_COMPONENT;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * {@link UserCredentialRules#isPasswordFormat}로 형식을 검사한다. null은 유효로 본다.
+ */
+@Documented
+@Constraint(validatedBy = ValidPasswordValidator.class)
+@Target({FIELD, PARAMETER, RECORD_COMPONENT})
+@Retention(RUNTIME)
+public @interface ValidPassword {
+
+    String message() default "비밀번호는 영문, 숫자, 특수문자를 포함해야 합니다";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,12 @@
+package io.soundbar91.naga.user.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ValidPasswordValidator implements ConstraintValidator<ValidPassword, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || UserCredentialRules.isPasswordFormat(value);
+    }
+}
@@ -0,0 +1,53 @@
+package io.soundbar91.naga;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.soundbar91.naga.user.service.UserService;
+
+@SpringBootTest
+@ActiveProfiles("prometheus")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@WithMockUser
+@DisplayName("Prometheus 엔드포인트 테스트")
+class PrometheusEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @DisplayName("회원가입 단계 히스토그램, 에러 코드별 카운터, 커넥션 풀 지표를 Prometheus 형식으로 내보낸다")
+    void 지표_노출() throws Exception {
+        // given
+        userService.create("metrics@naga.io", "Password123!");
+        mockMvc.perform(get("/api/users/{id}", Long.MAX_VALUE)).andExpect(status().isNotFound());
+
+        // when
+        String body = mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        // then
+        assertThat(body)
+            .contains("naga_user_signup_phase_seconds_bucket{phase=\"hash\"")
+            .contains("naga_user_signup_phase_seconds_count{phase=\"insert\"} 1")
+            .contains("naga_errors_total{code=\"USER_NOT_FOUND\",status=\"404\"} 1.0")
+            .contains("hikaricp_connections_pending")
+            .contains("hikaricp_connections_acquire_seconds_bucket");
+    }
+}
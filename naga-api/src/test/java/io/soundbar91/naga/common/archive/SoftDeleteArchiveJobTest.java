@@ -0,0 +1,66 @@
+package io.soundbar91.naga.common.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.soundbar91.naga.user.entity.User;
+import io.soundbar91.naga.user.repository.UserRepository;
+
+@SpringBootTest(properties = {
+    "naga.archive.batch-size=2",
+    "naga.archive.throttle=0ms"
+})
+@DisplayName("SoftDeleteArchiveJob 테스트")
+class SoftDeleteArchiveJobTest {
+
+    @Autowired
+    private SoftDeleteArchiveJob archiveJob;
+
+    @Autowired
+    private ArchiveTarget userArchiveTarget;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("보관 기간이 지난 삭제 행만 배치로 보관 테이블에 옮긴다")
+    void 오래된_삭제행_보관() throws Exception {
+        // given
+        List<Long> expired = List.of(
+            deletedUser("expired1@archive.io", 40),
+            deletedUser("expired2@archive.io", 40),
+            deletedUser("expired3@archive.io", 35));
+        Long recent = deletedUser("recent@archive.io", 1);
+        Long live = userRepository.save(User.create("live@archive.io", "encoded")).getId();
+
+        // when
+        int archived = archiveJob.archive(userArchiveTarget, LocalDateTime.now().minusDays(30));
+
+        // then
+        assertThat(archived).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("select id from users where email like '%@archive.io'", Long.class))
+            .containsExactlyInAnyOrder(recent, live);
+        assertThat(jdbcTemplate.queryForList(
+            "select id from users_archive where email like '%@archive.io' and archived_at is not null", Long.class))
+            .containsExactlyInAnyOrderElementsOf(expired);
+    }
+
+    private Long deletedUser(String email, int daysAgo) {
+        User user = User.create(email, "encoded");
+        user.softDelete();
+        Long id = userRepository.save(user).getId();
+        jdbcTemplate.update("update users set deleted_at = ? where id = ?", LocalDateTime.now().minusDays(daysAgo), id);
+        return id;
+    }
+}
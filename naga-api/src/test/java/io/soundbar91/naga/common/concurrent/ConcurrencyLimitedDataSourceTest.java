@@ -0,0 +1,45 @@
+package io.soundbar91.naga.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ConcurrencyLimitedDataSource 테스트")
+class ConcurrencyLimitedDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final ConcurrencyLimiter limiter = new ConcurrencyLimiter("jdbc", 1, 0, Duration.ZERO);
+    private final ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, limiter);
+
+    @Test
+    @DisplayName("unwrap은 감싼 커넥션을 돌려주고, 그것을 닫으면 허가가 반환된다")
+    void 커넥션_unwrap() throws Exception {
+        // given
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        Connection connection = dataSource.getConnection();
+
+        // when
+        Connection unwrapped = connection.unwrap(Connection.class);
+        unwrapped.close();
+
+        // then
+        assertThat(unwrapped).isSameAs(connection);
+        assertThat(connection.isWrapperFor(Connection.class)).isTrue();
+        assertThat(limiter.inUse()).isZero();
+    }
+
+    @Test
+    @DisplayName("DataSource로 unwrap하면 제한하는 DataSource 자신을 돌려준다")
+    void 데이터소스_unwrap() throws Exception {
+        // when & then
+        assertThat(dataSource.unwrap(DataSource.class)).isSameAs(dataSource);
+    }
+}
@@ -0,0 +1,78 @@
+package io.soundbar91.naga.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StripedCounters 테스트")
+class StripedCountersTest {
+
+    @Test
+    @DisplayName("저장한 만큼만 빼므로 저장 이후의 증가는 남는다")
+    void 저장후_차감() {
+        // given
+        StripedCounters counters = new StripedCounters(2);
+        counters.add(1L, 1, 1);
+        counters.add(1L, 1, 0);
+        counters.add(2L, 1, 0);
+        Map<Long, long[]> snapshot = counters.snapshot();
+
+        // when
+        counters.add(1L, 1, 1);
+        snapshot.forEach(counters::subtract);
+
+        // then
+        assertThat(snapshot).containsOnlyKeys(1L, 2L);
+        assertThat(snapshot.get(1L)).containsExactly(2, 1);
+        assertThat(counters.get(1L)).containsExactly(1, 1);
+        assertThat(counters.get(2L)).containsExactly(0, 0);
+        assertThat(counters.evictIdle()).isEqualTo(1);
+        assertThat(counters.snapshot()).containsOnlyKeys(1L);
+    }
+
+    @Test
+    @DisplayName("증가, 저장, 빈 키 제거가 동시에 일어나도 합계가 유실되지 않는다")
+    void 동시_증가_유실없음() throws Exception {
+        // given
+        StripedCounters counters = new StripedCounters(1);
+        AtomicLong saved = new AtomicLong();
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                counters.snapshot().forEach((key, sums) -> {
+                    saved.addAndGet(sums[0]);
+                    counters.subtract(key, sums);
+                });
+                counters.evictIdle();
+            }
+        });
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            writers.add(new Thread(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    counters.add(i % 3, 1);
+                }
+            }));
+        }
+
+        // when
+        flusher.start();
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        running.set(false);
+        flusher.join();
+
+        // then
+        long remaining = counters.snapshot().values().stream().mapToLong(sums -> sums[0]).sum();
+        assertThat(saved.get() + remaining).isEqualTo(4 * 50_000);
+    }
+}
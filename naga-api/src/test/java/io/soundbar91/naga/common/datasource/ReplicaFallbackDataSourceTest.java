@@ -0,0 +1,74 @@
+package io.soundbar91.naga.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ReplicaFallbackDataSource 테스트")
+class ReplicaFallbackDataSourceTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:fallback-primary";
+    private static final String REPLICA_URL = "jdbc:h2:mem:fallback-replica";
+    private static final String MISSING_URL = "jdbc:h2:mem:fallback-missing;IFEXISTS=TRUE";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("복제본에 연결할 수 없으면 원본 커넥션을 주고, 상태 확인이 성공하면 복제본으로 돌아간다")
+    void 복제본_장애와_복구() throws Exception {
+        // given
+        DriverManagerDataSource replica = new DriverManagerDataSource(MISSING_URL, "sa", "");
+        DriverManagerDataSource primary = new DriverManagerDataSource(PRIMARY_URL, "sa", "");
+        try (ReplicaFallbackDataSource dataSource =
+                 new ReplicaFallbackDataSource(replica, primary, Duration.ofHours(1), meterRegistry)) {
+
+            // when
+            String duringOutage = urlOf(dataSource);
+            boolean healthyDuringOutage = dataSource.isHealthy();
+            replica.setUrl(REPLICA_URL);
+            String beforeCheck = urlOf(dataSource);
+            dataSource.checkHealth();
+            String afterCheck = urlOf(dataSource);
+
+            // then
+            assertThat(duringOutage).isEqualTo(PRIMARY_URL);
+            assertThat(healthyDuringOutage).isFalse();
+            assertThat(beforeCheck).isEqualTo(PRIMARY_URL);
+            assertThat(afterCheck).isEqualTo(REPLICA_URL);
+            assertThat(dataSource.isHealthy()).isTrue();
+            assertThat(meterRegistry.get("naga.datasource.replica.fallbacks").counter().count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("상태 확인이 실패하면 요청보다 먼저 원본으로 전환한다")
+    void 상태확인_실패() throws Exception {
+        // given
+        DriverManagerDataSource replica = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        DriverManagerDataSource primary = new DriverManagerDataSource(PRIMARY_URL, "sa", "");
+        try (ReplicaFallbackDataSource dataSource =
+                 new ReplicaFallbackDataSource(replica, primary, Duration.ofHours(1), meterRegistry)) {
+            replica.setUrl(MISSING_URL);
+
+            // when
+            dataSource.checkHealth();
+
+            // then
+            assertThat(dataSource.isHealthy()).isFalse();
+            assertThat(urlOf(dataSource)).isEqualTo(PRIMARY_URL);
+        }
+    }
+
+    private static String urlOf(ReplicaFallbackDataSource dataSource) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+}
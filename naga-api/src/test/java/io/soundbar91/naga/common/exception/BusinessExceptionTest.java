@@ -0,0 +1,42 @@
+package io.soundbar91.naga.common.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BusinessException 테스트")
+class BusinessExceptionTest {
+
+    @Test
+    @DisplayName("예상된 에러 코드는 스택 트레이스를 남기지 않음")
+    void 예상된_에러_스택없음() {
+        // when
+        BusinessException ex = new BusinessException(ErrorCode.USER_EMAIL_ALREADY_EXISTS);
+
+        // then
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(ex.getMessage()).isEqualTo(ErrorCode.USER_EMAIL_ALREADY_EXISTS.getMessage());
+    }
+
+    @Test
+    @DisplayName("예상하지 못한 에러 코드는 스택 트레이스를 남김")
+    void 예상하지못한_에러_스택유지() {
+        // when
+        BusinessException ex = new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+
+        // then
+        assertThat(ex.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("상세 메시지는 에러 코드 메시지 뒤에 붙음")
+    void 상세메시지_조합() {
+        // when
+        BusinessException ex = new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "비밀번호는 필수입니다");
+
+        // then
+        assertThat(ex.hasDetail()).isTrue();
+        assertThat(ex.getMessage()).isEqualTo("입력값이 올바르지 않습니다 비밀번호는 필수입니다");
+    }
+}
@@ -0,0 +1,77 @@
+package io.soundbar91.naga.common.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.soundbar91.naga.common.dto.ApiResponse;
+import io.soundbar91.naga.config.ConstraintErrorConfiguration;
+import io.soundbar91.naga.config.JpaAuditingConfiguration;
+import io.soundbar91.naga.user.entity.User;
+import io.soundbar91.naga.user.repository.UserRepository;
+
+@DataJpaTest
+@Import(JpaAuditingConfiguration.class)
+@DisplayName("GlobalExceptionHandler 테스트")
+class GlobalExceptionHandlerTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(new SimpleMeterRegistry(),
+        List.of(new ConstraintErrorConfiguration().userEmailConstraintError()));
+
+    @Test
+    @DisplayName("이메일 유니크 제약 위반은 USER_EMAIL_ALREADY_EXISTS로 변환")
+    void 이메일_유니크제약_변환() {
+        // given
+        userRepository.saveAndFlush(User.create("race@example.com", "encoded"));
+        DataIntegrityViolationException ex = catchThrowableOfType(DataIntegrityViolationException.class,
+            () -> userRepository.saveAndFlush(User.create("race@example.com", "encoded")));
+
+        // when
+        ResponseEntity<ApiResponse<Void>> response = handler.handleDataIntegrityViolationException(ex);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().error().code()).isEqualTo(ErrorCode.USER_EMAIL_ALREADY_EXISTS.name());
+    }
+
+    @Test
+    @DisplayName("고정 메시지 에러 응답 본문은 재사용")
+    void 고정메시지_응답_재사용() {
+        // when
+        ResponseEntity<ApiResponse<Void>> first = handler.handleBusinessException(
+            new BusinessException(ErrorCode.USER_NOT_FOUND));
+        ResponseEntity<ApiResponse<Void>> second = handler.handleBusinessException(
+            new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        // then
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(first.getBody()).isSameAs(second.getBody());
+        assertThat(first.getBody().error().message()).isEqualTo(ErrorCode.USER_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("상세 메시지가 있으면 응답 본문에 포함")
+    void 상세메시지_응답() {
+        // when
+        ResponseEntity<ApiResponse<Void>> response = handler.handleBusinessException(
+            new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "비밀번호는 필수입니다"));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().error().message()).isEqualTo("입력값이 올바르지 않습니다 비밀번호는 필수입니다");
+    }
+}
@@ -0,0 +1,172 @@
+package io.soundbar91.naga.common.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import io.soundbar91.naga.user.repository.UserRepository;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+@SpringBootTest(properties = "naga.idempotency.max-body-size=1KB")
+@AutoConfigureMockMvc
+@DisplayName("IdempotencyFilter 테스트")
+class IdempotencyFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IdempotencyFilter idempotencyFilter;
+
+    @Test
+    @DisplayName("같은 키로 재시도한 가입 요청은 처리하지 않고 처음 응답을 그대로 돌려준다")
+    void 재시도_응답_재사용() throws Exception {
+        // given
+        String first = mockMvc.perform(signup("idem-retry", "retry@naga.io"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        // when & then
+        String retried = mockMvc.perform(signup("idem-retry", "retry@naga.io"))
+            .andExpect(status().isCreated())
+            .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+            .andReturn().getResponse().getContentAsString();
+        assertThat(retried).isEqualTo(first);
+
+        mockMvc.perform(signup(null, "retry@naga.io"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error.code").value("USER_EMAIL_ALREADY_EXISTS"));
+    }
+
+    @Test
+    @DisplayName("같은 키로 본문이 다른 요청을 보내면 422로 거절한다")
+    void 키_재사용_거절() throws Exception {
+        // given
+        mockMvc.perform(signup("idem-reuse", "reuse1@naga.io")).andExpect(status().isCreated());
+
+        // when & then
+        mockMvc.perform(signup("idem-reuse", "reuse2@naga.io"))
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.error.code").value("IDEMPOTENCY_KEY_REUSED"));
+        assertThat(userRepository.existsByEmail("reuse2@naga.io")).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 요청은 한 번만 처리하고 나머지는 그 결과를 기다려 받는다")
+    void 동시_요청_한번_처리() throws Exception {
+        // given
+        int requests = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(requests)) {
+            for (int i = 0; i < requests; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(signup("idem-concurrent", "concurrent@naga.io")).andReturn().getResponse();
+                }));
+            }
+            start.countDown();
+        }
+
+        // then
+        String body = responses.getFirst().get().getContentAsString();
+        for (Future<MockHttpServletResponse> response : responses) {
+            assertThat(response.get().getStatus()).isEqualTo(201);
+            assertThat(response.get().getContentAsString()).isEqualTo(body);
+        }
+        assertThat(userRepository.existsByEmail("concurrent@naga.io")).isTrue();
+    }
+
+    @Test
+    @DisplayName("본문이 한도를 넘으면 읽지 않고 413으로 거절한다")
+    void 본문한도_초과_거절() throws Exception {
+        // given
+        String email = "a".repeat(1024) + "@naga.io";
+
+        // when & then
+        mockMvc.perform(signup("idem-large", email))
+            .andExpect(status().isPayloadTooLarge())
+            .andExpect(jsonPath("$.error.code").value("REQUEST_BODY_TOO_LARGE"));
+        assertThat(userRepository.existsByEmail(email)).isFalse();
+    }
+
+    @Test
+    @DisplayName("미리 읽은 본문을 비동기 ReadListener로도 끝까지 읽을 수 있다")
+    void 본문_비동기_읽기() throws Exception {
+        // given
+        byte[] body = "{\"email\":\"listener@naga.io\"}".getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users");
+        request.addHeader(IdempotencyFilter.HEADER, "idem-listener");
+        request.setContent(body);
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+
+        // when
+        idempotencyFilter.doFilter(request, new MockHttpServletResponse(), (filteredRequest, filteredResponse) -> {
+            ServletInputStream input = filteredRequest.getInputStream();
+            input.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (input.isReady() && !input.isFinished()) {
+                        read.write(input.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.set(true);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    throw new AssertionError(throwable);
+                }
+            });
+        });
+
+        // then
+        assertThat(read.toByteArray()).isEqualTo(body);
+        assertThat(allDataRead).isTrue();
+    }
+
+    private static MockHttpServletRequestBuilder signup(String idempotencyKey, String email) {
+        MockHttpServletRequestBuilder builder = post("/api/users")
+            .with(csrf())
+            .with(user("idempotency"))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"email\":\"" + email + "\",\"password\":\"Password123!\"}");
+        return idempotencyKey == null ? builder : builder.header(IdempotencyFilter.HEADER, idempotencyKey);
+    }
+}
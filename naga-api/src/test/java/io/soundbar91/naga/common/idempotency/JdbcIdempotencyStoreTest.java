@@ -0,0 +1,64 @@
+package io.soundbar91.naga.common.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@SpringBootTest
+@DisplayName("JdbcIdempotencyStore 테스트")
+class JdbcIdempotencyStoreTest {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("저장한 응답을 조회하고, 같은 키에 다시 저장하면 먼저 저장한 응답을 유지한다")
+    void 저장_조회() {
+        // given
+        JdbcIdempotencyStore store = new JdbcIdempotencyStore(jdbcTemplate, Duration.ofHours(1));
+        store.save("jdbc-key", response("first"));
+
+        // when
+        store.save("jdbc-key", response("second"));
+        Optional<StoredResponse> found = store.find("jdbc-key");
+
+        // then
+        assertThat(found).hasValueSatisfying(stored -> {
+            assertThat(stored.status()).isEqualTo(201);
+            assertThat(stored.contentType()).isEqualTo("application/json");
+            assertThat(new String(stored.body(), StandardCharsets.UTF_8)).isEqualTo("first");
+        });
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 응답은 조회되지 않고 정리 작업이 지운다")
+    void 만료_정리() {
+        // given
+        JdbcIdempotencyStore expired = new JdbcIdempotencyStore(jdbcTemplate, Duration.ofSeconds(-1));
+        expired.save("jdbc-expired", response("old"));
+
+        // when
+        Optional<StoredResponse> found = expired.find("jdbc-expired");
+        expired.deleteExpired();
+
+        // then
+        assertThat(found).isEmpty();
+        Integer rows = jdbcTemplate.queryForObject(
+            "select count(*) from " + IdempotencyRecord.TABLE + " where idempotency_key = :key",
+            Map.of("key", "jdbc-expired"), Integer.class);
+        assertThat(rows).isZero();
+    }
+
+    private static StoredResponse response(String body) {
+        return new StoredResponse("fingerprint", 201, "application/json", body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,47 @@
+package io.soundbar91.naga.common.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+@DisplayName("FileOutboxSink 테스트")
+class FileOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("발행할 때마다 알림을 한 줄씩 파일 끝에 덧붙인다")
+    void NDJSON_덧붙이기() throws IOException {
+        // given
+        Path file = directory.resolve("outbox.ndjson");
+        FileOutboxSink sink = new FileOutboxSink(file, objectMapper);
+
+        // when
+        sink.publish(List.of(message(1L), message(2L)));
+        sink.publish(List.of(message(3L)));
+
+        // then
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        assertThat(lines).extracting(line -> objectMapper.readValue(line, OutboxMessage.class).id())
+            .containsExactly(1L, 2L, 3L);
+    }
+
+    private static OutboxMessage message(long id) {
+        return new OutboxMessage(id, "user", id, "UserCreated", "{\"userId\":" + id + "}", LocalDateTime.now());
+    }
+}
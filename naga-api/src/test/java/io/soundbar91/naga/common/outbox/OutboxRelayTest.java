@@ -0,0 +1,167 @@
+package io.soundbar91.naga.common.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.user.entity.User;
+import io.soundbar91.naga.user.event.UserCreatedEvent;
+import io.soundbar91.naga.user.event.UserDeletedEvent;
+import io.soundbar91.naga.user.service.UserService;
+
+@SpringBootTest(properties = "naga.outbox.interval=1h")
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CapturingListener listener;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        listener.failing.set(false);
+        outboxRelay.relay();
+        listener.messages.clear();
+    }
+
+    @Test
+    @DisplayName("가입과 삭제 알림을 기록 순서대로 발행하고 아웃박스에서 지운다")
+    void 가입_삭제_발행() {
+        // given
+        User user = userService.create("outbox@naga.io", "Password123!");
+        userService.delete(user.getId());
+
+        // when
+        int relayed = outboxRelay.relay();
+
+        // then
+        assertThat(relayed).isEqualTo(2);
+        assertThat(listener.messages)
+            .extracting(OutboxMessage::eventType)
+            .containsExactly(UserCreatedEvent.TYPE, UserDeletedEvent.TYPE);
+        assertThat(listener.messages)
+            .allSatisfy(message -> {
+                assertThat(message.aggregateType()).isEqualTo(UserCreatedEvent.AGGREGATE_TYPE);
+                assertThat(message.aggregateId()).isEqualTo(user.getId());
+            });
+        assertThat(listener.messages.getFirst().payload()).contains("\"email\":\"outbox@naga.io\"");
+        assertThat(pendingCount()).isZero();
+        assertThat(meterRegistry.get("naga.outbox.lag").timer().count()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 잠근 알림은 기다리지 않고 건너뛴다")
+    void 잠긴_알림_건너뜀() throws Exception {
+        // given
+        userService.create("outbox-locked@naga.io", "Password123!");
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("select id from " + OutboxEvent.TABLE + " for update", Map.of(), Long.class);
+            locked.countDown();
+            await(release);
+        }));
+        await(locked);
+
+        // when
+        int whileLocked = outboxRelay.relay();
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        int afterRelease = outboxRelay.relay();
+
+        // then
+        assertThat(whileLocked).isZero();
+        assertThat(afterRelease).isEqualTo(1);
+        assertThat(listener.messages).extracting(OutboxMessage::eventType).containsExactly(UserCreatedEvent.TYPE);
+    }
+
+    @Test
+    @DisplayName("발행에 실패하면 알림을 남겨 다음 실행에서 다시 발행한다")
+    void 발행_실패_재시도() {
+        // given
+        userService.create("outbox-retry@naga.io", "Password123!");
+        listener.failing.set(true);
+
+        // when
+        int failed = outboxRelay.relay();
+        listener.failing.set(false);
+        int retried = outboxRelay.relay();
+
+        // then
+        assertThat(failed).isZero();
+        assertThat(retried).isEqualTo(1);
+        assertThat(meterRegistry.get("naga.outbox.failures").counter().count()).isGreaterThanOrEqualTo(1);
+        assertThat(pendingCount()).isZero();
+    }
+
+    private int pendingCount() {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from " + OutboxEvent.TABLE, Map.of(), Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("대기 시간 초과");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        CapturingListener capturingListener() {
+            return new CapturingListener();
+        }
+    }
+
+    static class CapturingListener {
+
+        private final List<OutboxMessage> messages = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean failing = new AtomicBoolean();
+
+        @EventListener
+        void on(OutboxMessage message) {
+            if (failing.get()) {
+                throw new IllegalStateException("싱크 장애");
+            }
+            messages.add(message);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.soundbar91.naga.common.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("KeyedRateLimiter 테스트")
+class KeyedRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("용량만큼 허용한 뒤 거절하고, 다음 토큰까지 남은 시간을 알려준다")
+    void 용량_소진() {
+        // given
+        KeyedRateLimiter limiter = new KeyedRateLimiter(3, 1, 100, now::get);
+
+        // when
+        List<Long> waits = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            waits.add(limiter.tryAcquire("10.0.0.1"));
+        }
+        now.addAndGet(Duration.ofMillis(400).toNanos());
+        long stillWaiting = limiter.tryAcquire("10.0.0.1");
+        now.addAndGet(Duration.ofMillis(600).toNanos());
+        long refilled = limiter.tryAcquire("10.0.0.1");
+
+        // then
+        assertThat(waits.subList(0, 3)).containsOnly(0L);
+        assertThat(waits.get(3)).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(stillWaiting).isEqualTo(Duration.ofMillis(600).toNanos());
+        assertThat(refilled).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.2")).isZero();
+    }
+
+    @Test
+    @DisplayName("되돌린 토큰은 다시 꺼낼 수 있다")
+    void 토큰_되돌리기() {
+        // given
+        KeyedRateLimiter limiter = new KeyedRateLimiter(1, 1, 100, now::get);
+        limiter.tryAcquire("10.0.0.1");
+
+        // when
+        limiter.refund("10.0.0.1");
+
+        // then
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷만 지우고, 키 수가 넘치면 새 키들은 버킷 하나를 함께 쓴다")
+    void 정리와_키수_제한() {
+        // given
+        KeyedRateLimiter limiter = new KeyedRateLimiter(1, 1, 2, now::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // when
+        long firstOverflow = limiter.tryAcquire("c");
+        long secondOverflow = limiter.tryAcquire("d");
+        int evictedWhileBusy = limiter.evictIdle();
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        int evictedWhenIdle = limiter.evictIdle();
+
+        // then
+        assertThat(firstOverflow).isZero();
+        assertThat(secondOverflow).isPositive();
+        assertThat(evictedWhileBusy).isZero();
+        assertThat(evictedWhenIdle).isEqualTo(2);
+        assertThat(limiter.size()).isZero();
+        assertThat(limiter.tryAcquire("c")).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 키로 요청해도 용량보다 많이 허용하지 않는다")
+    void 동시_요청() throws Exception {
+        // given
+        KeyedRateLimiter limiter = new KeyedRateLimiter(1_000, 1, 10, now::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            results.add(executor.submit(() -> {
+                int allowed = 0;
+                for (int i = 0; i < 1_000; i++) {
+                    if (limiter.tryAcquire("hot") == 0) {
+                        allowed++;
+                    }
+                }
+                return allowed;
+            }));
+        }
+        int allowed = 0;
+        for (Future<Integer> result : results) {
+            allowed += result.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(allowed).isEqualTo(1_000);
+    }
+}
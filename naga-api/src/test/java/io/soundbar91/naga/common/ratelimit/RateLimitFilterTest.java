@@ -0,0 +1,93 @@
+package io.soundbar91.naga.common.ratelimit;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import io.soundbar91.naga.common.idempotency.IdempotencyFilter;
+
+@SpringBootTest(properties = {
+    "naga.rate-limit.client.capacity=2",
+    "naga.rate-limit.client.refill-per-second=0.01"
+})
+@AutoConfigureMockMvc
+@WithMockUser
+@DisplayName("RateLimitFilter 테스트")
+class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("클라이언트 버킷이 비면 가입 요청을 429와 Retry-After로 거절한다")
+    void 가입_빈도제한() throws Exception {
+        // given
+        mockMvc.perform(signup("limit1@naga.io", "10.1.0.1")).andExpect(status().isCreated());
+        mockMvc.perform(signup("limit2@naga.io", "10.1.0.1")).andExpect(status().isCreated());
+
+        // when & then
+        mockMvc.perform(signup("limit3@naga.io", "10.1.0.1"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "100"))
+            .andExpect(jsonPath("$.result").value("ERROR"))
+            .andExpect(jsonPath("$.error.code").value("RATE_LIMIT_EXCEEDED"));
+        mockMvc.perform(signup("limit4@naga.io", "10.1.0.2")).andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("저장된 응답을 재사용한 멱등 재시도는 클라이언트 한도를 쓰지 않는다")
+    void 멱등재시도_미차감() throws Exception {
+        // given
+        mockMvc.perform(signup("replay1@naga.io", "10.1.0.4").header(IdempotencyFilter.HEADER, "replay-key"))
+            .andExpect(status().isCreated());
+
+        // when
+        mockMvc.perform(signup("replay1@naga.io", "10.1.0.4").header(IdempotencyFilter.HEADER, "replay-key"))
+            .andExpect(status().isCreated())
+            .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+
+        // then
+        mockMvc.perform(signup("replay2@naga.io", "10.1.0.4")).andExpect(status().isCreated());
+        mockMvc.perform(signup("replay3@naga.io", "10.1.0.4")).andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    @DisplayName("제한 대상이 아닌 요청은 통과시킨다")
+    void 제한대상_아님() throws Exception {
+        // when & then
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/users/{id}", Long.MAX_VALUE).with(remote("10.1.0.3")))
+                .andExpect(status().isNotFound());
+        }
+    }
+
+    private static MockHttpServletRequestBuilder signup(String email, String remoteAddr) {
+        return post("/api/users")
+            .with(csrf())
+            .with(remote(remoteAddr))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"email\":\"" + email + "\",\"password\":\"Password123!\"}");
+    }
+
+    private static RequestPostProcessor remote(String remoteAddr) {
+        return request -> {
+            request.setRemoteAddr(remoteAddr);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package io.soundbar91.naga.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.config.PasswordHashingProperties;
+
+@DisplayName("PasswordHasher 테스트")
+class PasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("해싱 성공")
+    void 해싱_성공() {
+        // given
+        passwordHasher = new PasswordHasher(new BlockingEncoder(null), properties(Duration.ofSeconds(1)), false);
+
+        // when
+        String hashed = passwordHasher.hash("Password123!");
+
+        // then
+        assertThat(hashed).isEqualTo("hashed:Password123!");
+    }
+
+    @Test
+    @DisplayName("해싱 실패 - 대기열이 가득 차면 즉시 거절")
+    void 해싱_실패_대기열포화() throws Exception {
+        // given
+        passwordHasher = new PasswordHasher(new BlockingEncoder(release), properties(Duration.ofSeconds(5)), false);
+        CompletableFuture.runAsync(() -> passwordHasher.hash("running"));
+        CompletableFuture.runAsync(() -> passwordHasher.hash("queued"));
+        TimeUnit.MILLISECONDS.sleep(200);
+
+        // when & then
+        assertThatThrownBy(() -> passwordHasher.hash("rejected"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PASSWORD_HASHING_BUSY);
+    }
+
+    @Test
+    @DisplayName("해싱 실패 - 제한 시간 초과")
+    void 해싱_실패_시간초과() {
+        // given
+        passwordHasher = new PasswordHasher(new BlockingEncoder(release), properties(Duration.ofMillis(100)), false);
+
+        // when & then
+        assertThatThrownBy(() -> passwordHasher.hash("Password123!"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PASSWORD_HASHING_BUSY);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드 - 동시 해싱 수와 대기자 수를 넘으면 거절")
+    void 가상스레드_대기자초과() throws Exception {
+        // given
+        passwordHasher = new PasswordHasher(new BlockingEncoder(release), properties(Duration.ofSeconds(5)), true);
+        Thread.ofVirtual().start(() -> passwordHasher.hash("running"));
+        Thread.ofVirtual().start(() -> passwordHasher.hash("waiting"));
+        TimeUnit.MILLISECONDS.sleep(200);
+
+        // when & then
+        assertThatThrownBy(() -> passwordHasher.hash("rejected"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PASSWORD_HASHING_BUSY);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드 - 일괄 해싱")
+    void 가상스레드_일괄해싱() {
+        // given
+        passwordHasher = new PasswordHasher(new BlockingEncoder(null), properties(Duration.ofSeconds(1)), true);
+
+        // when
+        List<String> hashed = passwordHasher.hashAll(List.of("a", "b", "c"));
+
+        // then
+        assertThat(hashed).containsExactly("hashed:a", "hashed:b", "hashed:c");
+    }
+
+    private static PasswordHashingProperties properties(Duration timeout) {
+        return new PasswordHashingProperties(4, 1, 1, timeout, 1);
+    }
+
+    private record BlockingEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.soundbar91.naga.common.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함으로 판정")
+    void 거짓음성_없음() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01, Long.MAX_VALUE);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@example.com"));
+
+        // when & then
+        assertThat(IntStream.range(0, 10_000))
+            .allMatch(i -> filter.mightContain("user" + i + "@example.com"));
+    }
+
+    @Test
+    @DisplayName("거짓 양성 비율이 목표치 근처")
+    void 거짓양성_비율() {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01, Long.MAX_VALUE);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@example.com"));
+
+        // when
+        long falsePositives = IntStream.range(0, 100_000)
+            .filter(i -> filter.mightContain("other" + i + "@example.com"))
+            .count();
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("메모리 상한을 넘지 않음")
+    void 메모리_상한() {
+        // when
+        BloomFilter filter = BloomFilter.create(1_000_000, 0.0001, 8 * 1024);
+
+        // then
+        assertThat(filter.bitSize()).isLessThanOrEqualTo(8 * 1024);
+        assertThat(filter.hashFunctions()).isGreaterThanOrEqualTo(1);
+    }
+}
@@ -0,0 +1,173 @@
+package io.soundbar91.naga.common.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ExpiringCache 테스트")
+class ExpiringCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 다시 적재한다")
+    void TTL_만료() {
+        // given
+        ExpiringCache<Long, String> cache = cache(100, Duration.ofSeconds(10));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get(1L, key -> Optional.of("v" + loads.incrementAndGet()));
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        Optional<String> beforeExpiry = cache.get(1L, key -> Optional.of("v" + loads.incrementAndGet()));
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        Optional<String> afterExpiry = cache.get(1L, key -> Optional.of("v" + loads.incrementAndGet()));
+
+        // then
+        assertThat(beforeExpiry).contains("v1");
+        assertThat(afterExpiry).contains("v2");
+        assertThat(count("naga.cache.gets", "result", "hit")).isEqualTo(1);
+        assertThat(count("naga.cache.gets", "result", "miss")).isEqualTo(2);
+        assertThat(count("naga.cache.evictions", "cause", "expired")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 항목을 지우고 크기를 유지한다")
+    void 크기_제한() {
+        // given
+        ExpiringCache<Long, String> cache = cache(32, Duration.ofMinutes(1));
+
+        // when
+        for (long key = 0; key < 1_000; key++) {
+            cache.get(key, k -> Optional.of(String.valueOf(k)));
+        }
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(32);
+        assertThat(count("naga.cache.evictions", "cause", "size")).isEqualTo(1_000 - cache.size());
+    }
+
+    @Test
+    @DisplayName("빈 적재 결과는 캐시하지 않는다")
+    void 빈결과_미캐시() {
+        // given
+        ExpiringCache<Long, String> cache = cache(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get(1L, key -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<String> second = cache.get(1L, key -> Optional.of("v" + loads.incrementAndGet()));
+
+        // then
+        assertThat(second).contains("v2");
+    }
+
+    @Test
+    @DisplayName("없는 키를 동시에 읽어도 적재는 한 번만 한다")
+    void 동시_적재_한번() throws Exception {
+        // given
+        ExpiringCache<Long, String> cache = cache(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch started = new CountDownLatch(threads);
+
+        // when
+        List<Future<Optional<String>>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                started.countDown();
+                return cache.get(1L, key -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return Optional.of("value");
+                });
+            }));
+        }
+        started.await();
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<Optional<String>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).contains("value");
+        }
+        assertThat(loads).hasValue(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("적재 중에 무효화된 키는 적재 결과를 캐시하지 않는다")
+    void 적재중_무효화() {
+        // given
+        ExpiringCache<Long, String> cache = cache(100, Duration.ofMinutes(1));
+
+        // when
+        Optional<String> stale = cache.get(1L, key -> {
+            cache.invalidate(1L);
+            return Optional.of("stale");
+        });
+        Optional<String> fresh = cache.get(1L, key -> Optional.of("fresh"));
+
+        // then
+        assertThat(stale).contains("stale");
+        assertThat(fresh).contains("fresh");
+    }
+
+    @Test
+    @DisplayName("직접 넣은 값은 적재 없이 조회되고 TTL이 지나면 사라진다")
+    void 직접_저장() {
+        // given
+        ExpiringCache<Long, String> cache = cache(100, Duration.ofSeconds(10));
+
+        // when
+        Optional<String> beforePut = cache.getIfPresent(1L);
+        cache.put(1L, "v1");
+        Optional<String> afterPut = cache.getIfPresent(1L);
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        Optional<String> afterExpiry = cache.getIfPresent(1L);
+
+        // then
+        assertThat(beforePut).isEmpty();
+        assertThat(afterPut).contains("v1");
+        assertThat(afterExpiry).isEmpty();
+        assertThat(count("naga.cache.evictions", "cause", "expired")).isEqualTo(1);
+    }
+
+    private ExpiringCache<Long, String> cache(int maxSize, Duration ttl) {
+        return new ExpiringCache<>("test", maxSize, ttl, meterRegistry, now::get);
+    }
+
+    private double count(String name, String tag, String value) {
+        return meterRegistry.get(name).tag("cache", "test").tag(tag, value).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
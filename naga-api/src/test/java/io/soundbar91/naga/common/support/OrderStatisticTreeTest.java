@@ -0,0 +1,67 @@
+package io.soundbar91.naga.common.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OrderStatisticTree 테스트")
+class OrderStatisticTreeTest {
+
+    @Test
+    @DisplayName("무작위 추가와 삭제 후에도 순위, k번째 원소, 구간 조회가 정렬된 목록과 같다")
+    void 정렬목록과_동일() {
+        // given
+        Random random = new Random(42);
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        List<Integer> expected = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(1_000);
+            int position = Collections.binarySearch(expected, value);
+            if (random.nextInt(3) == 0) {
+                assertThat(tree.remove(value)).isEqualTo(position >= 0);
+                if (position >= 0) {
+                    expected.remove(position);
+                }
+            } else {
+                assertThat(tree.add(value)).isEqualTo(position < 0);
+                if (position < 0) {
+                    expected.add(-position - 1, value);
+                }
+            }
+        }
+
+        // then
+        assertThat(tree.size()).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(tree.get(i)).isEqualTo(expected.get(i));
+            assertThat(tree.rank(expected.get(i))).isEqualTo(i);
+        }
+        assertThat(tree.range(0, expected.size())).isEqualTo(expected);
+        assertThat(tree.range(17, 25)).isEqualTo(expected.subList(17, 42));
+        assertThat(tree.range(expected.size() - 3, 10)).isEqualTo(expected.subList(expected.size() - 3, expected.size()));
+        assertThat(tree.range(expected.size(), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트리에 없는 값의 순위는 그보다 작은 원소 수")
+    void 없는값_순위() {
+        // given
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        List.of(10, 20, 30).forEach(tree::add);
+
+        // when & then
+        assertThat(tree.rank(5)).isZero();
+        assertThat(tree.rank(25)).isEqualTo(2);
+        assertThat(tree.rank(35)).isEqualTo(3);
+        assertThat(tree.contains(25)).isFalse();
+    }
+}
@@ -0,0 +1,187 @@
+package io.soundbar91.naga.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.soundbar91.naga.submission.judge.JudgeQueue;
+import io.soundbar91.naga.user.entity.User;
+import io.soundbar91.naga.user.repository.UserRepository;
+
+/**
+ * 원본과 복제본을 서로 다른 인메모리 H2로 둔다. 복제본에는 원본의 스키마만 복사하므로 쓰기가 잘못 라우팅되면
+ * 행이 복제본에 생긴다. 커넥션마다 세션 변수로 어느 풀인지 남긴다.
+ * 풀의 사용 중 커넥션 수를 재므로, 풀을 쓰는 예약 작업은 테스트 중에 돌지 않게 미룬다.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+    "spring.datasource.hikari.connection-init-sql=SET @POOL = 'primary'",
+    "naga.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+    "naga.datasource.replica.username=sa",
+    "naga.datasource.replica.hikari.connection-init-sql=SET @POOL = 'replica'",
+    "naga.outbox.interval=1h",
+    "naga.statistics.flush-interval=1h"
+})
+@AutoConfigureMockMvc
+@WithMockUser
+@DisplayName("DataSourceRoutingConfiguration 테스트")
+class DataSourceRoutingConfigurationTest {
+
+    @TempDir
+    static Path testCaseRoot;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private JudgeQueue judgeQueue;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @DynamicPropertySource
+    static void judgeProperties(DynamicPropertyRegistry registry) {
+        registry.add("naga.judge.test-case-root", () -> testCaseRoot.toString());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 원본 커넥션을 쓴다")
+    void 읽기쓰기_라우팅() {
+        // given
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        // when
+        String readOnlyPool = readOnly.execute(status -> {
+            userRepository.findByEmail("nobody@naga.io");
+            return pool();
+        });
+        String readWritePool = readWrite.execute(status -> {
+            userRepository.save(User.create("routing@naga.io", "encoded"));
+            return pool();
+        });
+
+        // then
+        assertThat(readOnlyPool).isEqualTo("replica");
+        assertThat(readWritePool).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("한 요청에서 읽기 전용 조회 뒤에 이어지는 쓰기는 원본에 저장된다")
+    void 요청내_읽기후_쓰기() throws Exception {
+        // given
+        User user = userRepository.save(User.create("read-then-write@naga.io", "encoded"));
+        replicate("users", user.getId());
+        Files.createDirectories(testCaseRoot.resolve("1"));
+
+        // when
+        mockMvc.perform(post("/api/submissions")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\":" + user.getId() + ",\"problemId\":1,\"language\":\"PYTHON3\","
+                    + "\"sourceCode\":\"print(1)\"}"))
+            .andExpect(status().isAccepted());
+
+        // then
+        assertThat(countSubmissions(primaryDataSource, user.getId())).isEqualTo(1);
+        assertThat(countSubmissions(replicaDataSource, user.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션을 시작해도 첫 SQL 전에는 물리 커넥션을 잡지 않는다")
+    void 지연_커넥션_획득() throws Exception {
+        // given
+        HikariDataSource primaryPool = primaryDataSource.unwrap(HikariDataSource.class);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        // when
+        int activeBeforeStatement = readWrite.execute(status -> primaryPool.getHikariPoolMXBean().getActiveConnections());
+
+        // then
+        assertThat(activeBeforeStatement).isZero();
+    }
+
+    /**
+     * 기동 시 복제본을 읽는 {@code ApplicationReadyEvent} 리스너보다 먼저 원본의 스키마를 복제본에 복사한다.
+     */
+    @TestConfiguration
+    static class ReplicaSchemaConfiguration {
+
+        @EventListener(ContextRefreshedEvent.class)
+        void copySchema(ContextRefreshedEvent event) {
+            DataSource primary = event.getApplicationContext().getBean("primaryDataSource", DataSource.class);
+            JdbcTemplate replica = new JdbcTemplate(event.getApplicationContext().getBean("replicaDataSource", DataSource.class));
+            new JdbcTemplate(primary).queryForList("SCRIPT NODATA", String.class).stream()
+                .filter(statement -> !statement.startsWith("CREATE USER"))
+                .forEach(replica::execute);
+        }
+    }
+
+    private String pool() {
+        return jdbcTemplate.queryForObject("select @POOL", String.class);
+    }
+
+    /**
+     * 원본의 행을 복제본에 그대로 넣어 복제가 끝난 상태를 만든다. 생성 컬럼은 복제본이 계산한다.
+     */
+    private void replicate(String table, Long id) {
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        Map<String, Object> row = primary.queryForMap("select * from " + table + " where id = ?", id);
+        row.keySet().removeAll(primary.queryForList(
+            "select column_name from information_schema.columns where table_name = ? and is_generated = 'ALWAYS'",
+            String.class, table.toUpperCase()));
+        new SimpleJdbcInsert(replicaDataSource).withTableName(table)
+            .usingColumns(row.keySet().toArray(String[]::new))
+            .execute(row);
+    }
+
+    private static Integer countSubmissions(DataSource dataSource, Long userId) {
+        return new JdbcTemplate(dataSource).queryForObject("select count(*) from submissions where user_id = ?",
+            Integer.class, userId);
+    }
+}
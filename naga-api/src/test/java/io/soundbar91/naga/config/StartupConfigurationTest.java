@@ -0,0 +1,57 @@
+package io.soundbar91.naga.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springdoc.webmvc.api.OpenApiWebMvcResource;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.soundbar91.naga.user.service.UserService;
+
+@SpringBootTest
+@ActiveProfiles("lazy-init")
+@AutoConfigureMockMvc
+@DirtiesContext
+@WithMockUser
+@DisplayName("지연 초기화 모드 테스트")
+class StartupConfigurationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    @DisplayName("API 문서 빈은 첫 요청 때 만들고 나머지 빈은 기동 시점에 만든다")
+    void 비핵심_빈만_지연() throws Exception {
+        // given
+        String apiDocsBean = beanNameFor(OpenApiWebMvcResource.class);
+        assertThat(beanFactory.containsSingleton(apiDocsBean)).isFalse();
+        assertThat(beanFactory.containsSingleton(beanNameFor(UserService.class))).isTrue();
+
+        // when
+        mockMvc.perform(get("/v3/api-docs")).andExpect(status().isOk());
+
+        // then
+        assertThat(beanFactory.containsSingleton(apiDocsBean)).isTrue();
+    }
+
+    private String beanNameFor(Class<?> type) {
+        String[] names = beanFactory.getBeanNamesForType(type, true, false);
+        assertThat(names).as(Arrays.toString(names)).hasSize(1);
+        return names[0];
+    }
+}
@@ -0,0 +1,99 @@
+package io.soundbar91.naga.contest.scoreboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.event.SubmissionJudgedEvent;
+
+@DisplayName("ContestScoreboard 테스트")
+class ContestScoreboardTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    private final ContestScoreboard scoreboard = new ContestScoreboard(START);
+
+    @Test
+    @DisplayName("푼 문제 수 내림차순, 페널티 오름차순으로 정렬하고 같은 점수는 같은 순위")
+    void 순위_정렬() {
+        // given
+        scoreboard.apply(verdict(1, 100L, 1L, SubmissionStatus.ACCEPTED, 30));
+        scoreboard.apply(verdict(2, 200L, 1L, SubmissionStatus.ACCEPTED, 10));
+        scoreboard.apply(verdict(3, 200L, 2L, SubmissionStatus.ACCEPTED, 20));
+        scoreboard.apply(verdict(4, 300L, 1L, SubmissionStatus.ACCEPTED, 30));
+        scoreboard.apply(verdict(5, 400L, 1L, SubmissionStatus.WRONG_ANSWER, 5));
+
+        // when
+        List<RankedStanding> standings = scoreboard.page(0, 10);
+
+        // then
+        assertThat(standings).extracting(RankedStanding::rank).containsExactly(1, 2, 2, 4);
+        assertThat(standings).extracting(ranked -> ranked.standing().userId()).containsExactly(200L, 100L, 300L, 400L);
+        assertThat(standings.get(0).standing()).isEqualTo(new Standing(200L, 2, 30));
+        assertThat(scoreboard.find(300L)).get().extracting(RankedStanding::rank).isEqualTo(2);
+        assertThat(scoreboard.find(999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("맞히기 전 오답만 20분씩 페널티로 더하고 컴파일 에러는 제외")
+    void 오답_페널티() {
+        // given
+        scoreboard.apply(verdict(1, 100L, 1L, SubmissionStatus.WRONG_ANSWER, 5));
+        scoreboard.apply(verdict(2, 100L, 1L, SubmissionStatus.COMPILE_ERROR, 6));
+        scoreboard.apply(verdict(3, 100L, 1L, SubmissionStatus.TIME_LIMIT_EXCEEDED, 7));
+        scoreboard.apply(verdict(4, 100L, 1L, SubmissionStatus.ACCEPTED, 45));
+        scoreboard.apply(verdict(5, 100L, 1L, SubmissionStatus.WRONG_ANSWER, 50));
+        scoreboard.apply(verdict(6, 100L, 1L, SubmissionStatus.ACCEPTED, 60));
+
+        // when & then
+        assertThat(scoreboard.find(100L)).get()
+            .extracting(RankedStanding::standing)
+            .isEqualTo(new Standing(100L, 1, 45 + 2 * ContestScoreboard.PENALTY_MINUTES_PER_REJECTION));
+    }
+
+    @Test
+    @DisplayName("판정이 제출 순서와 다르게 도착하거나 중복돼도 결과가 같다")
+    void 순서무관_멱등() {
+        // given
+        scoreboard.apply(verdict(6, 100L, 1L, SubmissionStatus.ACCEPTED, 60));
+        scoreboard.apply(verdict(4, 100L, 1L, SubmissionStatus.ACCEPTED, 45));
+        scoreboard.apply(verdict(5, 100L, 1L, SubmissionStatus.WRONG_ANSWER, 50));
+        scoreboard.apply(verdict(3, 100L, 1L, SubmissionStatus.TIME_LIMIT_EXCEEDED, 7));
+        scoreboard.apply(verdict(1, 100L, 1L, SubmissionStatus.WRONG_ANSWER, 5));
+        scoreboard.apply(verdict(1, 100L, 1L, SubmissionStatus.WRONG_ANSWER, 5));
+        scoreboard.apply(verdict(4, 100L, 1L, SubmissionStatus.ACCEPTED, 45));
+
+        // when & then
+        assertThat(scoreboard.find(100L)).get()
+            .extracting(RankedStanding::standing)
+            .isEqualTo(new Standing(100L, 1, 45 + 2 * ContestScoreboard.PENALTY_MINUTES_PER_REJECTION));
+        assertThat(scoreboard.participantCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("페이지 경계에서도 같은 점수는 첫 참가자의 순위를 이어받는다")
+    void 페이지_경계_동점() {
+        // given
+        for (long userId = 1; userId <= 5; userId++) {
+            scoreboard.apply(verdict(userId, userId, 1L, SubmissionStatus.ACCEPTED, 10));
+        }
+        scoreboard.apply(verdict(6, 6L, 1L, SubmissionStatus.WRONG_ANSWER, 10));
+
+        // when
+        List<RankedStanding> second = scoreboard.page(1, 3);
+
+        // then
+        assertThat(second).extracting(RankedStanding::rank).containsExactly(1, 1, 6);
+        assertThat(scoreboard.page(2, 3)).isEmpty();
+    }
+
+    private static SubmissionJudgedEvent verdict(long submissionId, Long userId, Long problemId,
+        SubmissionStatus status, int minutes) {
+        return new SubmissionJudgedEvent(submissionId, 1L, userId, problemId, status, START.plusMinutes(minutes));
+    }
+}
@@ -0,0 +1,68 @@
+package io.soundbar91.naga.contest.scoreboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.soundbar91.naga.contest.entity.Contest;
+import io.soundbar91.naga.contest.repository.ContestRepository;
+import io.soundbar91.naga.submission.entity.Language;
+import io.soundbar91.naga.submission.entity.Submission;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.entity.VerdictMode;
+import io.soundbar91.naga.submission.repository.SubmissionRepository;
+
+@SpringBootTest
+@DisplayName("ContestScoreboards 테스트")
+class ContestScoreboardsTest {
+
+    @Autowired
+    private ContestScoreboards contestScoreboards;
+
+    @Autowired
+    private ContestRepository contestRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("DB에 저장된 대회 판정으로 순위표를 재구축한다")
+    void 재구축() {
+        // given
+        LocalDateTime start = LocalDateTime.now().minusHours(1);
+        Contest contest = contestRepository.save(Contest.create("재구축", start, start.plusHours(3)));
+        submit(contest.getId(), 100L, SubmissionStatus.WRONG_ANSWER, start.plusMinutes(5));
+        submit(contest.getId(), 100L, SubmissionStatus.ACCEPTED, start.plusMinutes(30));
+        submit(contest.getId(), 200L, SubmissionStatus.ACCEPTED, start.plusMinutes(40));
+        submit(contest.getId(), 300L, SubmissionStatus.PENDING, start.plusMinutes(1));
+        submit(null, 400L, SubmissionStatus.ACCEPTED, start.plusMinutes(1));
+
+        // when
+        contestScoreboards.rebuild();
+
+        // then
+        ContestScoreboard scoreboard = contestScoreboards.find(contest.getId()).orElseThrow();
+        assertThat(scoreboard.page(0, 10)).extracting(RankedStanding::standing).containsExactly(
+            new Standing(200L, 1, 40),
+            new Standing(100L, 1, 30 + ContestScoreboard.PENALTY_MINUTES_PER_REJECTION));
+    }
+
+    private void submit(Long contestId, Long userId, SubmissionStatus status, LocalDateTime submittedAt) {
+        Submission submission = Submission.create(userId, 1L, contestId, Language.PYTHON3, "print(1)",
+            VerdictMode.FIRST_FAILURE);
+        if (status.isFinal()) {
+            submission.complete(status, 0, 1, 0, 0, null);
+        }
+        Long id = submissionRepository.save(submission).getId();
+        jdbcTemplate.update("update submissions set created_at = ? where id = ?", submittedAt, id);
+    }
+}
@@ -0,0 +1,75 @@
+package io.soundbar91.naga.statistics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+
+import io.soundbar91.naga.statistics.entity.ProblemStatistic;
+import io.soundbar91.naga.statistics.repository.ProblemStatisticRepository;
+import io.soundbar91.naga.statistics.repository.UserStatisticRepository;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.event.SubmissionJudgedEvent;
+
+@SpringBootTest(properties = {
+    "naga.statistics.flush-interval=1h",
+    "naga.statistics.batch-size=2"
+})
+@DisplayName("VerdictCounters 테스트")
+class VerdictCountersTest {
+
+    @Autowired
+    private VerdictCounters verdictCounters;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ProblemStatisticRepository problemStatisticRepository;
+
+    @Autowired
+    private UserStatisticRepository userStatisticRepository;
+
+    @Test
+    @DisplayName("판정을 모아 배치로 반영하고, 반영 전 값은 조회 시 더하며 해결 수는 처음 맞힌 경우만 센다")
+    void 쓰기지연_반영() {
+        // given
+        judged(1L, 9001L, 901L, SubmissionStatus.WRONG_ANSWER);
+        judged(2L, 9001L, 901L, SubmissionStatus.ACCEPTED);
+        judged(3L, 9002L, 901L, SubmissionStatus.ACCEPTED);
+        judged(4L, 9003L, 902L, SubmissionStatus.SYSTEM_ERROR);
+        judged(5L, 9003L, 903L, SubmissionStatus.TIME_LIMIT_EXCEEDED);
+        assertThat(verdictCounters.pendingForProblem(901L)).isEqualTo(new VerdictCounters.Pending(3, 2, 2));
+
+        // when
+        verdictCounters.flush();
+        judged(6L, 9001L, 901L, SubmissionStatus.ACCEPTED);
+        VerdictCounters.Pending resolved = verdictCounters.pendingForProblem(901L);
+        verdictCounters.flush();
+
+        // then
+        ProblemStatistic problem = problemStatisticRepository.findById(901L).orElseThrow();
+        assertThat(problem.getSubmissionCount()).isEqualTo(4);
+        assertThat(problem.getAcceptedCount()).isEqualTo(3);
+        assertThat(problem.getSolvedCount()).isEqualTo(2);
+        assertThat(resolved).isEqualTo(new VerdictCounters.Pending(1, 1, 0));
+        assertThat(problemStatisticRepository.findById(902L)).isEmpty();
+        assertThat(problemStatisticRepository.findById(903L)).get()
+            .extracting(ProblemStatistic::getSubmissionCount).isEqualTo(1L);
+        assertThat(userStatisticRepository.findById(9001L)).get()
+            .extracting(statistic -> statistic.getAcceptedCount()).isEqualTo(2L);
+        assertThat(userStatisticRepository.findById(9001L)).get()
+            .extracting(statistic -> statistic.getSolvedCount()).isEqualTo(1L);
+        assertThat(verdictCounters.pendingForProblem(901L)).isEqualTo(new VerdictCounters.Pending(0, 0, 0));
+    }
+
+    private void judged(Long submissionId, Long userId, Long problemId, SubmissionStatus status) {
+        eventPublisher.publishEvent(
+            new SubmissionJudgedEvent(submissionId, null, userId, problemId, status, LocalDateTime.now()));
+    }
+}
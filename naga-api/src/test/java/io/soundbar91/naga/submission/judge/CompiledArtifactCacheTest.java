@@ -0,0 +1,188 @@
+package io.soundbar91.naga.submission.judge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.soundbar91.naga.config.ArtifactCacheProperties;
+import io.soundbar91.naga.submission.entity.Language;
+
+@DisplayName("CompiledArtifactCache 테스트")
+class CompiledArtifactCacheTest {
+
+    @TempDir
+    private Path root;
+
+    private final SourceCompiler compiler = mock(SourceCompiler.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(compiler.compile(any(), anyString(), any())).thenAnswer(invocation -> {
+            String source = invocation.getArgument(1);
+            Path directory = invocation.getArgument(2);
+            if (source.startsWith("error")) {
+                return SourceCompiler.Result.failed("compile error: " + source);
+            }
+            Files.writeString(directory.resolve("main"), "binary:" + source);
+            Files.writeString(directory.resolve(SourceCompiler.COMPILE_LOG), "");
+            return SourceCompiler.Result.compiled();
+        });
+    }
+
+    @Test
+    @DisplayName("같은 소스는 한 번만 컴파일하고 이후에는 캐시에서 복사")
+    void 캐시_적중() throws IOException {
+        // given
+        CompiledArtifactCache cache = cache(DataSize.ofMegabytes(1));
+        Path first = Files.createDirectory(root.resolve("first"));
+        Path second = Files.createDirectory(root.resolve("second"));
+
+        // when
+        SourceCompiler.Result miss = cache.compile(Language.CPP17, "source", first);
+        SourceCompiler.Result hit = cache.compile(Language.CPP17, "source", second);
+
+        // then
+        assertThat(miss.success()).isTrue();
+        assertThat(hit.success()).isTrue();
+        assertThat(second.resolve("main")).hasContent("binary:source");
+        assertThat(second.resolve(SourceCompiler.COMPILE_LOG)).doesNotExist();
+        verify(compiler, times(1)).compile(any(), anyString(), any());
+        assertThat(lookups("hit")).isEqualTo(1);
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("언어가 다르면 다른 키")
+    void 캐시_언어별_키() throws IOException {
+        // given
+        CompiledArtifactCache cache = cache(DataSize.ofMegabytes(1));
+
+        // when
+        cache.compile(Language.CPP17, "source", Files.createDirectory(root.resolve("cpp")));
+        cache.compile(Language.JAVA17, "source", Files.createDirectory(root.resolve("java")));
+
+        // then
+        verify(compiler, times(2)).compile(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("컴파일 에러도 메시지와 함께 캐시")
+    void 캐시_컴파일에러() throws IOException {
+        // given
+        CompiledArtifactCache cache = cache(DataSize.ofMegabytes(1));
+
+        // when
+        cache.compile(Language.CPP17, "error!", Files.createDirectory(root.resolve("first")));
+        SourceCompiler.Result hit = cache.compile(Language.CPP17, "error!", Files.createDirectory(root.resolve("second")));
+
+        // then
+        assertThat(hit.success()).isFalse();
+        assertThat(hit.message()).isEqualTo("compile error: error!");
+        verify(compiler, times(1)).compile(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("동시에 같은 키를 요청하면 한 작업자만 컴파일")
+    void 캐시_단일컴파일() throws Exception {
+        // given
+        CountDownLatch compiling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            compiling.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            Files.writeString(invocation.<Path>getArgument(2).resolve("main"), "binary");
+            return SourceCompiler.Result.compiled();
+        }).when(compiler).compile(any(), anyString(), any());
+        CompiledArtifactCache cache = cache(DataSize.ofMegabytes(1));
+        Path first = Files.createDirectory(root.resolve("first"));
+        Path second = Files.createDirectory(root.resolve("second"));
+
+        // when
+        CompletableFuture<SourceCompiler.Result> leader = CompletableFuture.supplyAsync(() -> compile(cache, first));
+        compiling.await(5, TimeUnit.SECONDS);
+        CompletableFuture<SourceCompiler.Result> follower = CompletableFuture.supplyAsync(() -> compile(cache, second));
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS).success()).isTrue();
+        assertThat(follower.get(5, TimeUnit.SECONDS).success()).isTrue();
+        assertThat(second.resolve("main")).hasContent("binary");
+        verify(compiler, times(1)).compile(any(), anyString(), any());
+        assertThat(meterRegistry.get("naga.judge.artifact.cache.coalesced").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("크기 상한을 넘으면 가장 오래 쓰이지 않은 항목부터 삭제")
+    void 캐시_LRU_삭제() throws IOException {
+        // given
+        CompiledArtifactCache cache = cache(DataSize.ofBytes(40));
+        cache.compile(Language.CPP17, "aaaaaaaa", Files.createDirectory(root.resolve("a1")));
+        cache.compile(Language.CPP17, "bbbbbbbb", Files.createDirectory(root.resolve("b1")));
+        cache.compile(Language.CPP17, "aaaaaaaa", Files.createDirectory(root.resolve("a2")));
+
+        // when
+        cache.compile(Language.CPP17, "cccccccc", Files.createDirectory(root.resolve("c1")));
+        cache.compile(Language.CPP17, "aaaaaaaa", Files.createDirectory(root.resolve("a3")));
+        cache.compile(Language.CPP17, "bbbbbbbb", Files.createDirectory(root.resolve("b2")));
+
+        // then
+        assertThat(cache.entryCount()).isEqualTo(2);
+        assertThat(cache.sizeBytes()).isLessThanOrEqualTo(40);
+        assertThat(lookups("hit")).isEqualTo(2);
+        assertThat(lookups("miss")).isEqualTo(4);
+        assertThat(meterRegistry.get("naga.judge.artifact.cache.evictions").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재시작하면 디렉터리에 남은 항목을 다시 사용")
+    void 캐시_재시작() throws IOException {
+        // given
+        cache(DataSize.ofMegabytes(1)).compile(Language.CPP17, "source", Files.createDirectory(root.resolve("first")));
+
+        // when
+        CompiledArtifactCache restarted = cache(DataSize.ofMegabytes(1));
+        restarted.compile(Language.CPP17, "source", Files.createDirectory(root.resolve("second")));
+
+        // then
+        assertThat(restarted.entryCount()).isEqualTo(1);
+        verify(compiler, times(1)).compile(any(), anyString(), any());
+    }
+
+    private CompiledArtifactCache cache(DataSize maxSize) throws IOException {
+        return new CompiledArtifactCache(
+            compiler, new ArtifactCacheProperties(true, root.resolve("cache"), maxSize, "test"), meterRegistry);
+    }
+
+    private static SourceCompiler.Result compile(CompiledArtifactCache cache, Path directory) {
+        try {
+            return cache.compile(Language.CPP17, "source", directory);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("naga.judge.artifact.cache.lookups").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,83 @@
+package io.soundbar91.naga.submission.judge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.config.JudgeProperties;
+import io.soundbar91.naga.submission.entity.Language;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.entity.VerdictMode;
+import io.soundbar91.naga.submission.event.SubmissionProgressEvent;
+
+@DisplayName("JudgeQueue 테스트")
+class JudgeQueueTest {
+
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final JudgeWorker worker = mock(JudgeWorker.class);
+    private final ApplicationEventPublisher eventPublisher =
+        event -> events.add("queued-" + ((SubmissionProgressEvent) event).submissionId());
+    private final JudgeQueue judgeQueue = new JudgeQueue(worker, properties(), new SimpleMeterRegistry(), eventPublisher);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        judgeQueue.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기열에 넣은 제출만 QUEUED를 발행하고, 작업자보다 먼저 발행한다")
+    void 대기_발행순서() throws Exception {
+        // given
+        CountDownLatch judged = new CountDownLatch(1);
+        when(worker.judge(any())).thenAnswer(invocation -> {
+            events.add("judge-" + invocation.<JudgeTask>getArgument(0).submissionId());
+            judged.countDown();
+            release.await();
+            return SubmissionStatus.ACCEPTED;
+        });
+
+        // when
+        judgeQueue.submit(task(1L));
+        assertThat(judged.await(5, TimeUnit.SECONDS)).isTrue();
+        judgeQueue.submit(task(2L));
+
+        // then
+        assertThatThrownBy(() -> judgeQueue.submit(task(3L)))
+            .isInstanceOf(BusinessException.class)
+            .extracting("errorCode").isEqualTo(ErrorCode.JUDGE_QUEUE_FULL);
+        assertThat(events).containsExactly("queued-1", "judge-1", "queued-2");
+    }
+
+    private static JudgeTask task(Long submissionId) {
+        return new JudgeTask(submissionId, 1L, 1L, Language.PYTHON3, "print(1)", VerdictMode.FIRST_FAILURE);
+    }
+
+    private static JudgeProperties properties() {
+        return new JudgeProperties(
+            1, 1, 1,
+            Path.of("testcases"), Path.of("work"),
+            Duration.ofSeconds(1), DataSize.ofMegabytes(64), DataSize.ofKilobytes(64),
+            Duration.ofSeconds(10), Duration.ofMillis(5), VerdictMode.FIRST_FAILURE, CompareMode.LINE
+        );
+    }
+}
@@ -0,0 +1,105 @@
+package io.soundbar91.naga.submission.judge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.submission.entity.Language;
+import io.soundbar91.naga.submission.entity.Submission;
+import io.soundbar91.naga.submission.entity.VerdictMode;
+import io.soundbar91.naga.submission.repository.SubmissionRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JudgeRecovery 테스트")
+class JudgeRecoveryTest {
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private JudgeQueue judgeQueue;
+
+    @Mock
+    private JudgeWorker judgeWorker;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private JudgeRecovery judgeRecovery;
+
+    @Test
+    @DisplayName("대기 중이거나 채점 중이던 제출을 id 순으로 다시 대기열에 넣는다")
+    void 미완료_재등록() {
+        // given
+        Submission pending = submission(10L);
+        Submission judging = submission(20L);
+        judging.startJudging();
+        when(submissionRepository.findAllByStatusInOrderByIdAsc(any())).thenReturn(List.of(pending, judging));
+
+        // when
+        judgeRecovery.recover();
+
+        // then
+        ArgumentCaptor<JudgeTask> tasks = ArgumentCaptor.forClass(JudgeTask.class);
+        verify(judgeQueue, times(2)).submit(tasks.capture());
+        assertThat(tasks.getAllValues()).extracting(JudgeTask::problemId).containsExactly(10L, 20L);
+        verify(judgeWorker, never()).fail(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차 넣지 못한 제출은 시스템 오류로 끝낸다")
+    void 대기열포화_실패처리() {
+        // given
+        Submission queued = submission(10L);
+        Submission overflow = submission(20L);
+        when(submissionRepository.findAllByStatusInOrderByIdAsc(any())).thenReturn(List.of(queued, overflow));
+        doNothing()
+            .doThrow(new BusinessException(ErrorCode.JUDGE_QUEUE_FULL))
+            .when(judgeQueue).submit(any(JudgeTask.class));
+
+        // when
+        judgeRecovery.recover();
+
+        // then
+        ArgumentCaptor<JudgeTask> failed = ArgumentCaptor.forClass(JudgeTask.class);
+        verify(judgeWorker).fail(failed.capture(), anyString());
+        assertThat(failed.getValue().problemId()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("끝나지 않은 제출이 없으면 아무것도 하지 않는다")
+    void 미완료_없음() {
+        // given
+        when(submissionRepository.findAllByStatusInOrderByIdAsc(any())).thenReturn(List.of());
+
+        // when
+        judgeRecovery.recover();
+
+        // then
+        verify(judgeQueue, never()).submit(any());
+        verify(judgeWorker, never()).fail(any(), anyString());
+    }
+
+    private static Submission submission(Long problemId) {
+        return Submission.create(1L, problemId, null, Language.PYTHON3, "print(1)", VerdictMode.FIRST_FAILURE);
+    }
+}
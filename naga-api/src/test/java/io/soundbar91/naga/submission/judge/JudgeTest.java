@@ -0,0 +1,212 @@
+package io.soundbar91.naga.submission.judge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.soundbar91.naga.config.ArtifactCacheProperties;
+import io.soundbar91.naga.config.JudgeProperties;
+import io.soundbar91.naga.submission.entity.Language;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.entity.VerdictMode;
+
+@DisplayName("Judge 테스트")
+class JudgeTest {
+
+    private static final long PROBLEM_ID = 1L;
+    private static final String SUM = """
+        a, b = map(int, input().split())
+        print(a + b)
+        """;
+
+    @TempDir
+    private Path root;
+
+    private Judge judge;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path problem = Files.createDirectories(root.resolve("testcases").resolve(String.valueOf(PROBLEM_ID)));
+        writeCase(problem, "1", "1 2\n", "3\n");
+        writeCase(problem, "2", "5 5\n", "10\n");
+        writeCase(problem, "10", "-1 1\n", "0\n");
+
+        JudgeProperties properties = new JudgeProperties(
+            1, 2, 10,
+            root.resolve("testcases"), root.resolve("work"),
+            Duration.ofSeconds(1), DataSize.ofMegabytes(64), DataSize.ofKilobytes(64),
+            Duration.ofSeconds(10), Duration.ofMillis(5), VerdictMode.FIRST_FAILURE, CompareMode.LINE
+        );
+        ProcessRunner processRunner = new ProcessRunner(properties);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ArtifactCacheProperties cacheProperties = new ArtifactCacheProperties(
+            true, root.resolve("cache"), DataSize.ofMegabytes(1), "test");
+        judge = new Judge(
+            new TestCaseStore(properties),
+            new CompiledArtifactCache(new SourceCompiler(processRunner, properties), cacheProperties, meterRegistry),
+            processRunner,
+            new OutputChecker(CompareMode.LINE),
+            properties,
+            meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        judge.shutdown();
+    }
+
+    @Test
+    @DisplayName("모든 케이스 통과 - ACCEPTED")
+    void 채점_정답() {
+        // when
+        JudgeResult result = judge.grade(task(SUM, VerdictMode.FIRST_FAILURE));
+
+        // then
+        assertThat(result.status()).isEqualTo(SubmissionStatus.ACCEPTED);
+        assertThat(result.passedCases()).isEqualTo(3);
+        assertThat(result.totalCases()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("출력이 다르면 WRONG_ANSWER, 번호가 가장 앞선 실패 케이스를 보고")
+    void 채점_오답() {
+        // given
+        String source = """
+            a, b = map(int, input().split())
+            print(a + b if a != 5 else 0)
+            """;
+
+        // when
+        JudgeResult result = judge.grade(task(source, VerdictMode.ALL_CASES));
+
+        // then
+        assertThat(result.status()).isEqualTo(SubmissionStatus.WRONG_ANSWER);
+        assertThat(result.passedCases()).isEqualTo(2);
+        assertThat(result.message()).startsWith("테스트 케이스 2: 출력 0바이트 위치부터");
+    }
+
+    @Test
+    @DisplayName("오답 출력이 나오면 프로세스가 끝나기를 기다리지 않음")
+    void 채점_오답_즉시중단() {
+        // given
+        String source = """
+            import sys, time
+            print(-1, flush=True)
+            time.sleep(5)
+            """;
+
+        // when
+        JudgeResult result = judge.grade(task(source, VerdictMode.FIRST_FAILURE));
+
+        // then
+        assertThat(result.status()).isEqualTo(SubmissionStatus.WRONG_ANSWER);
+        assertThat(result.executionTimeMs()).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("FIRST_FAILURE - 실패 후 남은 케이스를 실행하지 않음")
+    void 채점_조기종료() {
+        // given
+        String source = """
+            import time
+            a, b = map(int, input().split())
+            if a == 1:
+                raise SystemExit(1)
+            time.sleep(0.5)
+            print(a + b)
+            """;
+
+        // when
+        JudgeResult result = judge.grade(task(source, VerdictMode.FIRST_FAILURE));
+
+        // then
+        assertThat(result.status()).isEqualTo(SubmissionStatus.RUNTIME_ERROR);
+        assertThat(result.passedCases()).isZero();
+        assertThat(result.message()).isEqualTo("테스트 케이스 1");
+    }
+
+    @Test
+    @DisplayName("시간 제한 초과 - TIME_LIMIT_EXCEEDED")
+    void 채점_시간초과() {
+        // given
+        String source = """
+            while True:
+                pass
+            """;
+
+        // when
+        JudgeResult result = judge.grade(task(source, VerdictMode.FIRST_FAILURE));
+
+        // then
+        assertThat(result.status()).isEqualTo(SubmissionStatus.TIME_LIMIT_EXCEEDED);
+        assertThat(result.executionTimeMs()).isGreaterThanOrEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("메모리 제한 초과 - MEMORY_LIMIT_EXCEEDED")
+    void 채점_메모리초과() {
+        // given
+        String source = """
+            import time
+            block = bytearray(256 * 1024 * 1024)
+            time.sleep(2)
+            """;
+
+        // when
+        JudgeResult result = judge.grade(task(source, VerdictMode.FIRST_FAILURE));
+
+        // then
+        assertThat(result.status()).isEqualTo(SubmissionStatus.MEMORY_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("출력 제한 초과 - OUTPUT_LIMIT_EXCEEDED")
+    void 채점_출력초과() {
+        // given
+        String source = """
+            a, b = map(int, input().split())
+            print(a + b)
+            while True:
+                print(" " * 1024)
+            """;
+
+        // when
+        JudgeResult result = judge.grade(task(source, VerdictMode.FIRST_FAILURE));
+
+        // then
+        assertThat(result.status()).isEqualTo(SubmissionStatus.OUTPUT_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("컴파일 실패 - COMPILE_ERROR와 컴파일러 메시지")
+    void 채점_컴파일에러() {
+        // when
+        JudgeResult result = judge.grade(task("print(", VerdictMode.FIRST_FAILURE));
+
+        // then
+        assertThat(result.status()).isEqualTo(SubmissionStatus.COMPILE_ERROR);
+        assertThat(result.message()).contains("SyntaxError");
+        assertThat(root.resolve("work")).isEmptyDirectory();
+    }
+
+    private static JudgeTask task(String source, VerdictMode verdictMode) {
+        return new JudgeTask(1L, 1L, PROBLEM_ID, Language.PYTHON3, source, verdictMode);
+    }
+
+    private static void writeCase(Path problem, String name, String input, String output) throws IOException {
+        Files.writeString(problem.resolve(name + ".in"), input);
+        Files.writeString(problem.resolve(name + ".out"), output);
+    }
+}
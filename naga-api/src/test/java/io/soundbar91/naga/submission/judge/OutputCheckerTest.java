@@ -0,0 +1,111 @@
+package io.soundbar91.naga.submission.judge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@DisplayName("OutputChecker 테스트")
+class OutputCheckerTest {
+
+    @TempDir
+    private Path directory;
+
+    @ParameterizedTest(name = "[{index}] {0} / {1}")
+    @CsvSource(delimiter = '|', value = {
+        "1 2\\n3\\n    | 1 2\\n3\\n",
+        "1 2\\n3\\n    | 1 2  \\n3\\t\\n",
+        "1 2\\n3\\n    | 1 2\\r\\n3\\r\\n",
+        "1 2\\n3\\n    | 1 2\\n3",
+        "1 2\\n3       | 1 2\\n3\\n\\n  \\n",
+        "1 2\\n\\n3\\n | 1 2\\n   \\n3\\n",
+        "''            | \\n\\n",
+    })
+    @DisplayName("LINE - 줄 끝 공백과 끝의 빈 줄을 무시하면 정답")
+    void 줄단위_정답(String expected, String actual) throws IOException {
+        // when
+        CheckResult result = check(CompareMode.LINE, expected, actual);
+
+        // then
+        assertThat(result.accepted()).isTrue();
+    }
+
+    @ParameterizedTest(name = "[{index}] {0} / {1}")
+    @CsvSource(delimiter = '|', value = {
+        "1 2\\n3\\n | 1  2\\n3\\n  | 2 | 2",
+        "1 2\\n3\\n | 1 2\\n4\\n   | 4 | 4",
+        "1 2\\n3\\n | 1 2\\n\\n3\\n | 4 | 4",
+        "1 2\\n3\\n | 1 2\\n3\\n4  | 6 | 6",
+        "1 2\\n3\\n | 1 2\\n       | 4 | 4",
+        "1 2\\n3\\n | 1 2 3\\n     | 3 | 3",
+    })
+    @DisplayName("LINE - 처음 달라진 위치를 보고")
+    void 줄단위_오답(String expected, String actual, long expectedOffset, long actualOffset) throws IOException {
+        // when
+        CheckResult result = check(CompareMode.LINE, expected, actual);
+
+        // then
+        assertThat(result).isEqualTo(CheckResult.mismatch(expectedOffset, actualOffset));
+    }
+
+    @Test
+    @DisplayName("TOKEN - 공백 종류와 줄바꿈 위치를 무시")
+    void 토큰단위_정답() throws IOException {
+        // when
+        CheckResult result = check(CompareMode.TOKEN, "1 2\n3\n", "  1\n\n2\t3");
+
+        // then
+        assertThat(result.accepted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("TOKEN - 토큰이 다르거나 개수가 다르면 오답")
+    void 토큰단위_오답() throws IOException {
+        // when & then
+        assertThat(check(CompareMode.TOKEN, "12 3\n", "1 23\n")).isEqualTo(CheckResult.mismatch(1, 1));
+        assertThat(check(CompareMode.TOKEN, "12 3\n", "123\n")).isEqualTo(CheckResult.mismatch(2, 2));
+        assertThat(check(CompareMode.TOKEN, "1 2\n", "1 2 3\n")).isEqualTo(CheckResult.mismatch(4, 4));
+        assertThat(check(CompareMode.TOKEN, "1 2 3\n", "1 2\n")).isEqualTo(CheckResult.mismatch(4, 4));
+    }
+
+    @Test
+    @DisplayName("매핑 창 경계를 넘어도 이어서 비교")
+    void 매핑창_경계() throws IOException {
+        // given
+        String expected = "0123456789\n".repeat(10);
+        OutputChecker checker = new OutputChecker(CompareMode.LINE, 7);
+
+        // when
+        CheckResult same = checker.check(write(expected), stream(expected));
+        CheckResult different = checker.check(write(expected), stream(expected.substring(0, 50) + "x"));
+
+        // then
+        assertThat(same.accepted()).isTrue();
+        assertThat(different).isEqualTo(CheckResult.mismatch(50, 50));
+    }
+
+    private CheckResult check(CompareMode mode, String expected, String actual) throws IOException {
+        return new OutputChecker(mode).check(write(unescape(expected)), stream(unescape(actual)));
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(directory, "expected", ".out"), content);
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String unescape(String value) {
+        return value.replace("\\n", "\n").replace("\\r", "\r").replace("\\t", "\t");
+    }
+}
@@ -0,0 +1,142 @@
+package io.soundbar91.naga.submission.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.config.JudgeProperties;
+import io.soundbar91.naga.contest.entity.Contest;
+import io.soundbar91.naga.contest.repository.ContestRepository;
+import io.soundbar91.naga.submission.entity.Language;
+import io.soundbar91.naga.submission.entity.Submission;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.entity.VerdictMode;
+import io.soundbar91.naga.submission.judge.JudgeQueue;
+import io.soundbar91.naga.submission.judge.JudgeTask;
+import io.soundbar91.naga.submission.judge.TestCaseStore;
+import io.soundbar91.naga.submission.repository.SubmissionRepository;
+import io.soundbar91.naga.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubmissionService 테스트")
+class SubmissionServiceTest {
+
+    private static final String SOURCE = "print(1)";
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ContestRepository contestRepository;
+
+    @Mock
+    private TestCaseStore testCaseStore;
+
+    @Mock
+    private JudgeQueue judgeQueue;
+
+    @Mock
+    private JudgeProperties judgeProperties;
+
+    @InjectMocks
+    private SubmissionService submissionService;
+
+    @Test
+    @DisplayName("제출 성공 - 채점 방식이 없으면 기본 방식으로 대기열에 추가")
+    void 제출_성공() {
+        // given
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(testCaseStore.exists(10L)).thenReturn(true);
+        when(judgeProperties.defaultVerdictMode()).thenReturn(VerdictMode.ALL_CASES);
+        when(submissionRepository.save(any(Submission.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        Submission result = submissionService.create(1L, 10L, null, Language.PYTHON3, SOURCE, null);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(SubmissionStatus.PENDING);
+        assertThat(result.getVerdictMode()).isEqualTo(VerdictMode.ALL_CASES);
+        ArgumentCaptor<JudgeTask> task = ArgumentCaptor.forClass(JudgeTask.class);
+        verify(judgeQueue).submit(task.capture());
+        assertThat(task.getValue().sourceCode()).isEqualTo(SOURCE);
+        assertThat(task.getValue().verdictMode()).isEqualTo(VerdictMode.ALL_CASES);
+    }
+
+    @Test
+    @DisplayName("제출 실패 - 존재하지 않는 사용자")
+    void 제출_실패_사용자없음() {
+        // given
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> submissionService.create(1L, 10L, null, Language.PYTHON3, SOURCE, null))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
+        verify(submissionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("제출 실패 - 테스트 케이스가 없는 문제")
+    void 제출_실패_문제없음() {
+        // given
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(testCaseStore.exists(10L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> submissionService.create(1L, 10L, null, Language.PYTHON3, SOURCE, VerdictMode.FIRST_FAILURE))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PROBLEM_NOT_FOUND);
+        verify(submissionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("제출 실패 - 채점 대기열이 가득 차면 저장한 제출을 삭제")
+    void 제출_실패_대기열포화() {
+        // given
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(testCaseStore.exists(10L)).thenReturn(true);
+        when(submissionRepository.save(any(Submission.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new BusinessException(ErrorCode.JUDGE_QUEUE_FULL)).when(judgeQueue).submit(any());
+
+        // when & then
+        assertThatThrownBy(() -> submissionService.create(1L, 10L, null, Language.PYTHON3, SOURCE, VerdictMode.FIRST_FAILURE))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.JUDGE_QUEUE_FULL);
+        verify(submissionRepository).delete(any(Submission.class));
+    }
+
+    @Test
+    @DisplayName("제출 실패 - 진행 중이 아닌 대회")
+    void 제출_실패_대회종료() {
+        // given
+        LocalDateTime start = LocalDateTime.now().minusHours(3);
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(contestRepository.findById(5L)).thenReturn(Optional.of(Contest.create("종료", start, start.plusHours(2))));
+
+        // when & then
+        assertThatThrownBy(() -> submissionService.create(1L, 10L, 5L, Language.PYTHON3, SOURCE, null))
+            .isInstanceOf(BusinessException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.CONTEST_NOT_RUNNING);
+        verify(submissionRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,165 @@
+package io.soundbar91.naga.submission.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import io.soundbar91.naga.submission.entity.Language;
+import io.soundbar91.naga.submission.entity.Submission;
+import io.soundbar91.naga.submission.entity.SubmissionStatus;
+import io.soundbar91.naga.submission.entity.VerdictMode;
+import io.soundbar91.naga.submission.event.SubmissionProgressEvent;
+import io.soundbar91.naga.submission.repository.SubmissionRepository;
+import io.soundbar91.naga.user.entity.User;
+import io.soundbar91.naga.user.repository.UserRepository;
+
+/**
+ * 요청 단위 EntityManager를 켜서, 구독 뒤 현재 상태를 다시 읽을 때 요청 앞부분에서 읽은 엔티티가 아니라 DB 값을 읽는지 확인한다.
+ */
+@SpringBootTest(properties = {
+    "naga.submission.stream.max-streams-per-user=1",
+    "spring.jpa.open-in-view=true"
+})
+@AutoConfigureMockMvc
+@WithMockUser
+@DisplayName("SubmissionStreamHub 테스트")
+class SubmissionStreamHubTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private SubmissionStreamHub hub;
+
+    @Test
+    @DisplayName("현재 상태부터 진행 이벤트를 ApiResponse 형태로 보내고 판정 후 스트림을 닫는다")
+    void 진행상황_스트림() throws Exception {
+        // given
+        Long userId = userRepository.save(User.create("stream1@naga.io", "encoded")).getId();
+        Long submissionId = submit(userId);
+        MvcResult result = mockMvc.perform(get("/api/submissions/{id}/stream", submissionId)
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // when
+        eventPublisher.publishEvent(SubmissionProgressEvent.compiling(submissionId, userId, 2));
+        eventPublisher.publishEvent(SubmissionProgressEvent.running(submissionId, userId, 1, 2));
+        eventPublisher.publishEvent(SubmissionProgressEvent.queued(submissionId, userId));
+        eventPublisher.publishEvent(
+            SubmissionProgressEvent.finished(submissionId, userId, SubmissionStatus.ACCEPTED, 2, 2));
+        result.getAsyncResult(5_000);
+
+        // then
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).containsSubsequence(
+            "event:progress", "\"result\":\"SUCCESS\"", "\"phase\":\"QUEUED\"",
+            "\"phase\":\"COMPILING\"",
+            "\"phase\":\"RUNNING\",\"completedCases\":1,\"totalCases\":2",
+            "\"phase\":\"FINISHED\"", "\"status\":\"ACCEPTED\"");
+        assertThat(body.split("\"phase\":\"QUEUED\"", -1)).hasSize(2);
+        assertThat(hub.openStreams()).isZero();
+    }
+
+    @Test
+    @DisplayName("처음 조회와 구독 등록 사이에 끝난 판정을 현재 상태로 보낸다")
+    void 구독전_판정완료() throws Exception {
+        // given
+        Long userId = userRepository.save(User.create("stream3@naga.io", "encoded")).getId();
+        Long submissionId = submit(userId);
+        doAnswer(invocation -> {
+            jdbcTemplate.update("update submissions set status = 'ACCEPTED', passed_cases = 2, total_cases = 2 "
+                + "where id = ?", submissionId);
+            return invocation.callRealMethod();
+        }).when(hub).subscribeSubmission(anyLong(), eq(submissionId), any());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/submissions/{id}/stream", submissionId)
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        result.getAsyncResult(5_000);
+
+        // then
+        assertThat(result.getResponse().getContentAsString())
+            .contains("\"phase\":\"FINISHED\"", "\"status\":\"ACCEPTED\"")
+            .doesNotContain("\"phase\":\"QUEUED\"");
+    }
+
+    @Test
+    @DisplayName("구독 등록 뒤 현재 상태를 읽지 못하면 구독을 닫는다")
+    void 현재상태_조회실패() throws Exception {
+        // given
+        Long userId = userRepository.save(User.create("stream4@naga.io", "encoded")).getId();
+        Long submissionId = submit(userId);
+        doAnswer(invocation -> {
+            jdbcTemplate.update("delete from submissions where id = ?", submissionId);
+            return invocation.callRealMethod();
+        }).when(hub).subscribeSubmission(anyLong(), eq(submissionId), any());
+        int openBefore = hub.openStreams();
+
+        // when
+        MvcResult failed = mockMvc.perform(get("/api/submissions/{id}/stream", submissionId)
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andReturn();
+
+        // then
+        assertThat(failed.getResponse().getStatus()).isEqualTo(404);
+        assertThat(hub.openStreams()).isEqualTo(openBefore);
+    }
+
+    @Test
+    @DisplayName("사용자별 구독 수를 넘으면 429와 에러 이벤트로 거절한다")
+    void 구독수_제한() throws Exception {
+        // given
+        Long userId = userRepository.save(User.create("stream2@naga.io", "encoded")).getId();
+        submit(userId);
+        mockMvc.perform(get("/api/submissions/stream").param("userId", userId.toString())
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted());
+
+        // when
+        MvcResult rejected = mockMvc.perform(get("/api/submissions/stream").param("userId", userId.toString())
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andReturn();
+
+        // then
+        assertThat(rejected.getResponse().getStatus()).isEqualTo(429);
+        assertThat(rejected.getResponse().getContentAsString())
+            .contains("event:error", "SUBMISSION_STREAM_LIMIT_EXCEEDED");
+    }
+
+    private Long submit(Long userId) {
+        return submissionRepository.save(Submission.create(userId, 1L, null, Language.PYTHON3, "print(1)",
+            VerdictMode.FIRST_FAILURE)).getId();
+    }
+}
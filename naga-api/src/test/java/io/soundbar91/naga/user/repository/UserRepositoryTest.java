@@ -0,0 +1,149 @@
+package io.soundbar91.naga.user.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.annotations.SQLRestriction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+
+import io.soundbar91.naga.common.entity.BaseEntity;
+import io.soundbar91.naga.config.JpaAuditingConfiguration;
+import io.soundbar91.naga.user.dto.UserResponse;
+import io.soundbar91.naga.user.entity.User;
+import jakarta.persistence.metamodel.EntityType;
+
+@DataJpaTest
+@Import(JpaAuditingConfiguration.class)
+@DisplayName("UserRepository 테스트")
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("소프트 삭제된 사용자는 조회되지 않음")
+    void 소프트삭제_사용자_제외() {
+        // given
+        User live = userRepository.save(User.create("live@example.com", "encoded"));
+        User deleted = User.create("deleted@example.com", "encoded");
+        deleted.softDelete();
+        userRepository.saveAndFlush(deleted);
+        entityManager.clear();
+
+        // when & then
+        assertThat(userRepository.findByEmail("deleted@example.com")).isEmpty();
+        assertThat(userRepository.existsByEmail("deleted@example.com")).isFalse();
+        assertThat(userRepository.findById(deleted.getId())).isEmpty();
+        assertThat(userRepository.findExistingEmails(List.of("live@example.com", "deleted@example.com")))
+            .containsExactly("live@example.com");
+        assertThat(userRepository.findByEmail("live@example.com")).map(User::getId).contains(live.getId());
+    }
+
+    @Test
+    @DisplayName("삭제한 사용자의 이메일로 다시 가입할 수 있고 이메일 조회는 새 사용자를 찾는다")
+    void 삭제후_재가입() {
+        // given
+        User deleted = userRepository.saveAndFlush(User.create("again@example.com", "encoded"));
+        deleted.softDelete();
+        userRepository.saveAndFlush(deleted);
+        entityManager.clear();
+
+        // when
+        boolean existsBeforeSignup = userRepository.existsByEmail("again@example.com");
+        User signedUp = userRepository.saveAndFlush(User.create("again@example.com", "encoded"));
+        entityManager.clear();
+
+        // then
+        assertThat(existsBeforeSignup).isFalse();
+        assertThat(userRepository.findByEmail("again@example.com")).map(User::getId).contains(signedUp.getId());
+        assertThat(userRepository.findExistingEmails(List.of("again@example.com"))).containsExactly("again@example.com");
+    }
+
+    @Test
+    @DisplayName("살아 있는 사용자의 이메일로는 유니크 제약 때문에 저장할 수 없다")
+    void 살아있는_이메일_중복() {
+        // given
+        userRepository.saveAndFlush(User.create("taken@example.com", "encoded"));
+
+        // when & then
+        assertThatThrownBy(() -> userRepository.saveAndFlush(User.create("taken@example.com", "encoded")))
+            .isInstanceOf(DataIntegrityViolationException.class)
+            .hasMessageContaining(User.EMAIL_UNIQUE_CONSTRAINT.toUpperCase());
+    }
+
+    @Test
+    @DisplayName("ID 목록 조회는 소프트 삭제된 사용자와 없는 ID를 제외한다")
+    void ID목록_조회() {
+        // given
+        User alive = userRepository.save(User.create("alive@example.com", "encoded"));
+        User deleted = User.create("deleted@example.com", "encoded");
+        deleted.softDelete();
+        userRepository.save(deleted);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<UserResponse> found = userRepository.findResponsesByIdIn(List.of(alive.getId(), deleted.getId(), Long.MAX_VALUE));
+
+        // then
+        assertThat(found).extracting(UserResponse::id).containsExactly(alive.getId());
+    }
+
+    @Test
+    @DisplayName("키셋 페이지와 전체 스트림은 ID 순서로 소프트 삭제된 사용자를 제외한다")
+    void 키셋_페이지와_스트림() {
+        // given
+        User first = userRepository.save(User.create("first@example.com", "encoded"));
+        User deleted = User.create("gone@example.com", "encoded");
+        deleted.softDelete();
+        userRepository.save(deleted);
+        User second = userRepository.save(User.create("second@example.com", "encoded"));
+        User third = userRepository.save(User.create("third@example.com", "encoded"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<UserResponse> firstPage = userRepository.findPageAfter(0L, Limit.of(2));
+        List<UserResponse> nextPage = userRepository.findPageAfter(firstPage.get(1).id(), Limit.of(2));
+        List<Long> streamed;
+        try (Stream<UserResponse> users = userRepository.streamAllResponses()) {
+            streamed = users.map(UserResponse::id).toList();
+        }
+
+        // then
+        assertThat(firstPage).extracting(UserResponse::id).containsExactly(first.getId(), second.getId());
+        assertThat(nextPage).extracting(UserResponse::id).containsExactly(third.getId());
+        assertThat(streamed).containsExactly(first.getId(), second.getId(), third.getId());
+        assertThat(entityManager.getEntityManager().contains(first)).isFalse();
+    }
+
+    @Test
+    @DisplayName("BaseEntity를 상속한 모든 엔티티는 소프트 삭제 조건을 선언한다")
+    void 모든_엔티티_소프트삭제_조건_선언() {
+        // given
+        List<Class<?>> entities = entityManager.getEntityManager().getMetamodel().getEntities().stream()
+            .<Class<?>>map(EntityType::getJavaType)
+            .filter(BaseEntity.class::isAssignableFrom)
+            .toList();
+
+        // when & then
+        assertThat(entities).isNotEmpty().allSatisfy(type -> assertThat(type.getAnnotation(SQLRestriction.class))
+            .as(type.getSimpleName())
+            .isNotNull()
+            .extracting(SQLRestriction::value)
+            .isEqualTo(BaseEntity.NOT_DELETED));
+    }
+}
@@ -0,0 +1,150 @@
+package io.soundbar91.naga.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.config.UserBatchProperties;
+import io.soundbar91.naga.user.dto.UserResponse;
+import io.soundbar91.naga.user.repository.UserRepository;
+
+@DisplayName("UserBatchLoader 테스트")
+class UserBatchLoaderTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final List<List<Long>> queries = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("한 호출의 중복 ID는 한 번만 조회하고 요청 순서대로 돌려준다")
+    void 중복제거_순서() {
+        // given
+        UserBatchLoader loader = loader(100, Duration.ZERO, 2L);
+
+        // when
+        Map<Long, UserResponse> result = loader.load(List.of(3L, 1L, 3L, 2L));
+
+        // then
+        assertThat(result.keySet()).containsExactly(3L, 1L);
+        assertThat(queries).hasSize(1);
+        assertThat(queries.getFirst()).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 들어온 여러 요청의 조회를 IN 쿼리 하나로 묶는다")
+    void 요청간_병합() throws Exception {
+        // given
+        UserBatchLoader loader = loader(100, Duration.ofMillis(500));
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Map<Long, UserResponse>>> results = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            for (int i = 0; i < callers; i++) {
+                long id = i + 1;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return loader.load(List.of(id, 100L));
+                }));
+            }
+            start.countDown();
+        }
+
+        // then
+        assertThat(queries).hasSize(1);
+        assertThat(queries.getFirst()).hasSize(callers + 1);
+        for (int i = 0; i < callers; i++) {
+            assertThat(results.get(i).get().keySet()).containsExactly(i + 1L, 100L);
+        }
+    }
+
+    @Test
+    @DisplayName("배치가 최대 크기에 닿으면 나눠서 조회한다")
+    void 최대크기_분할() {
+        // given
+        UserBatchLoader loader = loader(2, Duration.ofMillis(500));
+
+        // when
+        Map<Long, UserResponse> result = loader.load(List.of(1L, 2L, 3L, 4L, 5L));
+
+        // then
+        assertThat(result.keySet()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(queries).hasSize(3);
+        assertThat(queries).allSatisfy(query -> assertThat(query).hasSizeLessThanOrEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 배치의 모든 호출에 예외를 전달한다")
+    void 조회실패_전달() {
+        // given
+        when(userRepository.findResponsesByIdIn(anyCollection())).thenThrow(new IllegalStateException("DB 장애"));
+        UserBatchLoader loader = new UserBatchLoader(userRepository, new UserBatchProperties(100, Duration.ZERO, Duration.ofSeconds(1)),
+            new SimpleMeterRegistry());
+
+        // when & then
+        assertThatThrownBy(() -> loader.load(List.of(1L)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("DB 장애");
+    }
+
+    @Test
+    @DisplayName("다른 호출이 연 배치의 조회가 제한 시간을 넘기면 DB가 바쁘다고 실패한다")
+    void 대기시간_초과() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findResponsesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+        UserBatchLoader loader = new UserBatchLoader(userRepository,
+            new UserBatchProperties(100, Duration.ofMillis(300), Duration.ofMillis(100)), new SimpleMeterRegistry());
+
+        // when & then
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<Map<Long, UserResponse>> opener = executor.submit(() -> loader.load(List.of(1L)));
+            Thread.sleep(50);
+            assertThatThrownBy(() -> loader.load(List.of(2L)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.DATABASE_BUSY);
+            release.countDown();
+            assertThat(opener.get()).isEmpty();
+        }
+    }
+
+    /**
+     * {@code missing}을 뺀 모든 ID의 사용자가 있는 저장소로 로더를 만든다.
+     */
+    private UserBatchLoader loader(int maxSize, Duration window, Long... missing) {
+        List<Long> missingIds = List.of(missing);
+        when(userRepository.findResponsesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            queries.add(List.copyOf(ids));
+            LocalDateTime now = LocalDateTime.now();
+            return ids.stream()
+                .filter(id -> !missingIds.contains(id))
+                .map(id -> new UserResponse(id, id + "@example.com", now, now))
+                .toList();
+        });
+        return new UserBatchLoader(userRepository, new UserBatchProperties(maxSize, window, Duration.ofSeconds(1)), new SimpleMeterRegistry());
+    }
+}
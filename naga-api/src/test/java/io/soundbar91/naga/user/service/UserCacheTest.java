@@ -0,0 +1,67 @@
+package io.soundbar91.naga.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.soundbar91.naga.user.entity.User;
+import io.soundbar91.naga.user.repository.UserRepository;
+
+@SpringBootTest
+@DisplayName("UserCache 테스트")
+class UserCacheTest {
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("두 번째 조회부터는 캐시에서 돌려준다")
+    void 캐시_적중() {
+        // given
+        User user = userRepository.save(User.create("cache-hit@example.com", "hashed"));
+        double hitsBefore = hits("user.id");
+
+        // when
+        CachedUser first = userCache.findById(user.getId()).orElseThrow();
+        CachedUser second = userCache.findById(user.getId()).orElseThrow();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(hits("user.id") - hitsBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("소프트 삭제가 커밋되면 ID와 이메일 캐시에서 모두 지운다")
+    void 소프트삭제_무효화() {
+        // given
+        User user = userRepository.save(User.create("cache-evict@example.com", "hashed"));
+        assertThat(userCache.findById(user.getId())).isPresent();
+        assertThat(userCache.findByEmail(user.getEmail())).isPresent();
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+            userRepository.findById(user.getId()).orElseThrow().softDelete());
+
+        // then
+        assertThat(userCache.findById(user.getId())).isEmpty();
+        assertThat(userCache.findByEmail(user.getEmail())).isEmpty();
+    }
+
+    private double hits(String cache) {
+        return meterRegistry.get("naga.cache.gets").tag("cache", cache).tag("result", "hit").counter().count();
+    }
+}
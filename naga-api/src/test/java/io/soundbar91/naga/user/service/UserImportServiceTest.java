@@ -0,0 +1,86 @@
+package io.soundbar91.naga.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.soundbar91.naga.user.dto.UserImportFormat;
+import io.soundbar91.naga.user.dto.UserImportResponse;
+import io.soundbar91.naga.user.dto.UserImportRowResult;
+import io.soundbar91.naga.user.dto.UserImportRowResult.Status;
+import io.soundbar91.naga.user.entity.User;
+import io.soundbar91.naga.user.repository.UserRepository;
+
+@SpringBootTest(properties = {
+    "naga.security.password.strength=4",
+    "naga.user.import.chunk-size=2"
+})
+@DisplayName("UserImportService 테스트")
+class UserImportServiceTest {
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("NDJSON 대량 등록 - 행별 결과 보고")
+    void NDJSON_대량등록_행별결과() throws Exception {
+        // given
+        userRepository.save(User.create("exists@import.io", "encoded"));
+        String body = """
+            {"email":"first@import.io","password":"Password123!"}
+            {"email":"exists@import.io","password":"Password123!"}
+
+            {"email":"first@import.io","password":"Password123!"}
+            {"email":"invalid-email","password":"Password123!"}
+            not-json
+            {"email":"second@import.io","password":"Password123!"}
+            """;
+
+        // when
+        UserImportResponse response = userImportService.importUsers(new StringReader(body), UserImportFormat.NDJSON);
+
+        // then
+        assertThat(response.total()).isEqualTo(6);
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.rows())
+            .extracting(UserImportRowResult::line, UserImportRowResult::status, UserImportRowResult::errorCode)
+            .containsExactly(
+                tuple(1L, Status.CREATED, null),
+                tuple(2L, Status.FAILED, "USER_EMAIL_ALREADY_EXISTS"),
+                tuple(4L, Status.FAILED, "USER_EMAIL_ALREADY_EXISTS"),
+                tuple(5L, Status.FAILED, "INVALID_INPUT_VALUE"),
+                tuple(6L, Status.FAILED, "INVALID_INPUT_VALUE"),
+                tuple(7L, Status.CREATED, null)
+            );
+        assertThat(userRepository.existsByEmail("first@import.io")).isTrue();
+        assertThat(userRepository.existsByEmail("second@import.io")).isTrue();
+    }
+
+    @Test
+    @DisplayName("CSV 대량 등록 - 헤더 생략")
+    void CSV_대량등록_헤더생략() throws Exception {
+        // given
+        String body = """
+            email,password
+            csv1@import.io,Password123!
+            csv2@import.io,Pass,word123!
+            """;
+
+        // when
+        UserImportResponse response = userImportService.importUsers(new StringReader(body), UserImportFormat.CSV);
+
+        // then
+        assertThat(response.total()).isEqualTo(2);
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.rows()).extracting(UserImportRowResult::id).doesNotContainNull();
+    }
+}
@@ -4,19 +4,43 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.soundbar91.naga.common.exception.BusinessException;
+import io.soundbar91.naga.common.exception.ErrorCode;
+import io.soundbar91.naga.common.outbox.OutboxWriter;
+import io.soundbar91.naga.common.security.PasswordHasher;
+import io.soundbar91.naga.config.UserBatchProperties;
+import io.soundbar91.naga.user.dto.UserBatchResponse;
+import io.soundbar91.naga.user.dto.UserPageResponse;
+import io.soundbar91.naga.user.dto.UserResponse;
 import io.soundbar91.naga.user.entity.User;
+import io.soundbar91.naga.user.event.UserCreatedEvent;
+import io.soundbar91.naga.user.event.UserDeletedEvent;
 import io.soundbar91.naga.user.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,7 +51,25 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private EmailMembershipFilter emailMembershipFilter;
+
+    @Spy
+    private SignupPhaseTimers signupPhaseTimers = new SignupPhaseTimers(new SimpleMeterRegistry());
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Mock
+    private UserBatchLoader userBatchLoader;
+
+    @Spy
+    private UserBatchProperties batchProperties = new UserBatchProperties(3, Duration.ZERO, Duration.ofSeconds(1));
 
     @InjectMocks
     private UserService userService;
@@ -40,8 +82,9 @@ class UserServiceTest {
         String rawPassword = "Password123!";
         String encodedPassword = "encodedPassword123";
 
+        when(emailMembershipFilter.mightContain(email)).thenReturn(true);
         when(userRepository.existsByEmail(email)).thenReturn(false);
-        when(passwordEncoder.encode(rawPassword)).thenReturn(encodedPassword);
+        when(passwordHasher.hash(rawPassword)).thenReturn(encodedPassword);
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -52,8 +95,30 @@ class UserServiceTest {
         assertThat(result.getEmail()).isEqualTo(email);
         assertThat(result.getPassword()).isEqualTo(encodedPassword);
         verify(userRepository).existsByEmail(email);
-        verify(passwordEncoder).encode(rawPassword);
+        verify(passwordHasher).hash(rawPassword);
         verify(userRepository).save(any(User.class));
+        verify(emailMembershipFilter).add(email);
+        verify(outboxWriter).append(eq(UserCreatedEvent.AGGREGATE_TYPE), any(), eq(UserCreatedEvent.TYPE), any(UserCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("회원가입 성공 - 이메일 필터가 없다고 판정하면 중복 조회 생략")
+    void 회원가입_성공_중복조회생략() {
+        // given
+        String email = "test@example.com";
+        String rawPassword = "Password123!";
+
+        when(emailMembershipFilter.mightContain(email)).thenReturn(false);
+        when(passwordHasher.hash(rawPassword)).thenReturn("encodedPassword123");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        User result = userService.create(email, rawPassword);
+
+        // then
+        assertThat(result.getEmail()).isEqualTo(email);
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(emailMembershipFilter).add(email);
     }
 
     @Test
@@ -62,6 +127,7 @@ class UserServiceTest {
         // given
         String email = "test@example.com";
         String password = "Password123!";
+        when(emailMembershipFilter.mightContain(email)).thenReturn(true);
         when(userRepository.existsByEmail(email)).thenReturn(true);
 
         // when & then
@@ -154,4 +220,115 @@ class UserServiceTest {
         assertThatThrownBy(() -> userService.create(email, password))
                 .isInstanceOf(BusinessException.class);
     }
+
+    @Test
+    @DisplayName("회원가입 실패 - 해싱 대기열 포화")
+    void 회원가입_실패_해싱대기열포화() {
+        // given
+        String email = "test@example.com";
+        String rawPassword = "Password123!";
+        when(emailMembershipFilter.mightContain(email)).thenReturn(false);
+        when(passwordHasher.hash(rawPassword)).thenThrow(new BusinessException(ErrorCode.PASSWORD_HASHING_BUSY));
+
+        // when & then
+        assertThatThrownBy(() -> userService.create(email, rawPassword))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PASSWORD_HASHING_BUSY);
+
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    @DisplayName("사용자를 소프트 삭제하고 삭제 알림을 아웃박스에 기록한다")
+    void 삭제_성공() {
+        // given
+        User user = User.create("delete@example.com", "encodedPassword123");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // when
+        userService.delete(1L);
+
+        // then
+        assertThat(user.isDeleted()).isTrue();
+        verify(outboxWriter).append(eq(UserDeletedEvent.AGGREGATE_TYPE), any(), eq(UserDeletedEvent.TYPE), any(UserDeletedEvent.class));
+    }
+
+    @Test
+    @DisplayName("없는 사용자를 삭제하면 예외가 발생하고 알림을 기록하지 않는다")
+    void 삭제_실패_없는_사용자() {
+        // given
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> userService.delete(1L))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.USER_NOT_FOUND);
+
+        verify(outboxWriter, never()).append(anyString(), any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 마지막 사용자 ID를 커서로 돌려준다")
+    void 목록_다음커서() {
+        // given
+        when(userRepository.findPageAfter(eq(10L), eq(Limit.of(3)))).thenReturn(users(11, 12, 13));
+
+        // when
+        UserPageResponse response = userService.list(10L, 2);
+
+        // then
+        assertThat(response.users()).extracting(UserResponse::id).containsExactly(11L, 12L);
+        assertThat(response.nextCursor()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지면 커서가 없다")
+    void 목록_마지막페이지() {
+        // given
+        when(userRepository.findPageAfter(eq(0L), eq(Limit.of(3)))).thenReturn(users(1, 2));
+
+        // when
+        UserPageResponse response = userService.list(null, 2);
+
+        // then
+        assertThat(response.users()).hasSize(2);
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 요청 순서대로 찾은 사용자와 없는 ID를 나눠 돌려준다")
+    void 일괄조회_순서와_누락() {
+        // given
+        Map<Long, UserResponse> found = new LinkedHashMap<>();
+        users(3, 1).forEach(user -> found.put(user.id(), user));
+        when(userBatchLoader.load(List.of(3L, 2L, 1L))).thenReturn(found);
+
+        // when
+        UserBatchResponse response = userService.getAll(List.of(3L, 2L, 1L));
+
+        // then
+        assertThat(response.users()).extracting(UserResponse::id).containsExactly(3L, 1L);
+        assertThat(response.missingIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("일괄 조회 ID 수가 상한을 넘으면 조회하지 않고 예외가 발생한다")
+    void 일괄조회_상한초과() {
+        // when & then
+        assertThatThrownBy(() -> userService.getAll(List.of(1L, 2L, 3L, 4L)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_INPUT_VALUE);
+
+        verify(userBatchLoader, never()).load(any());
+    }
+
+    private static List<UserResponse> users(long... ids) {
+        LocalDateTime now = LocalDateTime.now();
+        return LongStream.of(ids)
+            .mapToObj(id -> new UserResponse(id, id + "@example.com", now, now))
+            .toList();
+    }
 }
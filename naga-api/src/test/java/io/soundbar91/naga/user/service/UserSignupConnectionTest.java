@@ -0,0 +1,73 @@
+package io.soundbar91.naga.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.soundbar91.naga.common.security.PasswordHasher;
+
+/**
+ * 가입 요청이 해싱하는 동안 커넥션을 잡고 있지 않은지 HTTP 요청으로 확인한다.
+ * 이메일 필터를 꺼서 해싱 전에 반드시 중복 조회를 하게 하고, 풀을 쓰는 예약 작업은 테스트 중에 돌지 않게 미룬다.
+ */
+@SpringBootTest(properties = {
+    "naga.user.email-filter.enabled=false",
+    "naga.outbox.interval=1h",
+    "naga.statistics.flush-interval=1h"
+})
+@AutoConfigureMockMvc
+@WithMockUser
+@DisplayName("회원가입 커넥션 점유 테스트")
+class UserSignupConnectionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoSpyBean
+    private PasswordHasher passwordHasher;
+
+    @Test
+    @DisplayName("중복 조회 뒤 해싱하는 동안 요청이 커넥션을 돌려준 상태다")
+    void 해싱중_커넥션_미점유() throws Exception {
+        // given
+        HikariDataSource pool = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+        AtomicInteger activeWhileHashing = new AtomicInteger(-1);
+        doAnswer(invocation -> {
+            activeWhileHashing.set(pool.getHikariPoolMXBean().getActiveConnections());
+            return invocation.callRealMethod();
+        }).when(passwordHasher).hash(anyString());
+
+        // when
+        mockMvc.perform(post("/api/users")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"hash-connection@naga.io\",\"password\":\"Password123!\"}"))
+            .andExpect(status().isCreated());
+
+        // then
+        assertThat(activeWhileHashing).hasValue(0);
+    }
+}
@@ -0,0 +1,116 @@
+package io.soundbar91.naga.user.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import io.soundbar91.naga.user.dto.CreateUserRequest;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Combinators;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+/**
+ * 기존 정규식 규칙과 {@link UserCredentialRules}의 판정이 같은지 무작위 입력으로 확인한다.
+ */
+@Label("UserCredentialRules 정규식 동등성 테스트")
+class UserCredentialRulesTest {
+
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    private static final Pattern PASSWORD = Pattern.compile("^(?=.*[A-Za-z])(?=.*\\d)(?=.*[@$!%*#?&]).+$");
+    private static final String ALPHABET = "aZz09._%+-@$!*#?&,/ \t\n\r\u0085\u2028\u2029é가";
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Property(tries = 5000)
+    @Label("이메일 형식 - 임의 문자열")
+    void 이메일_임의문자열(@ForAll("noise") String email) {
+        assertThat(UserCredentialRules.isEmailFormat(email)).isEqualTo(EMAIL.matcher(email).matches());
+    }
+
+    @Property(tries = 5000)
+    @Label("이메일 형식 - 이메일 모양 문자열")
+    void 이메일_이메일모양(@ForAll("emailLike") String email) {
+        assertThat(UserCredentialRules.isEmailFormat(email)).isEqualTo(EMAIL.matcher(email).matches());
+    }
+
+    @Example
+    @Label("이메일 형식 - 최대 길이를 넘으면 형식이 맞아도 거절")
+    void 이메일_길이초과() {
+        String local = "a".repeat(UserCredentialRules.EMAIL_MAX_LENGTH - "@naga.io".length());
+
+        assertThat(UserCredentialRules.isEmailFormat(local + "@naga.io")).isTrue();
+        assertThat(UserCredentialRules.isEmailFormat(local + "a@naga.io")).isFalse();
+    }
+
+    @Property(tries = 5000)
+    @Label("비밀번호 형식 - 임의 문자열")
+    void 비밀번호_임의문자열(@ForAll("noise") String password) {
+        assertThat(UserCredentialRules.isPasswordFormat(password)).isEqualTo(PASSWORD.matcher(password).matches());
+    }
+
+    @Property(tries = 5000)
+    @Label("DTO 검증 결과와 메시지가 기존 @Pattern 제약과 동일")
+    void DTO_검증_동등성(@ForAll("emailLike") String email, @ForAll("noise") String password) {
+        Set<String> actual = messages(VALIDATOR.validate(new CreateUserRequest(email, password)));
+        Set<String> expected = messages(VALIDATOR.validate(new LegacyCreateUserRequest(email, password)));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Provide
+    Arbitrary<String> noise() {
+        return Arbitraries.strings()
+            .withChars(ALPHABET.toCharArray())
+            .ofMaxLength(24);
+    }
+
+    @Provide
+    Arbitrary<String> emailLike() {
+        Arbitrary<String> part = Arbitraries.strings()
+            .withChars("aZ09._%+-@é".toCharArray())
+            .ofMaxLength(8);
+        Arbitrary<String> topLevel = Arbitraries.strings()
+            .withChars("azAZ0-".toCharArray())
+            .ofMaxLength(4);
+        return Combinators.combine(part, part, topLevel)
+            .as((local, domain, tld) -> local + "@" + domain + "." + tld);
+    }
+
+    private static Set<String> messages(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + ":" + violation.getMessage())
+            .collect(Collectors.toSet());
+    }
+
+    private record LegacyCreateUserRequest(
+        @NotBlank(message = "이메일은 필수입니다")
+        @jakarta.validation.constraints.Pattern(
+            regexp = "^[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$",
+            message = "올바른 이메일 형식이 아닙니다"
+        )
+        @Size(max = 100, message = "이메일은 100자 이하여야 합니다")
+        String email,
+
+        @NotBlank(message = "비밀번호는 필수입니다")
+        @Size(min = 8, max = 20, message = "비밀번호는 8~20자여야 합니다")
+        @jakarta.validation.constraints.Pattern(
+            regexp = "^(?=.*[A-Za-z])(?=.*\\d)(?=.*[@$!%*#?&]).+$",
+            message = "비밀번호는 영문, 숫자, 특수문자를 포함해야 합니다"
+        )
+        String password
+    ) {
+    }
+}